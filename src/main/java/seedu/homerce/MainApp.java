@@ -1,9 +1,20 @@
 package seedu.homerce;
 
+import static seedu.homerce.storage.binary.BinaryFile.getBinaryFilePath;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -31,18 +42,31 @@ import seedu.homerce.model.manager.ReadOnlyServiceManager;
 import seedu.homerce.model.manager.RevenueTracker;
 import seedu.homerce.model.manager.ServiceManager;
 import seedu.homerce.model.util.SampleDataUtil;
+import seedu.homerce.storage.AutoSaver;
+import seedu.homerce.storage.DataFileBackup;
 import seedu.homerce.storage.JsonUserPrefsStorage;
 import seedu.homerce.storage.Storage;
+import seedu.homerce.storage.StorageConverter;
 import seedu.homerce.storage.StorageManager;
 import seedu.homerce.storage.UserPrefsStorage;
 import seedu.homerce.storage.appointment.AppointmentStorage;
+import seedu.homerce.storage.appointment.BinaryAppointmentStorage;
+import seedu.homerce.storage.appointment.JournalAppointmentStorage;
 import seedu.homerce.storage.appointment.JsonAppointmentStorage;
+import seedu.homerce.storage.client.BinaryClientStorage;
 import seedu.homerce.storage.client.ClientStorage;
+import seedu.homerce.storage.client.JournalClientStorage;
 import seedu.homerce.storage.client.JsonClientStorage;
+import seedu.homerce.storage.expense.BinaryExpenseStorage;
 import seedu.homerce.storage.expense.ExpenseStorage;
+import seedu.homerce.storage.expense.JournalExpenseStorage;
 import seedu.homerce.storage.expense.JsonExpenseStorage;
+import seedu.homerce.storage.revenue.BinaryRevenueStorage;
+import seedu.homerce.storage.revenue.JournalRevenueStorage;
 import seedu.homerce.storage.revenue.JsonRevenueStorage;
 import seedu.homerce.storage.revenue.RevenueStorage;
+import seedu.homerce.storage.service.BinaryServiceStorage;
+import seedu.homerce.storage.service.JournalServiceStorage;
 import seedu.homerce.storage.service.JsonServiceStorage;
 import seedu.homerce.storage.service.ServiceStorage;
 import seedu.homerce.ui.Ui;
@@ -54,15 +78,20 @@ import seedu.homerce.ui.UiManager;
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
+    public static final String MESSAGE_UNSAVED_DATA = "Your latest changes could not be saved to these files:";
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** Number of data files that can be read at once, as the other data files depend on them. */
+    private static final int DATA_LOADER_THREAD_COUNT = 3;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
     protected HistoryManager historyManager;
+    protected AutoSaver autoSaver;
 
     @Override
     public void init() throws Exception {
@@ -74,46 +103,182 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ClientStorage clientStorage = new JsonClientStorage(userPrefs.getClientManagerFilePath());
-        ServiceStorage serviceStorage = new JsonServiceStorage(userPrefs.getServiceStorageFilePath());
-        RevenueStorage revenueStorage = new JsonRevenueStorage(userPrefs.getRevenueStorageFilePath());
-        ExpenseStorage expenseStorage = new JsonExpenseStorage(userPrefs.getExpenseStorageFilePath());
-        AppointmentStorage appointmentStorage = new JsonAppointmentStorage(userPrefs.getAppointmentStorageFilePath());
-
-        storage = new StorageManager(userPrefsStorage, clientStorage, serviceStorage, revenueStorage,
-            expenseStorage, appointmentStorage);
+        Storage jsonStorage = initStorage(userPrefsStorage, userPrefs, false);
+        Storage binaryStorage = initStorage(userPrefsStorage, userPrefs, true);
+        if (userPrefs.isBinaryStorageEnabled()) {
+            logger.info("Keeping data files in the binary format");
+            storage = binaryStorage;
+            convertNewerData(jsonStorage, binaryStorage);
+        } else {
+            storage = jsonStorage;
+            convertNewerData(binaryStorage, jsonStorage);
+        }
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
         historyManager = HistoryManager.getInstance();
+        initHistoryLimit(config);
 
-        logic = new LogicManager(model, storage, historyManager);
+        autoSaver = initAutoSaver(config, userPrefs);
+        logic = new LogicManager(model, storage, historyManager, autoSaver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code Storage} that keeps the data files in the compact binary format if {@code isBinary} is true,
+     * or as json files otherwise. The binary files are kept next to the json files named in {@code userPrefs}.
+     */
+    private Storage initStorage(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs, boolean isBinary) {
+        ClientStorage clientStorage;
+        ServiceStorage serviceStorage;
+        RevenueStorage revenueStorage;
+        ExpenseStorage expenseStorage;
+        AppointmentStorage appointmentStorage;
+        if (isBinary) {
+            clientStorage = new BinaryClientStorage(getBinaryFilePath(userPrefs.getClientManagerFilePath()));
+            serviceStorage = new BinaryServiceStorage(getBinaryFilePath(userPrefs.getServiceStorageFilePath()));
+            revenueStorage = new BinaryRevenueStorage(getBinaryFilePath(userPrefs.getRevenueStorageFilePath()));
+            expenseStorage = new BinaryExpenseStorage(getBinaryFilePath(userPrefs.getExpenseStorageFilePath()));
+            appointmentStorage =
+                new BinaryAppointmentStorage(getBinaryFilePath(userPrefs.getAppointmentStorageFilePath()));
+        } else {
+            clientStorage = new JsonClientStorage(userPrefs.getClientManagerFilePath());
+            serviceStorage = new JsonServiceStorage(userPrefs.getServiceStorageFilePath());
+            revenueStorage = new JsonRevenueStorage(userPrefs.getRevenueStorageFilePath());
+            expenseStorage = new JsonExpenseStorage(userPrefs.getExpenseStorageFilePath());
+            appointmentStorage = new JsonAppointmentStorage(userPrefs.getAppointmentStorageFilePath());
+        }
+        if (userPrefs.isJournalEnabled()) {
+            logger.info("Recording changes to " + (isBinary ? "binary" : "json") + " data files in journals");
+            clientStorage = new JournalClientStorage(clientStorage);
+            serviceStorage = new JournalServiceStorage(serviceStorage);
+            revenueStorage = new JournalRevenueStorage(revenueStorage);
+            expenseStorage = new JournalExpenseStorage(expenseStorage);
+            appointmentStorage = new JournalAppointmentStorage(appointmentStorage);
+        }
+        return new StorageManager(userPrefsStorage, clientStorage, serviceStorage, revenueStorage,
+            expenseStorage, appointmentStorage);
+    }
+
+    /**
+     * Brings the data files of {@code target} up to date with any newer data files of {@code source}, so that data
+     * saved before the storage format was changed in the user prefs is not lost.
+     */
+    private void convertNewerData(Storage source, Storage target) {
+        try {
+            int convertedFileCount = StorageConverter.convertNewerData(source, target);
+            if (convertedFileCount > 0) {
+                logger.info("Converted " + convertedFileCount + " data files to the current storage format");
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data files are not in the correct format and will not be converted");
+        } catch (IOException e) {
+            logger.warning("Problem while converting the data files to the current storage format: " + e);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s homerce and {@code userPrefs}. <br>
      * The data from the sample homerce will be used instead if {@code storage}'s homerce is not found,
-     * or an empty homerce will be used instead if errors occur when reading {@code storage}'s homerce.
+     * or an empty homerce will be used instead if errors occur when reading {@code storage}'s homerce. <br>
+     * The data files are read concurrently, except that appointments and revenues are only read once the clients and
+     * services they refer to are loaded.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        ReadOnlyClientManager clientManager = initClientManager(storage);
-        ReadOnlyServiceManager serviceManager = initServiceManager(storage);
-        ReadOnlyAppointmentManager appointmentManager = initAppointmentManager(storage);
-        ReadOnlyRevenueTracker revenueTracker = initRevenueTracker(storage);
-        ReadOnlyExpenseTracker expenseTracker = initExpenseTracker(storage);
-
-        return new ModelManager(userPrefs, clientManager, serviceManager, revenueTracker,
-                expenseTracker, appointmentManager);
+        ExecutorService loader = Executors.newFixedThreadPool(DATA_LOADER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "DataLoader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong totalPhaseNanos = new AtomicLong();
+        long start = System.nanoTime();
+        try {
+            CompletableFuture<ReadOnlyClientManager> clientManager = CompletableFuture.supplyAsync(() ->
+                timePhase("clients", totalPhaseNanos, () -> initClientManager(storage)), loader);
+            CompletableFuture<ReadOnlyServiceManager> serviceManager = CompletableFuture.supplyAsync(() ->
+                timePhase("services", totalPhaseNanos, () -> initServiceManager(storage)), loader);
+            CompletableFuture<ReadOnlyExpenseTracker> expenseTracker = CompletableFuture.supplyAsync(() ->
+                timePhase("expenses", totalPhaseNanos, () -> initExpenseTracker(storage)), loader);
+            CompletableFuture<ReadOnlyAppointmentManager> appointmentManager =
+                clientManager.thenCombineAsync(serviceManager, (clients, services) ->
+                    timePhase("appointments", totalPhaseNanos, () ->
+                        initAppointmentManager(storage, clients, services)), loader);
+            CompletableFuture<ReadOnlyRevenueTracker> revenueTracker = serviceManager.thenApplyAsync(services ->
+                timePhase("revenues", totalPhaseNanos, () -> initRevenueTracker(storage, services)), loader);
+
+            Model model = new ModelManager(userPrefs, join(clientManager), join(serviceManager),
+                join(revenueTracker), join(expenseTracker), join(appointmentManager));
+            logger.info(String.format("Loaded all data files in %d ms, %d ms if loaded one after another",
+                toMillis(System.nanoTime() - start), toMillis(totalPhaseNanos.get())));
+            return model;
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    /**
+     * Loads one data file with {@code phase}, logging and adding to {@code totalPhaseNanos} the time it took.
+     */
+    private static <T> T timePhase(String name, AtomicLong totalPhaseNanos, Supplier<T> phase) {
+        long start = System.nanoTime();
+        T result = phase.get();
+        long phaseNanos = System.nanoTime() - start;
+        totalPhaseNanos.addAndGet(phaseNanos);
+        logger.info(String.format("Loaded %s in %d ms", name, toMillis(phaseNanos)));
+        return result;
+    }
+
+    /**
+     * Waits for {@code future} to complete, rethrowing any unchecked exception it failed with as is.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    private void initHistoryLimit(Config config) {
+        if (config.getUndoHistoryLimit() > 0) {
+            historyManager.setHistoryLimit(config.getUndoHistoryLimit());
+        } else {
+            logger.warning("Undo history limit in config file is not positive. "
+                + "Using default limit of " + HistoryManager.DEFAULT_HISTORY_LIMIT);
+        }
+    }
+
+    /**
+     * Returns an {@code AutoSaver} that saves data in the background, or null if data should be saved after every
+     * command. Journals record the changes made to the data as they happen, so they are always saved after every
+     * command.
+     */
+    private AutoSaver initAutoSaver(Config config, ReadOnlyUserPrefs userPrefs) {
+        if (config.getMaxSaveStalenessMillis() <= 0 || userPrefs.isJournalEnabled()) {
+            return null;
+        }
+        logger.info("Saving data in the background at most " + config.getMaxSaveStalenessMillis()
+            + "ms after it changes");
+        return new AutoSaver(config.getMaxSaveStalenessMillis());
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -195,9 +360,11 @@ public class MainApp extends Application {
             clientManager = clientManagerOptional.orElseGet(SampleDataUtil::getSampleClientManager);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty ServiceManager");
+            DataFileBackup.moveAside(storage.getClientManagerFilePath());
             clientManager = new ClientManager();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty ServiceManager");
+            DataFileBackup.moveAside(storage.getClientManagerFilePath());
             clientManager = new ClientManager();
         }
         return clientManager;
@@ -218,9 +385,11 @@ public class MainApp extends Application {
             serviceManager = serviceManagerOptional.orElseGet(SampleDataUtil::getSampleServiceManager);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty ServiceManager");
+            DataFileBackup.moveAside(storage.getServiceManagerStorageFilePath());
             serviceManager = new ServiceManager();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty ServiceManager");
+            DataFileBackup.moveAside(storage.getServiceManagerStorageFilePath());
             serviceManager = new ServiceManager();
         }
         return serviceManager;
@@ -231,19 +400,21 @@ public class MainApp extends Application {
      * The data from the sample revenues will be used instead if {@code storage}'s revenue tracker is not found,
      * or an empty revenue tracker will be used instead if errors occur when reading {@code storage}'s revenue tracker.
      */
-    private ReadOnlyRevenueTracker initRevenueTracker(Storage storage) {
+    private ReadOnlyRevenueTracker initRevenueTracker(Storage storage, ReadOnlyServiceManager serviceManager) {
         ReadOnlyRevenueTracker revenueTracker;
         try {
-            Optional<ReadOnlyRevenueTracker> revenueTrackerOptional = storage.readRevenueTracker();
+            Optional<ReadOnlyRevenueTracker> revenueTrackerOptional = storage.readRevenueTracker(serviceManager);
             if (!revenueTrackerOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample RevenueTracker");
             }
             revenueTracker = revenueTrackerOptional.orElseGet(SampleDataUtil::getSampleRevenueTracker);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty RevenueTracker");
+            DataFileBackup.moveAside(storage.getRevenueTrackerStorageFilePath());
             revenueTracker = new RevenueTracker();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty RevenueTracker");
+            DataFileBackup.moveAside(storage.getRevenueTrackerStorageFilePath());
             revenueTracker = new RevenueTracker();
         }
         return revenueTracker;
@@ -265,9 +436,11 @@ public class MainApp extends Application {
             storage.saveExpenseTracker(expenseTracker);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty ExpenseTracker");
+            DataFileBackup.moveAside(storage.getExpenseTrackerStorageFilePath());
             expenseTracker = new ExpenseTracker();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty ExpenseTracker");
+            DataFileBackup.moveAside(storage.getExpenseTrackerStorageFilePath());
             expenseTracker = new ExpenseTracker();
         }
         return expenseTracker;
@@ -280,19 +453,23 @@ public class MainApp extends Application {
      * or an empty appointment manager will be used instead if errors occur when reading {@code storage}'s
      * appointment manager.
      */
-    private ReadOnlyAppointmentManager initAppointmentManager(Storage storage) {
+    private ReadOnlyAppointmentManager initAppointmentManager(Storage storage, ReadOnlyClientManager clientManager,
+            ReadOnlyServiceManager serviceManager) {
         ReadOnlyAppointmentManager appointmentManager;
         try {
-            Optional<ReadOnlyAppointmentManager> appointmentManagerOptional = storage.readAppointmentManager();
+            Optional<ReadOnlyAppointmentManager> appointmentManagerOptional =
+                storage.readAppointmentManager(clientManager, serviceManager);
             if (!appointmentManagerOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AppointmentManager");
             }
             appointmentManager = appointmentManagerOptional.orElseGet(SampleDataUtil::getSampleAppointmentManager);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AppointmentManager");
+            DataFileBackup.moveAside(storage.getAppointmentManagerStorageFilePath());
             appointmentManager = new AppointmentManager();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AppointmentManager");
+            DataFileBackup.moveAside(storage.getAppointmentManagerStorageFilePath());
             appointmentManager = new AppointmentManager();
         }
         return appointmentManager;
@@ -307,6 +484,14 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Homerce ] =============================");
+        if (autoSaver != null) {
+            Set<Path> unsavedFilePaths = autoSaver.stop();
+            if (!unsavedFilePaths.isEmpty()) {
+                logger.severe("Exiting without saving " + unsavedFilePaths);
+                ui.showErrorDialogAndWait("Unsaved data", MESSAGE_UNSAVED_DATA, unsavedFilePaths.stream()
+                    .map(Path::toString).collect(Collectors.joining("\n")));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
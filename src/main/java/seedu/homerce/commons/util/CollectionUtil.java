@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -32,4 +34,59 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns true if {@code items} are in the order given by {@code comparator}.
+     */
+    public static <T> boolean isSorted(List<T> items, Comparator<? super T> comparator) {
+        for (int i = 1; i < items.size(); i++) {
+            if (comparator.compare(items.get(i - 1), items.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Inserts {@code item} into {@code sortedItems}, which are sorted by {@code comparator}, after the items that are
+     * equal to it, as a stable sort after adding it to the end would.
+     * The position is found with a binary search, so {@code sortedItems} only changes by the one insertion.
+     */
+    public static <T> void addSorted(List<T> sortedItems, T item, Comparator<? super T> comparator) {
+        sortedItems.add(getSortedIndex(sortedItems, item, comparator), item);
+    }
+
+    /**
+     * Replaces the item at {@code index} of {@code sortedItems}, which are sorted by {@code comparator}, with
+     * {@code item}. The item is replaced in place if it still fits between its neighbours, and is otherwise removed
+     * and inserted again where it belongs.
+     */
+    public static <T> void setSorted(List<T> sortedItems, int index, T item, Comparator<? super T> comparator) {
+        boolean fitsAfterPrevious = index == 0 || comparator.compare(sortedItems.get(index - 1), item) <= 0;
+        boolean fitsBeforeNext = index == sortedItems.size() - 1
+                || comparator.compare(item, sortedItems.get(index + 1)) <= 0;
+        if (fitsAfterPrevious && fitsBeforeNext) {
+            sortedItems.set(index, item);
+            return;
+        }
+        sortedItems.remove(index);
+        addSorted(sortedItems, item, comparator);
+    }
+
+    /**
+     * Returns the index just past the last item in {@code sortedItems} that is not greater than {@code item}.
+     */
+    private static <T> int getSortedIndex(List<T> sortedItems, T item, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = sortedItems.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(sortedItems.get(middle), item) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
 }
@@ -1,10 +1,13 @@
 package seedu.homerce.commons.util;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 /**
  * Writes and reads files
@@ -80,4 +83,13 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends the given lines to the end of a file.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void appendLinesToFile(Path file, List<String> lines) throws IOException {
+        createParentDirsOfFile(file);
+        Files.write(file, lines, Charset.forName(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
 }
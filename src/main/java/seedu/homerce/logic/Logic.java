@@ -1,6 +1,7 @@
 package seedu.homerce.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.homerce.commons.core.GuiSettings;
@@ -8,6 +9,7 @@ import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.logic.parser.exceptions.ParseException;
 import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.WeekOverview;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.expense.Expense;
 import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
@@ -30,6 +32,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given a message for the user when data fails to be saved in the background.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the ClientManager.
      *
@@ -55,8 +62,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of appointments */
     ObservableList<Appointment> getFilteredAppointmentList();
 
-    /** Returns an unmodifiable view of the filtered list of appointments for a particular week */
-    ObservableList<Appointment> getFilteredSchedule();
+    /** Returns the overview of the appointments in the week currently shown in the schedule */
+    WeekOverview getCurrentWeekOverview();
+
     /**
      * Returns an unmodifiable view of the filtered list of revenues
      */
@@ -72,6 +80,11 @@ public interface Logic {
      */
     GuiSettings getGuiSettings();
 
+    /**
+     * Returns true if the schedule should be drawn onto a canvas, as set in the user prefs.
+     */
+    boolean isCanvasScheduleEnabled();
+
     /**
      * Set the user prefs' GUI settings.
      */
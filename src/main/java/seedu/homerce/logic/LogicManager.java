@@ -1,7 +1,13 @@
 package seedu.homerce.logic;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,13 +20,18 @@ import seedu.homerce.logic.parser.HomerceParser;
 import seedu.homerce.logic.parser.exceptions.ParseException;
 import seedu.homerce.model.Model;
 import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.WeekOverview;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.expense.Expense;
 import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
 import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.model.manager.ReadOnlyExpenseTracker;
+import seedu.homerce.model.manager.ReadOnlyRevenueTracker;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
 import seedu.homerce.model.revenue.Revenue;
 import seedu.homerce.model.service.Service;
+import seedu.homerce.storage.AutoSaver;
 import seedu.homerce.storage.Storage;
 
 /**
@@ -35,14 +46,31 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final HomerceParser homerceParser;
     private HistoryManager historyManager;
+    private final AutoSaver autoSaver;
+    private final Map<Object, Long> savedVersions = new IdentityHashMap<>();
+    /** Size of each data file when it was last written, which is updated from the background writer too. */
+    private final Map<Path, Long> savedFileSizes = new ConcurrentHashMap<>();
+    private int savedFileCount;
+    private long skippedSaveBytes;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Data is saved to {@code storage} after every command, before the command returns.
      */
     public LogicManager(Model model, Storage storage, HistoryManager historyManager) {
+        this(model, storage, historyManager, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Data is saved to {@code storage} in the background by {@code autoSaver}, or after every command if
+     * {@code autoSaver} is null.
+     */
+    public LogicManager(Model model, Storage storage, HistoryManager historyManager, AutoSaver autoSaver) {
         this.model = model;
         this.storage = storage;
         this.historyManager = historyManager;
+        this.autoSaver = autoSaver;
         homerceParser = new HomerceParser();
     }
 
@@ -54,16 +82,34 @@ public class LogicManager implements Logic {
         Command command = homerceParser.parseCommand(commandText);
 
         // Model has not been updated by this point
-        historyManager.addToHistory(model, command);
+        historyManager.addToHistory(command);
 
         commandResult = command.execute(model, historyManager);
 
         try {
-            storage.saveClientManager(model.getClientManager());
-            storage.saveServiceManager(model.getServiceManager());
-            storage.saveRevenueTracker(model.getRevenueTracker());
-            storage.saveExpenseTracker(model.getExpenseTracker());
-            storage.saveAppointmentManager(model.getAppointmentManager());
+            savedFileCount = 0;
+            long skippedBefore = skippedSaveBytes;
+            ReadOnlyClientManager clientManager = model.getClientManager();
+            saveIfChanged(clientManager, clientManager.getVersion(), ReadOnlyClientManager::snapshot,
+                storage.getClientManagerFilePath(), storage::saveClientManager);
+            ReadOnlyServiceManager serviceManager = model.getServiceManager();
+            saveIfChanged(serviceManager, serviceManager.getVersion(), ReadOnlyServiceManager::snapshot,
+                storage.getServiceManagerStorageFilePath(), storage::saveServiceManager);
+            ReadOnlyRevenueTracker revenueTracker = model.getRevenueTracker();
+            saveIfChanged(revenueTracker, revenueTracker.getVersion(), ReadOnlyRevenueTracker::snapshot,
+                storage.getRevenueTrackerStorageFilePath(), storage::saveRevenueTracker);
+            ReadOnlyExpenseTracker expenseTracker = model.getExpenseTracker();
+            saveIfChanged(expenseTracker, expenseTracker.getVersion(), ReadOnlyExpenseTracker::snapshot,
+                storage.getExpenseTrackerStorageFilePath(), storage::saveExpenseTracker);
+            // Appointments refer to unchanged clients by phone, so they are saved again whenever the clients they
+            // may refer to change.
+            ReadOnlyClientManager clientReferences = clientManager.snapshot();
+            ReadOnlyAppointmentManager appointmentManager = model.getAppointmentManager();
+            saveIfChanged(appointmentManager, appointmentManager.getVersion() + clientManager.getVersion(),
+                ReadOnlyAppointmentManager::snapshot, storage.getAppointmentManagerStorageFilePath(), manager ->
+                    storage.saveAppointmentManager(manager, clientReferences));
+            logger.fine((autoSaver == null ? "Saved " : "Submitted ") + savedFileCount + " data file(s), skipped "
+                + (skippedSaveBytes - skippedBefore) + " byte(s) of unchanged data");
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -71,6 +117,63 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves {@code manager} with {@code saver} only if its version differs from the version last saved.
+     * A manager that has never been saved is always saved. When saving in the background, an immutable snapshot of
+     * {@code manager} taken with {@code snapshotter} is handed to the {@code AutoSaver} instead.
+     * An unchanged manager is skipped without touching its file, using the size recorded when it was last written.
+     */
+    private <T> void saveIfChanged(T manager, long version, UnaryOperator<T> snapshotter, Path filePath,
+                                   Saver<T> saver) throws IOException {
+        Long savedVersion = savedVersions.get(manager);
+        if (savedVersion != null && savedVersion == version) {
+            if (filePath != null) {
+                skippedSaveBytes += savedFileSizes.getOrDefault(filePath, 0L);
+            }
+            return;
+        }
+        if (autoSaver == null) {
+            saver.save(manager);
+            recordSavedFileSize(filePath);
+        } else {
+            T snapshot = snapshotter.apply(manager);
+            autoSaver.submit(filePath, version, () -> {
+                saver.save(snapshot);
+                recordSavedFileSize(filePath);
+            });
+        }
+        savedVersions.put(manager, version);
+        savedFileCount++;
+    }
+
+    private void recordSavedFileSize(Path filePath) throws IOException {
+        if (filePath != null) {
+            savedFileSizes.put(filePath, Files.size(filePath));
+        }
+    }
+
+    /**
+     * Returns the total number of bytes that did not need to be written because the data was unchanged.
+     */
+    public long getSkippedSaveBytes() {
+        return skippedSaveBytes;
+    }
+
+    /**
+     * Represents a save of a single manager to storage.
+     */
+    @FunctionalInterface
+    private interface Saver<T> {
+        void save(T manager) throws IOException;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        if (autoSaver != null) {
+            autoSaver.setSaveErrorHandler(saveErrorHandler);
+        }
+    }
+
     @Override
     public ReadOnlyClientManager getClientManager() {
         return model.getClientManager();
@@ -96,6 +199,11 @@ public class LogicManager implements Logic {
         return model.getGuiSettings();
     }
 
+    @Override
+    public boolean isCanvasScheduleEnabled() {
+        return model.getUserPrefs().isCanvasScheduleEnabled();
+    }
+
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
@@ -122,7 +230,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Appointment> getFilteredSchedule() {
-        return model.getFilteredSchedule();
+    public WeekOverview getCurrentWeekOverview() {
+        return model.getCurrentWeekOverview();
     }
 }
@@ -48,10 +48,9 @@ public class UndoCommand extends Command {
             throw new CommandException("Already at oldest change");
         }
 
-        Model previousModel = previousHistory.getModel();
         Command previousCommand = previousHistory.getCommand();
 
-        model.replaceModel(previousModel);
+        previousHistory.undo(model);
         return new CommandResult(MESSAGE_SUCCESS, getCommandTab(previousCommand));
     }
 
@@ -78,9 +78,9 @@ public class AddAppointmentCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_TIME_AND_DURATION);
         } else {
             model.addAppointment(resultToAdd);
+            historyManager.addUndoAction(this, undoModel -> undoModel.deleteAppointment(resultToAdd));
         }
         model.updateFilteredAppointmentList(Model.PREDICATE_SHOW_ALL_APPOINTMENTS);
-        model.refreshSchedule();
         return new CommandResult(
             String.format(MESSAGE_ADD_APPOINTMENT_SUCCESS, resultToAdd),
             AppointmentListPanel.TAB_NAME
@@ -3,10 +3,12 @@ package seedu.homerce.logic.commands.appointment;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import seedu.homerce.logic.commands.Command;
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.model.Model;
+import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.ui.appointmentpanel.AppointmentListPanel;
 
@@ -21,9 +23,10 @@ public class ClearAppointmentCommand extends Command {
     @Override
     public CommandResult execute(Model model, HistoryManager historyManager) {
         requireNonNull(model);
+        List<Appointment> previousAppointments = new ArrayList<>(model.getAppointmentManager().getAppointmentList());
         model.setAppointment(new ArrayList<>());
+        historyManager.addUndoAction(this, undoModel -> undoModel.setAppointment(previousAppointments));
         model.updateFilteredAppointmentList(Model.PREDICATE_SHOW_ALL_APPOINTMENTS);
-        model.refreshSchedule();
         return new CommandResult(MESSAGE_CLEAR_APPOINTMENT_SUCCESS, AppointmentListPanel.TAB_NAME);
     }
 }
@@ -43,7 +43,7 @@ public class DeleteAppointmentCommand extends Command {
 
         Appointment appointmentToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deleteAppointment(appointmentToDelete);
-        model.refreshSchedule();
+        historyManager.addUndoAction(this, undoModel -> undoModel.addAppointment(appointmentToDelete));
         return new CommandResult(
             String.format(MESSAGE_DELETE_APPOINTMENT_SUCCESS, appointmentToDelete),
             AppointmentListPanel.TAB_NAME
@@ -11,6 +11,7 @@ import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.model.Model;
 import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.Status;
 import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.model.revenue.Revenue;
 import seedu.homerce.ui.appointmentpanel.AppointmentListPanel;
@@ -43,16 +44,22 @@ public class DoneAppointmentCommand extends Command {
         if (appointmentToMarkDone.getStatus().isDone()) {
             throw new CommandException(Messages.MESSAGE_APPOINTMENT_ALREADY_DONE);
         }
-        appointmentToMarkDone.markDone();
+        // The appointment is replaced rather than changed, as saves in progress may still refer to it.
+        Appointment doneAppointment = new Appointment(appointmentToMarkDone.getAppointmentDate(),
+                appointmentToMarkDone.getAppointmentStartTime(), appointmentToMarkDone.getService(),
+                appointmentToMarkDone.getClient(), new Status("y"));
         Revenue revenueToAdd = new Revenue(
-                appointmentToMarkDone.getService(),
-                appointmentToMarkDone.getAppointmentDate()
+                doneAppointment.getService(),
+                doneAppointment.getAppointmentDate()
         );
         model.addRevenue(revenueToAdd);
-        model.setAppointment(appointmentToMarkDone, appointmentToMarkDone);
-        model.refreshSchedule();
+        model.setAppointment(appointmentToMarkDone, doneAppointment);
+        historyManager.addUndoAction(this, undoModel -> {
+            undoModel.deleteRevenue(revenueToAdd);
+            undoModel.setAppointment(doneAppointment, appointmentToMarkDone);
+        });
         CommandResult r = new CommandResult(
-            String.format(MESSAGE_DONE_APPOINTMENT_SUCCESS, appointmentToMarkDone)
+            String.format(MESSAGE_DONE_APPOINTMENT_SUCCESS, doneAppointment)
                 + "\n" + String.format(MESSAGE_ADD_REVENUE_SUCCESS, revenueToAdd),
             AppointmentListPanel.TAB_NAME
         );
@@ -86,13 +86,11 @@ public class EditAppointmentCommand extends Command {
             // Check if appointment runs past midnight.
             throw new CommandException(MESSAGE_INVALID_TIME_AND_DURATION);
         }
-        Model modelCopy = model.deepCopy();
-        modelCopy.deleteAppointment(appointmentToEdit);
-        if (modelCopy.hasAppointment(editedAppointment)) {
+        if (model.hasAppointmentExcluding(editedAppointment, appointmentToEdit)) {
             throw new CommandException(MESSAGE_CLASHING_APPOINTMENT);
         }
         model.setAppointment(appointmentToEdit, editedAppointment);
-        model.refreshSchedule();
+        historyManager.addUndoAction(this, undoModel -> undoModel.setAppointment(editedAppointment, appointmentToEdit));
         return new CommandResult(
             String.format(MESSAGE_EDIT_APPOINTMENT_SUCCESS, editedAppointment),
             AppointmentListPanel.TAB_NAME
@@ -0,0 +1,112 @@
+package seedu.homerce.logic.commands.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.homerce.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.homerce.logic.parser.CliSyntax.PREFIX_SERVICE_SERVICE_CODE;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+
+import seedu.homerce.logic.commands.Command;
+import seedu.homerce.logic.commands.CommandResult;
+import seedu.homerce.logic.commands.exceptions.CommandException;
+import seedu.homerce.model.Model;
+import seedu.homerce.model.appointment.HalfHourSlots;
+import seedu.homerce.model.manager.HistoryManager;
+import seedu.homerce.model.service.Service;
+import seedu.homerce.model.service.ServiceCode;
+import seedu.homerce.model.util.attributes.Date;
+
+/**
+ * Lists the times at which an appointment for a service can be added on each day of a range of dates.
+ */
+public class FreeSlotsCommand extends Command {
+    public static final String COMMAND_WORD = "freeslots";
+    public static final int MAX_DAYS = 31;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the free time slots long enough for a service "
+        + "on each day from the start date to the end date (the start date only if no end date is given).\n"
+        + "Parameters: "
+        + PREFIX_SERVICE_SERVICE_CODE + "SERVICE_CODE "
+        + PREFIX_DATE + "START_DATE "
+        + "[" + PREFIX_DATE + "END_DATE]\n"
+        + "Example: " + COMMAND_WORD + " "
+        + PREFIX_SERVICE_SERVICE_CODE + "SC001 "
+        + PREFIX_DATE + "28-10-2020 "
+        + PREFIX_DATE + "30-10-2020";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The end date cannot be before the start date, and at most "
+        + MAX_DAYS + " days can be checked at a time.";
+    public static final String MESSAGE_FREE_SLOTS = "Free slots for %1$s (%2$s hours):";
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free slots";
+
+    // An appointment cannot run until midnight, so the last slot of a day can never be booked.
+    private static final long LAST_SLOT = 1L << (HalfHourSlots.SLOTS_PER_DAY - 1);
+    private static final DateTimeFormatter FORMAT_DATE = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    private static final DateTimeFormatter FORMAT_TIME = DateTimeFormatter.ofPattern("h:mm a");
+
+    private final ServiceCode serviceCode;
+    private final Date startDate;
+    private final Date endDate;
+
+    /**
+     * Creates a FreeSlotsCommand to list the free slots for the service with {@code serviceCode} from
+     * {@code startDate} to {@code endDate}.
+     */
+    public FreeSlotsCommand(ServiceCode serviceCode, Date startDate, Date endDate) {
+        requireAllNonNull(serviceCode, startDate, endDate);
+        this.serviceCode = serviceCode;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, HistoryManager historyManager) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasService(serviceCode)) {
+            throw new CommandException(AddAppointmentCommand.MESSAGE_INVALID_SERVICE_CODE);
+        }
+        Service service = model.getServiceByServiceCode(serviceCode);
+        int slotCount = HalfHourSlots.getSlotCount(service.getDuration());
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_FREE_SLOTS,
+            service.getTitle(), service.getDuration()));
+        LocalDate lastDay = endDate.getLocalDate();
+        for (LocalDate day = startDate.getLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            long occupiedSlots = model.getOccupiedSlots(day) | LAST_SLOT;
+            builder.append("\n")
+                .append(day.format(FORMAT_DATE))
+                .append(": ")
+                .append(formatWindows(HalfHourSlots.getFreeWindows(occupiedSlots, slotCount)));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    private static String formatWindows(List<int[]> windows) {
+        if (windows.isEmpty()) {
+            return MESSAGE_NO_FREE_SLOTS;
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int[] window : windows) {
+            joiner.add(formatTime(HalfHourSlots.getStartTime(window[0])) + " - "
+                + formatTime(HalfHourSlots.getStartTime(window[1])));
+        }
+        return joiner.toString();
+    }
+
+    private static String formatTime(LocalTime time) {
+        return time.format(FORMAT_TIME);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof FreeSlotsCommand // instanceof handles nulls
+            && serviceCode.equals(((FreeSlotsCommand) other).serviceCode)
+            && startDate.equals(((FreeSlotsCommand) other).startDate)
+            && endDate.equals(((FreeSlotsCommand) other).endDate));
+    }
+}
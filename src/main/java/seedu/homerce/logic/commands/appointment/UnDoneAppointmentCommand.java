@@ -11,6 +11,7 @@ import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.model.Model;
 import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.Status;
 import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.model.revenue.Revenue;
 import seedu.homerce.ui.appointmentpanel.AppointmentListPanel;
@@ -45,22 +46,31 @@ public class UnDoneAppointmentCommand extends Command {
         if (!appointmentToMarkUnDone.getStatus().isDone()) {
             throw new CommandException(Messages.MESSAGE_APPOINTMENT_ALREADY_UNDONE);
         }
-        appointmentToMarkUnDone.markUnDone();
+        // The appointment is replaced rather than changed, as saves in progress may still refer to it.
+        Appointment unDoneAppointment = new Appointment(appointmentToMarkUnDone.getAppointmentDate(),
+            appointmentToMarkUnDone.getAppointmentStartTime(), appointmentToMarkUnDone.getService(),
+            appointmentToMarkUnDone.getClient(), new Status("n"));
         Revenue revenueToRemove = new Revenue(
-            appointmentToMarkUnDone.getService(),
-            appointmentToMarkUnDone.getAppointmentDate()
+            unDoneAppointment.getService(),
+            unDoneAppointment.getAppointmentDate()
         );
         String deletionOfRevenueResult;
-        if (model.getRevenueTracker().getRevenueList().contains(revenueToRemove)) {
+        boolean isRevenueDeleted = model.getRevenueTracker().getRevenueList().contains(revenueToRemove);
+        if (isRevenueDeleted) {
             model.deleteRevenue(revenueToRemove);
             deletionOfRevenueResult = String.format(MESSAGE_DELETE_REVENUE_SUCCESS, revenueToRemove);
         } else {
             deletionOfRevenueResult = MESSAGE_FAILED_TO_DELETE_REVENUE;
         }
-        model.refreshSchedule();
-        model.setAppointment(appointmentToMarkUnDone, appointmentToMarkUnDone);
+        model.setAppointment(appointmentToMarkUnDone, unDoneAppointment);
+        historyManager.addUndoAction(this, undoModel -> {
+            if (isRevenueDeleted) {
+                undoModel.addRevenue(revenueToRemove);
+            }
+            undoModel.setAppointment(unDoneAppointment, appointmentToMarkUnDone);
+        });
         return new CommandResult(
-            String.format(MESSAGE_UNDONE_APPOINTMENT_SUCCESS, appointmentToMarkUnDone)
+            String.format(MESSAGE_UNDONE_APPOINTMENT_SUCCESS, unDoneAppointment)
             + "\n" + deletionOfRevenueResult,
             AppointmentListPanel.TAB_NAME
         );
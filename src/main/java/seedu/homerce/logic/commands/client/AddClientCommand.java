@@ -56,6 +56,7 @@ public class AddClientCommand extends Command {
         }
 
         model.addClient(toAdd);
+        historyManager.addUndoAction(this, undoModel -> undoModel.deleteClient(toAdd));
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd), ClientListPanel.TAB_NAME);
     }
 
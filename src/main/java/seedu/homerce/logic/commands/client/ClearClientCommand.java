@@ -8,7 +8,6 @@ import seedu.homerce.logic.commands.Command;
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.model.Model;
-import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.manager.ClientManager;
 import seedu.homerce.model.manager.HistoryManager;
@@ -28,17 +27,18 @@ public class ClearClientCommand extends Command {
         requireNonNull(model);
 
         List<Client> allClients = model.getClientManager().getClientList();
-        List<Appointment> allAppointments = model.getAppointmentManager().getAppointmentList();
 
         boolean isAnyClientScheduled = allClients.stream()
-                .anyMatch(client -> !DeleteClientCommand.isValidDeletion(client, allAppointments));
+                .anyMatch(client -> !DeleteClientCommand.isValidDeletion(client, model));
 
         if (isAnyClientScheduled) {
             throw new CommandException("Cannot clear clients that are already scheduled in upcoming appointments."
             + "\n Please remove these appointments before clearing your clients.");
         }
 
+        ClientManager previousClients = new ClientManager(model.getClientManager());
         model.setClientManager(new ClientManager());
+        historyManager.addUndoAction(this, undoModel -> undoModel.setClientManager(previousClients));
         return new CommandResult(MESSAGE_SUCCESS, ClientListPanel.TAB_NAME);
     }
 }
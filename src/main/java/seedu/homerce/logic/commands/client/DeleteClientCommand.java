@@ -11,7 +11,6 @@ import seedu.homerce.logic.commands.Command;
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.model.Model;
-import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.ui.clientpanel.ClientListPanel;
@@ -45,14 +44,14 @@ public class DeleteClientCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
         }
 
-        List<Appointment> appointments = model.getAppointmentManager().getAppointmentList();
         Client clientToDelete = lastShownList.get(targetIndex.getZeroBased());
 
-        if (!isValidDeletion(clientToDelete, appointments)) { // If client exists in appointment today or in future
+        if (!isValidDeletion(clientToDelete, model)) { // If client exists in appointment today or in future
             throw new CommandException(Messages.MESSAGE_CLIENT_INVALID_DELETION);
         }
 
         model.deleteClient(clientToDelete);
+        historyManager.addUndoAction(this, undoModel -> undoModel.addClient(clientToDelete));
         return new CommandResult(String.format(MESSAGE_DELETE_CLIENT_SUCCESS, clientToDelete),
                 ClientListPanel.TAB_NAME);
     }
@@ -68,22 +67,7 @@ public class DeleteClientCommand extends Command {
      * Checks if the client that is about to be deleted exists in Homerce's future appointments.
      * Deletion will be prevented if the client exists in Homerce's appointments dated today or in the future.
      */
-    public static boolean isValidDeletion(Client clientToDelete, List<Appointment> appointments) {
-        if (appointments == null) {
-            return true;
-        }
-        return appointments.stream().noneMatch((appointment) -> checkValidity(appointment, clientToDelete));
-    }
-
-    /**
-     * Performs check for validity of deletion.
-     */
-    private static boolean checkValidity(Appointment appointment, Client clientToDelete) {
-        LocalDate today = LocalDate.now();
-        LocalDate appointmentDate = appointment.getAppointmentDate().getLocalDate();
-        Client appointmentClient = appointment.getClient();
-        return (appointmentDate.isAfter(today) || appointmentDate.isEqual(today))
-                && appointmentClient.equals(clientToDelete);
-
+    public static boolean isValidDeletion(Client clientToDelete, Model model) {
+        return !model.hasAppointmentOnOrAfter(clientToDelete, LocalDate.now());
     }
 }
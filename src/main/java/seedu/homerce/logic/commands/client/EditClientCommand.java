@@ -84,6 +84,7 @@ public class EditClientCommand extends Command {
         }
 
         model.setClient(clientToEdit, editedClient);
+        historyManager.addUndoAction(this, undoModel -> undoModel.setClient(editedClient, clientToEdit));
         return new CommandResult(String.format(MESSAGE_EDIT_CLIENT_SUCCESS, editedClient), ClientListPanel.TAB_NAME);
     }
 
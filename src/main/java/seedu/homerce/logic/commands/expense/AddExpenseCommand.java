@@ -53,6 +53,7 @@ public class AddExpenseCommand extends Command {
         requireNonNull(historyManager);
 
         model.addExpense(toAdd);
+        historyManager.addUndoAction(this, undoModel -> undoModel.deleteExpense(toAdd));
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd), ExpenseListPanel.TAB_NAME);
     }
 }
@@ -21,7 +21,9 @@ public class ClearExpenseCommand extends Command {
     @Override
     public CommandResult execute(Model model, HistoryManager historyManager) {
         requireNonNull(model);
+        ExpenseTracker previousExpenses = new ExpenseTracker(model.getExpenseTracker());
         model.setExpenseTracker(new ExpenseTracker());
+        historyManager.addUndoAction(this, undoModel -> undoModel.setExpenseTracker(previousExpenses));
         return new CommandResult(MESSAGE_SUCCESS, ExpenseListPanel.TAB_NAME);
     }
 }
@@ -45,6 +45,7 @@ public class DeleteExpenseCommand extends Command {
 
         Expense expenseToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deleteExpense(expenseToDelete);
+        historyManager.addUndoAction(this, undoModel -> undoModel.addExpense(expenseToDelete));
         return new CommandResult(
             String.format(MESSAGE_DELETE_EXPENSE_SUCCESS, expenseToDelete),
             ExpenseListPanel.TAB_NAME
@@ -80,6 +80,7 @@ public class EditExpenseCommand extends Command {
             throw new CommandException(MESSAGE_NOT_EDITED);
         }
         model.setExpense(expenseToEdit, editedExpense);
+        historyManager.addUndoAction(this, undoModel -> undoModel.setExpense(editedExpense, expenseToEdit));
         return new CommandResult(
             String.format(MESSAGE_EDIT_EXPENSE_SUCCESS, editedExpense),
             ExpenseListPanel.TAB_NAME
@@ -2,9 +2,13 @@ package seedu.homerce.logic.commands.expense;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.homerce.logic.commands.Command;
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.model.Model;
+import seedu.homerce.model.expense.Expense;
 import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.ui.expensepanel.ExpenseListPanel;
 
@@ -36,7 +40,9 @@ public class SortExpenseCommand extends Command {
     public CommandResult execute(Model model, HistoryManager historyManager) {
 
         requireNonNull(model);
+        List<Expense> previousOrder = new ArrayList<>(model.getExpenseTracker().getExpenseList());
         model.getExpenseTracker().sortExpenseList(isAscending);
+        historyManager.addUndoAction(this, undoModel -> undoModel.setExpenses(previousOrder));
         return new CommandResult(MESSAGE_SUCCESS, ExpenseListPanel.TAB_NAME);
     }
 }
@@ -28,6 +28,7 @@ public class AddRevenueCommand extends Command {
     public CommandResult execute(Model model, HistoryManager historyManager) {
         requireNonNull(model);
         model.addRevenue(toAdd);
+        historyManager.addUndoAction(this, undoModel -> undoModel.deleteRevenue(toAdd));
         return new CommandResult(
             String.format(MESSAGE_ADD_REVENUE_SUCCESS, toAdd),
             RevenueListPanel.TAB_NAME
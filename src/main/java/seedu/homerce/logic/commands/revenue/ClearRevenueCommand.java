@@ -3,6 +3,7 @@ package seedu.homerce.logic.commands.revenue;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import seedu.homerce.logic.commands.Command;
 import seedu.homerce.logic.commands.CommandResult;
@@ -20,7 +21,9 @@ public class ClearRevenueCommand extends Command {
     @Override
     public CommandResult execute(Model model, HistoryManager historyManager) {
         requireNonNull(model);
+        List<Revenue> previousRevenues = new ArrayList<>(model.getRevenueTracker().getRevenueList());
         model.setRevenues(new ArrayList<Revenue>());
+        historyManager.addUndoAction(this, undoModel -> undoModel.setRevenues(previousRevenues));
         return new CommandResult(MESSAGE_SUCCESS, RevenueListPanel.TAB_NAME);
     }
 }
@@ -23,6 +23,7 @@ public class DeleteRevenueCommand extends Command {
     public CommandResult execute(Model model, HistoryManager historyManager) throws CommandException {
         requireNonNull(model);
         model.deleteRevenue(targetRevenue);
+        historyManager.addUndoAction(this, undoModel -> undoModel.addRevenue(targetRevenue));
         return new CommandResult(
             String.format(MESSAGE_DELETE_REVENUE_SUCCESS, targetRevenue),
             RevenueListPanel.TAB_NAME
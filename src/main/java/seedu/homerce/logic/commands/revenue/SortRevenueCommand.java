@@ -2,10 +2,14 @@ package seedu.homerce.logic.commands.revenue;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.homerce.logic.commands.Command;
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.model.Model;
 import seedu.homerce.model.manager.HistoryManager;
+import seedu.homerce.model.revenue.Revenue;
 import seedu.homerce.ui.revenuepanel.RevenueListPanel;
 
 /**
@@ -38,7 +42,9 @@ public class SortRevenueCommand extends Command {
     @Override
     public CommandResult execute(Model model, HistoryManager historyManager) {
         requireNonNull(model);
+        List<Revenue> previousOrder = new ArrayList<>(model.getRevenueTracker().getRevenueList());
         model.getRevenueTracker().sortRevenueList(isAscending);
+        historyManager.addUndoAction(this, undoModel -> undoModel.setRevenues(previousOrder));
         return new CommandResult(MESSAGE_SUCCESS, RevenueListPanel.TAB_NAME);
     }
 }
@@ -1,11 +1,9 @@
 package seedu.homerce.logic.commands.schedule;
 
-import java.util.Calendar;
-
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.model.Model;
-import seedu.homerce.model.appointment.predicate.AppointmentWeekPredicate;
+import seedu.homerce.model.appointment.ScheduleWeek;
 import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.model.util.attributes.Date;
 import seedu.homerce.ui.schedulepanel.SchedulePanel;
@@ -26,16 +24,12 @@ public class CustomWeekCommand extends AbstractWeekCommand {
 
     @Override
     public CommandResult execute(Model model, HistoryManager historyManager) throws CommandException {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(java.sql.Date.valueOf(dateToNavigate.getLocalDate()));
+        ScheduleWeek week = ScheduleWeek.of(dateToNavigate.getLocalDate());
         // Change state of current week in the Appointment Manager.
-        model.setAppointmentManagerCalendar(calendar);
-        // Create predicate to show only entries on the particular week.
-        AppointmentWeekPredicate predicate = new AppointmentWeekPredicate(calendar);
-        model.updateFilteredSchedule(predicate);
+        model.setAppointmentManagerWeek(week);
         return new CommandResult(
             MESSAGE_LIST_SCHEDULE_SUCCESS
-                + predicate.toString(),
+                + week.toString(),
             SchedulePanel.TAB_NAME
         );
     }
@@ -6,16 +6,12 @@ import static seedu.homerce.logic.parser.CliSyntax.PREFIX_SERVICE_DURATION;
 import static seedu.homerce.logic.parser.CliSyntax.PREFIX_SERVICE_PRICE;
 import static seedu.homerce.logic.parser.CliSyntax.PREFIX_SERVICE_TITLE;
 
-import java.util.List;
-
 import seedu.homerce.logic.commands.Command;
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.model.Model;
-import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.model.service.Service;
-import seedu.homerce.model.service.ServiceCodeGenerator;
 import seedu.homerce.model.util.uniquelist.exceptions.DuplicateItemException;
 import seedu.homerce.ui.servicepanel.ServiceListPanel;
 
@@ -52,13 +48,12 @@ public class AddServiceCommand extends Command {
     public CommandResult execute(Model model, HistoryManager historyManager) throws CommandException {
         requireNonNull(model);
 
-        List<Service> allServices = model.getServiceManager().getServiceList();
-        List<Appointment> allAppointments = model.getAppointmentManager().getAppointmentList();
-        String serviceCode = ServiceCodeGenerator.generateNewServiceCode(allServices, allAppointments);
+        String serviceCode = model.generateNewServiceCode();
         toAdd.addServiceCode(serviceCode);
 
         try {
             model.addService(toAdd);
+            historyManager.addUndoAction(this, undoModel -> undoModel.deleteService(toAdd));
             return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd), ServiceListPanel.TAB_NAME);
         } catch (DuplicateItemException e) {
             throw new CommandException(MESSAGE_SERVICE_DUPLICATE_TITLE);
@@ -38,7 +38,9 @@ public class ClearServiceCommand extends Command {
             + "\nPlease remove these appointments before clearing your services.");
         }
 
+        ServiceManager previousServices = new ServiceManager(model.getServiceManager());
         model.setServiceManager(new ServiceManager());
+        historyManager.addUndoAction(this, undoModel -> undoModel.setServiceManager(previousServices));
         return new CommandResult(MESSAGE_SUCCESS, ServiceListPanel.TAB_NAME);
     }
 }
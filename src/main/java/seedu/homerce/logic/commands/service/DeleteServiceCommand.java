@@ -53,6 +53,7 @@ public class DeleteServiceCommand extends Command {
         }
 
         model.deleteService(serviceToDelete);
+        historyManager.addUndoAction(this, undoModel -> undoModel.addService(serviceToDelete));
         return new CommandResult(
             String.format(MESSAGE_DELETE_SERVICE_SUCCESS, serviceToDelete),
             ServiceListPanel.TAB_NAME
@@ -81,6 +81,7 @@ public class EditServiceCommand extends Command {
 
         try {
             model.setService(serviceToEdit, editedService);
+            historyManager.addUndoAction(this, undoModel -> undoModel.setService(editedService, serviceToEdit));
             return new CommandResult(
                 String.format(MESSAGE_EDIT_SERVICE_SUCCESS, editedService),
                 ServiceListPanel.TAB_NAME
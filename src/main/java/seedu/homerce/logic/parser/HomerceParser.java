@@ -18,6 +18,7 @@ import seedu.homerce.logic.commands.appointment.DeleteAppointmentCommand;
 import seedu.homerce.logic.commands.appointment.DoneAppointmentCommand;
 import seedu.homerce.logic.commands.appointment.EditAppointmentCommand;
 import seedu.homerce.logic.commands.appointment.FindAppointmentCommand;
+import seedu.homerce.logic.commands.appointment.FreeSlotsCommand;
 import seedu.homerce.logic.commands.appointment.ListAppointmentCommand;
 import seedu.homerce.logic.commands.appointment.UnDoneAppointmentCommand;
 import seedu.homerce.logic.commands.client.AddClientCommand;
@@ -51,6 +52,7 @@ import seedu.homerce.logic.parser.appointment.DeleteAppointmentCommandParser;
 import seedu.homerce.logic.parser.appointment.DoneAppointmentCommandParser;
 import seedu.homerce.logic.parser.appointment.EditAppointmentCommandParser;
 import seedu.homerce.logic.parser.appointment.FindAppointmentCommandParser;
+import seedu.homerce.logic.parser.appointment.FreeSlotsCommandParser;
 import seedu.homerce.logic.parser.appointment.UnDoneAppointmentCommandParser;
 import seedu.homerce.logic.parser.client.AddClientCommandParser;
 import seedu.homerce.logic.parser.client.DeleteClientCommandParser;
@@ -203,6 +205,9 @@ public class HomerceParser {
         case EditAppointmentCommand.COMMAND_WORD:
             return new EditAppointmentCommandParser().parse(arguments);
 
+        case FreeSlotsCommand.COMMAND_WORD:
+            return new FreeSlotsCommandParser().parse(arguments);
+
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
@@ -0,0 +1,45 @@
+package seedu.homerce.logic.parser.appointment;
+
+import static seedu.homerce.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.homerce.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.homerce.logic.parser.CliSyntax.PREFIX_SERVICE_SERVICE_CODE;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import seedu.homerce.logic.commands.appointment.FreeSlotsCommand;
+import seedu.homerce.logic.parser.ArgumentMultimap;
+import seedu.homerce.logic.parser.ArgumentTokenizer;
+import seedu.homerce.logic.parser.Parser;
+import seedu.homerce.logic.parser.ParserUtil;
+import seedu.homerce.logic.parser.exceptions.ParseException;
+import seedu.homerce.model.service.ServiceCode;
+import seedu.homerce.model.util.attributes.Date;
+
+/**
+ * Parses input arguments and creates a new FreeSlotsCommand object
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+    @Override
+    public FreeSlotsCommand parse(String userInput) throws ParseException {
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(userInput, PREFIX_SERVICE_SERVICE_CODE, PREFIX_DATE);
+
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        if (argMultimap.getValue(PREFIX_SERVICE_SERVICE_CODE).isEmpty()
+                || dates.isEmpty() || dates.size() > 2
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+
+        ServiceCode serviceCode = ParserUtil.parseServiceCode(argMultimap.getValue(PREFIX_SERVICE_SERVICE_CODE).get());
+        Date startDate = ParserUtil.parseDate(dates.get(0));
+        Date endDate = dates.size() == 1 ? startDate : ParserUtil.parseDate(dates.get(1));
+
+        long days = ChronoUnit.DAYS.between(startDate.getLocalDate(), endDate.getLocalDate()) + 1;
+        if (days < 1 || days > FreeSlotsCommand.MAX_DAYS) {
+            throw new ParseException(FreeSlotsCommand.MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new FreeSlotsCommand(serviceCode, startDate, endDate);
+    }
+}
@@ -1,13 +1,15 @@
 package seedu.homerce.model;
 
 import java.nio.file.Path;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.homerce.commons.core.GuiSettings;
 import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.ScheduleWeek;
+import seedu.homerce.model.appointment.WeekOverview;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.client.Phone;
 import seedu.homerce.model.expense.Expense;
@@ -188,6 +190,11 @@ public interface Model {
      */
     boolean hasService(ServiceCode code);
 
+    /**
+     * Returns the smallest service code that is used by neither a service nor an appointment in Homerce.
+     */
+    String generateNewServiceCode();
+
     Service getServiceByServiceCode(ServiceCode serviceCode);
 
     /**
@@ -284,12 +291,28 @@ public interface Model {
      */
     boolean hasAppointment(Appointment appointment);
 
+    /**
+     * Checks if Appointment clashes with an appointment stored in Appointment Manager other than
+     * {@code excludedAppointment}, such as the appointment it is about to replace.
+     */
+    boolean hasAppointmentExcluding(Appointment appointment, Appointment excludedAppointment);
+
+    /**
+     * Returns the half hour slots occupied by appointments on {@code date}, as a bitmap of {@code HalfHourSlots}.
+     */
+    long getOccupiedSlots(LocalDate date);
+
+    /**
+     * Returns true if {@code client} has an appointment dated {@code date} or later.
+     */
+    boolean hasAppointmentOnOrAfter(Client client, LocalDate date);
+
     /** Replace appointment manager with a new one. */
     void setAppointmentManager(ReadOnlyAppointmentManager appointmentManager);
 
     // ====================== Schedule ========================
-    /** Get view of appointment schedule filtered for a week specified in the appointment manager.*/
-    ObservableList<Appointment> getFilteredSchedule();
+    /** Returns the overview of the appointments in the week specified in the appointment manager. */
+    WeekOverview getCurrentWeekOverview();
 
     /** Navigate to schedule of appointments for the subsequent week. */
     void nextSchedulePage();
@@ -297,19 +320,6 @@ public interface Model {
     /** Navigate to schedule of appointments for the previous week. */
     void previousSchedulePage();
 
-    /** Update schedule view to reflect new changes. */
-    void refreshSchedule();
-
-    /** Set predicate for the schedule view to change the week currently in view. */
-    void updateFilteredSchedule(Predicate<Appointment> predicate);
-
-    /** Change the date stored in the appointment manager. */
-    void setAppointmentManagerCalendar(Calendar calendar);
-
-    // ====================== HistoryManager ========================
-    /** Replace Model with a new one.*/
-    void replaceModel(Model previousModel);
-
-    /** Make a deep copy of this model.*/
-    Model deepCopy();
+    /** Change the week stored in the appointment manager. */
+    void setAppointmentManagerWeek(ScheduleWeek week);
 }
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -15,6 +15,8 @@ import seedu.homerce.commons.core.GuiSettings;
 import seedu.homerce.commons.core.LogsCenter;
 import seedu.homerce.commons.util.CollectionUtil;
 import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.ScheduleWeek;
+import seedu.homerce.model.appointment.WeekOverview;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.client.Phone;
 import seedu.homerce.model.expense.Expense;
@@ -31,6 +33,7 @@ import seedu.homerce.model.manager.ServiceManager;
 import seedu.homerce.model.revenue.Revenue;
 import seedu.homerce.model.service.Service;
 import seedu.homerce.model.service.ServiceCode;
+import seedu.homerce.model.service.ServiceCodeGenerator;
 
 /**
  * Represents the in-memory model of the homerce data.
@@ -51,7 +54,6 @@ public class ModelManager implements Model {
     private final FilteredList<Service> filteredServices;
     private final FilteredList<Revenue> filteredRevenue;
     private final FilteredList<Appointment> filteredAppointments;
-    private FilteredList<Appointment> filteredSchedule;
 
     /**
      * Initializes a ModelManager with the given clientManager and userPrefs.
@@ -75,7 +77,6 @@ public class ModelManager implements Model {
         filteredExpenses = new FilteredList<>(this.expenseTracker.getExpenseList());
         filteredServices = new FilteredList<>(this.serviceManager.getServiceList());
         filteredAppointments = new FilteredList<>(this.appointmentManager.getAppointmentList());
-        filteredSchedule = new FilteredList<>(this.appointmentManager.getAppointmentList());
         filteredRevenue = new FilteredList<>(this.revenueTracker.getRevenueList());
     }
 
@@ -101,7 +102,6 @@ public class ModelManager implements Model {
         filteredExpenses = new FilteredList<>(this.expenseTracker.getExpenseList());
         filteredServices = new FilteredList<>(this.serviceManager.getServiceList());
         filteredAppointments = new FilteredList<>(this.appointmentManager.getAppointmentList());
-        filteredSchedule = new FilteredList<>(this.appointmentManager.getAppointmentList());
         filteredRevenue = new FilteredList<>(this.revenueTracker.getRevenueList());
     }
 
@@ -191,7 +191,6 @@ public class ModelManager implements Model {
 
         clientManager.setClient(target, editedClient);
         appointmentManager.replaceClientsInAppointments(target, editedClient);
-        filteredSchedule = new FilteredList<>(appointmentManager.getAppointmentList());
     }
 
     @Override
@@ -295,6 +294,12 @@ public class ModelManager implements Model {
         return serviceManager.hasService(code);
     }
 
+    @Override
+    public String generateNewServiceCode() {
+        return ServiceCodeGenerator.generateFromFreeIds(serviceManager::getNextFreeServiceCodeId,
+            appointmentManager::getNextFreeServiceCodeId);
+    }
+
     @Override
     public void updateFilteredServiceList(Predicate<Service> predicate) {
         requireNonNull(predicate);
@@ -418,69 +423,53 @@ public class ModelManager implements Model {
         return appointmentManager.hasAppointment(appointment);
     }
 
-    /**
-     * Replaces serviceManager data with the data in {@code serviceManager}.
-     */
     @Override
-    public void setAppointmentManager(ReadOnlyAppointmentManager appointmentManager) {
-        requireNonNull(appointmentManager);
-        this.appointmentManager.resetData(appointmentManager);
+    public boolean hasAppointmentExcluding(Appointment appointment, Appointment excludedAppointment) {
+        requireAllNonNull(appointment, excludedAppointment);
+        return appointmentManager.hasAppointmentExcluding(appointment, excludedAppointment);
     }
 
-    //================== Schedule ==================
     @Override
-    public ObservableList<Appointment> getFilteredSchedule() {
-        filteredSchedule.setPredicate(appointmentManager.getCurrentWeekPredicate());
-        return filteredSchedule;
+    public long getOccupiedSlots(LocalDate date) {
+        requireNonNull(date);
+        return appointmentManager.getOccupiedSlots(date);
     }
 
     @Override
-    public void nextSchedulePage() {
-        appointmentManager.setCalendarNextWeek();
-        filteredSchedule.setPredicate(appointmentManager.getCurrentWeekPredicate());
-    }
-
-    @Override
-    public void previousSchedulePage() {
-        appointmentManager.setCalendarPreviousWeek();
-        filteredSchedule.setPredicate(appointmentManager.getCurrentWeekPredicate());
+    public boolean hasAppointmentOnOrAfter(Client client, LocalDate date) {
+        requireAllNonNull(client, date);
+        return appointmentManager.hasAppointmentOnOrAfter(client, date);
     }
 
+    /**
+     * Replaces serviceManager data with the data in {@code serviceManager}.
+     */
     @Override
-    public void refreshSchedule() {
-        filteredSchedule = new FilteredList<>(appointmentManager.getAppointmentListCopy());
-        filteredSchedule.setPredicate(appointmentManager.getCurrentWeekPredicate());
+    public void setAppointmentManager(ReadOnlyAppointmentManager appointmentManager) {
+        requireNonNull(appointmentManager);
+        this.appointmentManager.resetData(appointmentManager);
     }
 
+    //================== Schedule ==================
     @Override
-    public void updateFilteredSchedule(Predicate<Appointment> predicate) {
-        filteredSchedule.setPredicate(predicate);
+    public WeekOverview getCurrentWeekOverview() {
+        return appointmentManager.getCurrentWeekOverview();
     }
 
     @Override
-    public void setAppointmentManagerCalendar(Calendar calendar) {
-        appointmentManager.setCalendar(calendar);
+    public void nextSchedulePage() {
+        appointmentManager.setNextWeek();
     }
 
     @Override
-    public void replaceModel(Model previousModel) {
-        this.setClientManager(previousModel.getClientManager());
-        this.setServiceManager(previousModel.getServiceManager());
-        this.setAppointmentManager(previousModel.getAppointmentManager());
-        this.setRevenueTracker(previousModel.getRevenueTracker());
-        this.setExpenseTracker(previousModel.getExpenseTracker());
+    public void previousSchedulePage() {
+        appointmentManager.setPreviousWeek();
     }
 
     @Override
-    public Model deepCopy() {
-        ClientManager clientManagerCopy = clientManager.deepCopy();
-        ServiceManager serviceManagerCopy = serviceManager.deepCopy();
-        RevenueTracker revenueTrackerCopy = revenueTracker.deepCopy();
-        ExpenseTracker expenseTrackerCopy = expenseTracker.deepCopy();
-        AppointmentManager appointmentManagerCopy = appointmentManager.deepCopy();
-
-        return new ModelManager(clientManagerCopy, serviceManagerCopy, revenueTrackerCopy,
-                expenseTrackerCopy, appointmentManagerCopy, userPrefs);
+    public void setAppointmentManagerWeek(ScheduleWeek week) {
+        requireNonNull(week);
+        appointmentManager.setCurrentWeek(week);
     }
 
     @Override
@@ -18,4 +18,20 @@ public interface ReadOnlyUserPrefs {
     Path getServiceStorageFilePath();
 
     Path getRevenueStorageFilePath();
+
+    /**
+     * Returns true if changes to the data files should be recorded in journals instead of rewriting the files.
+     */
+    boolean isJournalEnabled();
+
+    /**
+     * Returns true if the data files should be kept in the compact binary format instead of json.
+     */
+    boolean isBinaryStorageEnabled();
+
+    /**
+     * Returns true if the schedule should be drawn onto a canvas instead of being laid out with a node for every
+     * appointment.
+     */
+    boolean isCanvasScheduleEnabled();
 }
@@ -22,6 +22,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private Path appointmentStorageFilePath = Paths.get("data", "appointments.json");
 
+    private boolean isJournalEnabled = false;
+    private boolean isBinaryStorageEnabled = false;
+    private boolean isCanvasScheduleEnabled = false;
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -45,6 +49,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setClientManagerFilePath(newUserPrefs.getClientManagerFilePath());
         setServiceStorageFilePath(newUserPrefs.getServiceStorageFilePath());
         setAppointmentStorageFilePath(newUserPrefs.getAppointmentStorageFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setBinaryStorageEnabled(newUserPrefs.isBinaryStorageEnabled());
+        setCanvasScheduleEnabled(newUserPrefs.isCanvasScheduleEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -79,6 +86,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.appointmentStorageFilePath = appointmentStorageFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
+    public boolean isBinaryStorageEnabled() {
+        return isBinaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean isBinaryStorageEnabled) {
+        this.isBinaryStorageEnabled = isBinaryStorageEnabled;
+    }
+
+    public boolean isCanvasScheduleEnabled() {
+        return isCanvasScheduleEnabled;
+    }
+
+    public void setCanvasScheduleEnabled(boolean isCanvasScheduleEnabled) {
+        this.isCanvasScheduleEnabled = isCanvasScheduleEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -93,7 +124,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && clientManagerFilePath.equals(o.clientManagerFilePath)
                 && serviceStorageFilePath.equals(o.serviceStorageFilePath)
-                && appointmentStorageFilePath.equals(o.appointmentStorageFilePath);
+                && appointmentStorageFilePath.equals(o.appointmentStorageFilePath)
+                && isJournalEnabled == o.isJournalEnabled
+                && isBinaryStorageEnabled == o.isBinaryStorageEnabled
+                && isCanvasScheduleEnabled == o.isCanvasScheduleEnabled;
     }
 
     public Path getServiceStorageFilePath() {
@@ -2,12 +2,9 @@ package seedu.homerce.model.appointment;
 
 import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
 import seedu.homerce.model.client.Client;
-import seedu.homerce.model.service.Duration;
 import seedu.homerce.model.service.Service;
 import seedu.homerce.model.util.attributes.Date;
 import seedu.homerce.model.util.uniquelist.UniqueListItem;
@@ -15,15 +12,18 @@ import seedu.homerce.model.util.uniquelist.UniqueListItem;
 /**
  * Represents an Appointment in the homerce.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The half hour slots the appointment starts in and ends at are worked out once when it is created, so that its end
+ * time and whether it clashes with another appointment are found without creating any objects.
  */
 public class Appointment implements UniqueListItem {
-    private static final DateTimeFormatter FORMAT_INPUT = DateTimeFormatter.ofPattern("HHmm");
-
     private final Date appointmentDate;
     private final TimeOfDay timeOfDay;
     private final Client client;
     private final Service service;
     private final Status status;
+    private final int startSlot;
+    private final int endSlot;
 
     /**
      * Constructor for an Appointment.
@@ -35,18 +35,22 @@ public class Appointment implements UniqueListItem {
         this.client = client;
         this.service = service;
         this.status = new Status("n");
+        this.startSlot = HalfHourSlots.getSlot(timeOfDay.getLocalTime());
+        this.endSlot = startSlot + HalfHourSlots.getSlotCount(service.getDuration());
     }
 
     /**
      * Overloaded constructor for creating an appointment with edited client information.
      */
     public Appointment(Date appointmentDate, TimeOfDay timeOfDay, Service service, Client client, Status status) {
-        requireAllNonNull(client, status);
+        requireAllNonNull(appointmentDate, timeOfDay, service, client, status);
         this.appointmentDate = appointmentDate;
         this.timeOfDay = timeOfDay;
         this.service = service;
         this.client = client;
         this.status = status;
+        this.startSlot = HalfHourSlots.getSlot(timeOfDay.getLocalTime());
+        this.endSlot = startSlot + HalfHourSlots.getSlotCount(service.getDuration());
     }
 
     public Client getClient() {
@@ -69,13 +73,26 @@ public class Appointment implements UniqueListItem {
         return status;
     }
 
+    /**
+     * Returns the time of day the appointment ends at, which wraps around to the next day if it runs past midnight.
+     */
     public TimeOfDay getAppointmentEndTime() {
-        // Duration time has intervals of 0.5h
-        double durationMinutes = service.getDuration().value * 60;
-        LocalTime endTime = timeOfDay.getLocalTime().plusMinutes((long) durationMinutes);
-        String formattedEndTime = endTime.format(FORMAT_INPUT);
+        return HalfHourSlots.getTimeOfDay(endSlot);
+    }
+
+    /**
+     * Returns the half hour slot of the day the appointment starts in.
+     */
+    public int getStartSlot() {
+        return startSlot;
+    }
 
-        return new TimeOfDay(formattedEndTime);
+    /**
+     * Returns the half hour slot the appointment ends at, which is {@link HalfHourSlots#SLOTS_PER_DAY} or more if
+     * the appointment runs until or past midnight.
+     */
+    public int getEndSlot() {
+        return endSlot;
     }
 
     public void markDone() {
@@ -130,6 +147,7 @@ public class Appointment implements UniqueListItem {
 
     /**
      * Method to prevent duplicate appointments from being added into a UniqueAppointmentList.
+     * Appointments on the same date are the same if their half hour slots overlap.
      */
     @Override
     public boolean isSame(UniqueListItem other) {
@@ -148,24 +166,11 @@ public class Appointment implements UniqueListItem {
         }
     }
 
+    /**
+     * Returns true if this appointment and {@code other} occupy a common half hour slot. This is the same rule the
+     * {@code AppointmentManager} uses to check a new appointment against the occupied slots of its day.
+     */
     private boolean isClashing(Appointment other) {
-        LocalTime startTimeOfThis = getAppointmentStartTime().getLocalTime();
-        LocalTime startTimeOfOther = other.getAppointmentStartTime().getLocalTime();
-        if (startTimeOfThis.equals(startTimeOfOther)) {
-            return true;
-        }
-        Duration durationThis = getService().getDuration();
-        Duration durationOther = other.getService().getDuration();
-        LocalTime endTimeOfThis = startTimeOfThis
-            .plusHours((long) Math.floor(durationThis.value))
-            .plusMinutes((long) ((durationThis.value % 1) * 60));
-        LocalTime endTimeOfOther = startTimeOfOther
-            .plusHours((long) Math.floor(durationOther.value))
-            .plusMinutes((long) ((durationOther.value % 1) * 60));
-        boolean result = (endTimeOfOther.isAfter(startTimeOfThis) && endTimeOfOther.isBefore(endTimeOfThis))
-                || (endTimeOfOther.isAfter(endTimeOfThis) && startTimeOfOther.isBefore(startTimeOfThis))
-                || (endTimeOfThis.isAfter(endTimeOfOther) && startTimeOfThis.isBefore(startTimeOfOther))
-                || (endTimeOfThis.isAfter(startTimeOfOther) && endTimeOfThis.isBefore(endTimeOfOther));
-        return result;
+        return (HalfHourSlots.getOccupiedSlots(this) & HalfHourSlots.getOccupiedSlots(other)) != 0;
     }
 }
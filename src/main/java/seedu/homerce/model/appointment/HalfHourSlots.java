@@ -0,0 +1,127 @@
+package seedu.homerce.model.appointment;
+
+import static seedu.homerce.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.homerce.model.service.Duration;
+
+/**
+ * Represents the half hour slots of a day as the bits of a {@code long}.
+ * Appointments start on the half hour and last a whole number of half hours, so the slots an appointment occupies
+ * are exactly the bits from the slot it starts in to the slot before the one it ends in. Bit {@code i} is the slot
+ * starting {@code i * 30} minutes after midnight.
+ */
+public class HalfHourSlots {
+
+    public static final int MINUTES_PER_SLOT = 30;
+    public static final int SLOTS_PER_DAY = 48;
+    public static final long WHOLE_DAY = (1L << SLOTS_PER_DAY) - 1;
+
+    private static final String MESSAGE_INVALID_SLOT_COUNT = "Slot count must be between 1 and " + SLOTS_PER_DAY;
+    private static final TimeOfDay[] TIMES_OF_DAY = createTimesOfDay();
+
+    /**
+     * Returns the slot that {@code time} falls in.
+     */
+    public static int getSlot(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / MINUTES_PER_SLOT;
+    }
+
+    /**
+     * Returns the number of slots that something lasting {@code duration} occupies.
+     */
+    public static int getSlotCount(Duration duration) {
+        return (int) Math.round(duration.value * 60 / MINUTES_PER_SLOT);
+    }
+
+    /**
+     * Returns the time at which {@code slot} starts. Slot {@link #SLOTS_PER_DAY} is the midnight that ends the day.
+     */
+    public static LocalTime getStartTime(int slot) {
+        return LocalTime.MIDNIGHT.plusMinutes((long) slot * MINUTES_PER_SLOT);
+    }
+
+    /**
+     * Returns the time of day at which {@code slot} starts, wrapping around to the start of the day for the slots
+     * past the end of the day. The same {@code TimeOfDay} is returned every time for each slot.
+     */
+    public static TimeOfDay getTimeOfDay(int slot) {
+        return TIMES_OF_DAY[slot % SLOTS_PER_DAY];
+    }
+
+    /**
+     * Returns the slots occupied by {@code appointment}.
+     * The slots of an appointment that runs past midnight wrap around to the start of the day, as they do when
+     * appointments are checked for clashes with {@link Appointment#isSame}.
+     */
+    public static long getOccupiedSlots(Appointment appointment) {
+        int startSlot = appointment.getStartSlot();
+        int slotCount = Math.min(appointment.getEndSlot() - startSlot, SLOTS_PER_DAY);
+        int slotsBeforeMidnight = SLOTS_PER_DAY - startSlot;
+        if (slotCount <= slotsBeforeMidnight) {
+            return getSlotRange(startSlot, slotCount);
+        }
+        return getSlotRange(startSlot, slotsBeforeMidnight) | getSlotRange(0, slotCount - slotsBeforeMidnight);
+    }
+
+    /**
+     * Returns the slots from which {@code slotCount} consecutive slots are free in a day where {@code occupiedSlots}
+     * are taken, without running past midnight.
+     */
+    public static long getFreeStartSlots(long occupiedSlots, int slotCount) {
+        checkArgument(slotCount > 0 && slotCount <= SLOTS_PER_DAY, MESSAGE_INVALID_SLOT_COUNT);
+        long freeStartSlots = ~occupiedSlots & WHOLE_DAY;
+        // Each step doubles the length of the free runs checked for, until all slotCount slots are covered.
+        int checkedLength = 1;
+        while (checkedLength < slotCount) {
+            int shift = Math.min(checkedLength, slotCount - checkedLength);
+            freeStartSlots &= freeStartSlots >>> shift;
+            checkedLength += shift;
+        }
+        return freeStartSlots;
+    }
+
+    /**
+     * Returns the free windows of a day where {@code occupiedSlots} are taken that are at least {@code slotCount}
+     * slots long, each as the slot it starts in and the slot it ends before.
+     */
+    public static List<int[]> getFreeWindows(long occupiedSlots, int slotCount) {
+        long freeStartSlots = getFreeStartSlots(occupiedSlots, slotCount);
+        // Extends each start slot to the slotCount slots it starts, which joins the starts into whole windows.
+        long windowSlots = freeStartSlots;
+        int coveredLength = 1;
+        while (coveredLength < slotCount) {
+            int shift = Math.min(coveredLength, slotCount - coveredLength);
+            windowSlots |= windowSlots << shift;
+            coveredLength += shift;
+        }
+
+        List<int[]> windows = new ArrayList<>();
+        long windowStarts = windowSlots & ~(windowSlots << 1);
+        long windowEnds = windowSlots & ~(windowSlots >>> 1);
+        while (windowStarts != 0) {
+            int startSlot = Long.numberOfTrailingZeros(windowStarts);
+            int lastSlot = Long.numberOfTrailingZeros(windowEnds);
+            windows.add(new int[] {startSlot, lastSlot + 1});
+            windowStarts &= windowStarts - 1;
+            windowEnds &= windowEnds - 1;
+        }
+        return windows;
+    }
+
+    private static TimeOfDay[] createTimesOfDay() {
+        TimeOfDay[] timesOfDay = new TimeOfDay[SLOTS_PER_DAY];
+        for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+            LocalTime startTime = getStartTime(slot);
+            timesOfDay[slot] = new TimeOfDay(String.format("%02d%02d", startTime.getHour(), startTime.getMinute()));
+        }
+        return timesOfDay;
+    }
+
+    private static long getSlotRange(int startSlot, int slotCount) {
+        return ((1L << slotCount) - 1) << startSlot;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.homerce.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Represents an immutable ISO week, from Monday to Sunday, shown in the schedule view.
+ * The week is held as the epoch days of its first and last day, so moving to the next or previous week is a single
+ * addition and checking whether a date falls in the week takes two comparisons.
+ */
+public class ScheduleWeek {
+    private static final int DAYS_PER_WEEK = 7;
+    /** The day of the week of epoch day 0, 1 January 1970, counted from Monday as 0. */
+    private static final int EPOCH_DAY_OF_WEEK = 3;
+    private static final DateTimeFormatter FORMAT_OUTPUT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
+    private final long startEpochDay;
+    private final long endEpochDay;
+
+    private ScheduleWeek(long startEpochDay) {
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = startEpochDay + DAYS_PER_WEEK - 1;
+    }
+
+    /**
+     * Returns the week containing {@code date}.
+     */
+    public static ScheduleWeek of(LocalDate date) {
+        requireNonNull(date);
+        long epochDay = date.toEpochDay();
+        return new ScheduleWeek(epochDay - Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, DAYS_PER_WEEK));
+    }
+
+    /**
+     * Returns the week containing the system date.
+     */
+    public static ScheduleWeek current() {
+        return of(LocalDate.now());
+    }
+
+    public ScheduleWeek next() {
+        return new ScheduleWeek(startEpochDay + DAYS_PER_WEEK);
+    }
+
+    public ScheduleWeek previous() {
+        return new ScheduleWeek(startEpochDay - DAYS_PER_WEEK);
+    }
+
+    /**
+     * Returns true if the day {@code epochDay} days after 1 January 1970 falls in the week.
+     */
+    public boolean contains(long epochDay) {
+        return startEpochDay <= epochDay && epochDay <= endEpochDay;
+    }
+
+    /**
+     * Returns true if {@code date} falls in the week.
+     */
+    public boolean contains(LocalDate date) {
+        return contains(date.toEpochDay());
+    }
+
+    /**
+     * Returns the Monday that starts the week.
+     */
+    public LocalDate getStartDate() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Returns the Sunday that ends the week.
+     */
+    public LocalDate getEndDate() {
+        return LocalDate.ofEpochDay(endEpochDay);
+    }
+
+    @Override
+    public String toString() {
+        return getStartDate().format(FORMAT_OUTPUT) + " to " + getEndDate().format(FORMAT_OUTPUT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ScheduleWeek // instanceof handles nulls
+            && startEpochDay == ((ScheduleWeek) other).startEpochDay); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(startEpochDay);
+    }
+}
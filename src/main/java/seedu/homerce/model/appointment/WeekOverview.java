@@ -0,0 +1,107 @@
+package seedu.homerce.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable summary of the appointments in one week, as shown in the schedule view.
+ * It holds the appointments of the week sorted by date and time, and the earliest half hour slot any of them starts
+ * in and the latest slot any of them ends in, so that the schedule view can be laid out without going through the
+ * appointments again. A week without appointments is shown from 8 AM to 11 PM.
+ */
+public class WeekOverview {
+    public static final int DEFAULT_EARLIEST_START_SLOT = HalfHourSlots.getSlot(LocalTime.of(8, 0));
+    public static final int DEFAULT_LATEST_END_SLOT = HalfHourSlots.getSlot(LocalTime.of(23, 0));
+
+    private final ScheduleWeek week;
+    private final List<Appointment> appointments;
+    private final int earliestStartSlot;
+    private final int latestEndSlot;
+
+    private WeekOverview(ScheduleWeek week, List<Appointment> appointments) {
+        this.week = week;
+        this.appointments = Collections.unmodifiableList(appointments);
+        if (appointments.isEmpty()) {
+            earliestStartSlot = DEFAULT_EARLIEST_START_SLOT;
+            latestEndSlot = DEFAULT_LATEST_END_SLOT;
+            return;
+        }
+
+        int earliest = HalfHourSlots.SLOTS_PER_DAY;
+        int latest = 0;
+        for (Appointment appointment : appointments) {
+            earliest = Math.min(earliest, appointment.getStartSlot());
+            // End times are compared as times of day, so those of appointments that run past midnight wrap around.
+            latest = Math.max(latest, appointment.getEndSlot() % HalfHourSlots.SLOTS_PER_DAY);
+        }
+        earliestStartSlot = earliest;
+        latestEndSlot = latest;
+    }
+
+    /**
+     * Creates the overview of {@code week} from {@code sortedAppointments}, which are sorted by date and time.
+     * The first appointment of the week is found with a binary search, so only the appointments of the week are
+     * visited. {@code sortedAppointments} should support fast random access.
+     */
+    public static WeekOverview of(ScheduleWeek week, List<Appointment> sortedAppointments) {
+        requireNonNull(week);
+        requireNonNull(sortedAppointments);
+        long startEpochDay = week.getStartDate().toEpochDay();
+        int low = 0;
+        int high = sortedAppointments.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedAppointments.get(middle).getAppointmentDate().toEpochDay() < startEpochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        List<Appointment> weekAppointments = new ArrayList<>();
+        for (int i = low; i < sortedAppointments.size(); i++) {
+            Appointment appointment = sortedAppointments.get(i);
+            if (!week.contains(appointment.getAppointmentDate().toEpochDay())) {
+                break;
+            }
+            weekAppointments.add(appointment);
+        }
+        return new WeekOverview(week, weekAppointments);
+    }
+
+    public ScheduleWeek getWeek() {
+        return week;
+    }
+
+    /**
+     * Returns the appointments of the week, sorted by date and time, as an unmodifiable list.
+     */
+    public List<Appointment> getAppointments() {
+        return appointments;
+    }
+
+    public int getEarliestStartSlot() {
+        return earliestStartSlot;
+    }
+
+    public int getLatestEndSlot() {
+        return latestEndSlot;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof WeekOverview // instanceof handles nulls
+            && week.equals(((WeekOverview) other).week)
+            && appointments.equals(((WeekOverview) other).appointments)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return week.hashCode();
+    }
+}
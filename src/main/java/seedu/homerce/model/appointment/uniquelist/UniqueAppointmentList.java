@@ -1,44 +1,365 @@
 package seedu.homerce.model.appointment.uniquelist;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.homerce.model.appointment.Appointment;
-import seedu.homerce.model.util.uniquelist.UniqueList;
+import seedu.homerce.model.appointment.HalfHourSlots;
+import seedu.homerce.model.client.Client;
+import seedu.homerce.model.client.Phone;
+import seedu.homerce.model.service.ServiceCodeAllocator;
+import seedu.homerce.model.util.uniquelist.SortedUniqueList;
+import seedu.homerce.model.util.uniquelist.exceptions.DuplicateItemException;
 
 /**
- * Extension of Unique list to accommodate appointments. Sorts based on date and time
- * whenever new entries are added into the list.
+ * Extension of Unique list to accommodate appointments. Keeps the appointments sorted by date and time.
+ *
+ * The appointments are also indexed by date and start time, so that checking whether an appointment clashes with
+ * the list only compares it with the appointments on the same day that overlap it, in O(log k) time for a day with
+ * k appointments. The service codes of the appointments are tracked as well, so that a new service is not given
+ * the code of a service that appointments still refer to.
+ *
+ * The appointments are also indexed by the phone number of their client and then by date, so that the appointments
+ * of a client can be found without going through the whole list, and checking whether a client has an appointment
+ * on or after a date takes O(log k) time for a client with appointments on k days.
  */
-public class UniqueAppointmentList extends UniqueList<Appointment> {
-    private final AppointmentComparator appointmentComparator = new AppointmentComparator();
+public class UniqueAppointmentList extends SortedUniqueList<Appointment> {
+    private final TreeMap<LocalDate, DaySchedule> schedulesByDate = new TreeMap<>();
+    private final ServiceCodeAllocator serviceCodes = new ServiceCodeAllocator();
+    private final Map<Phone, TreeMap<LocalDate, List<Appointment>>> appointmentsByPhone = new HashMap<>();
+
+    public UniqueAppointmentList() {
+        super(new AppointmentComparator());
+    }
 
+    /**
+     * Returns true if the list contains an appointment that clashes with the given argument.
+     */
     @Override
-    public void add(Appointment toAdd) {
-        super.add(toAdd);
-        FXCollections.sort(internalList, appointmentComparator);
+    public boolean contains(Appointment toCheck) {
+        requireNonNull(toCheck);
+        DaySchedule schedule = schedulesByDate.get(toCheck.getAppointmentDate().getLocalDate());
+        return schedule != null && schedule.hasClashWith(toCheck);
     }
 
+    /**
+     * Replaces the contents of this list with {@code items}, which must not contain clashing appointments.
+     * The items are sorted once and checked for clashes with a single sweep over each day, and the list is then
+     * replaced with one change, so that a large number of appointments can be loaded in O(n log n) time.
+     */
     @Override
-    public void setItem(Appointment target, Appointment edited) {
-        super.setItem(target, edited);
-        FXCollections.sort(internalList, appointmentComparator);
+    public void setItems(List<Appointment> items) {
+        requireAllNonNull(items);
+        List<Appointment> sortedItems = sortedCopyOf(items);
+        if (hasClashingAppointments(sortedItems)) {
+            throw new DuplicateItemException();
+        }
+        internalList.setAll(sortedItems);
+    }
+
+    public ObservableList<Appointment> asModifiableList() {
+        return internalList;
+    }
+
+    /**
+     * Returns the half hour slots occupied by the appointments on {@code date}, as a bitmap of
+     * {@link HalfHourSlots}.
+     */
+    public long getOccupiedSlots(LocalDate date) {
+        requireNonNull(date);
+        DaySchedule schedule = schedulesByDate.get(date);
+        return schedule == null ? 0 : schedule.getOccupiedSlots();
+    }
+
+    /**
+     * Returns the half hour slots occupied on {@code date} by the appointments other than {@code excluded}, as a
+     * bitmap of {@link HalfHourSlots}, without removing {@code excluded} from the list.
+     */
+    public long getOccupiedSlotsExcluding(LocalDate date, Appointment excluded) {
+        requireAllNonNull(date, excluded);
+        DaySchedule schedule = schedulesByDate.get(date);
+        if (schedule == null) {
+            return 0;
+        }
+        return excluded.getAppointmentDate().getLocalDate().equals(date)
+                ? schedule.getOccupiedSlotsExcluding(excluded)
+                : schedule.getOccupiedSlots();
+    }
+
+    /**
+     * Returns the smallest service code identification number that is at least {@code fromId} and not used by the
+     * service of any appointment in the list.
+     */
+    public int getNextFreeServiceCodeId(int fromId) {
+        return serviceCodes.getNextFreeId(fromId);
+    }
+
+    /**
+     * Returns the appointments of the client with {@code phone}, sorted by date.
+     */
+    public List<Appointment> getAppointmentsOfClient(Phone phone) {
+        requireNonNull(phone);
+        List<Appointment> clientAppointments = new ArrayList<>();
+        TreeMap<LocalDate, List<Appointment>> appointmentsByDate = appointmentsByPhone.get(phone);
+        if (appointmentsByDate != null) {
+            appointmentsByDate.values().forEach(clientAppointments::addAll);
+        }
+        return clientAppointments;
+    }
+
+    /**
+     * Returns the appointments dated from {@code startDate} to {@code endDate} inclusive, sorted by date and time.
+     * Only the days in the range are looked up, so the appointments outside it are never visited.
+     */
+    public List<Appointment> getAppointmentsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Appointment> appointmentsInRange = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return appointmentsInRange;
+        }
+        for (DaySchedule schedule : schedulesByDate.subMap(startDate, true, endDate, true).values()) {
+            schedule.addAppointmentsTo(appointmentsInRange);
+        }
+        return appointmentsInRange;
+    }
+
+    /**
+     * Returns true if {@code client} has an appointment dated {@code date} or later.
+     */
+    public boolean hasAppointmentOnOrAfter(Client client, LocalDate date) {
+        requireAllNonNull(client, date);
+        TreeMap<LocalDate, List<Appointment>> appointmentsByDate = appointmentsByPhone.get(client.getPhone());
+        if (appointmentsByDate == null) {
+            return false;
+        }
+        for (List<Appointment> appointments : appointmentsByDate.tailMap(date, true).values()) {
+            for (Appointment appointment : appointments) {
+                if (appointment.getClient().equals(client)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
-    public void setItems(UniqueList<Appointment> replacement) {
-        super.setItems(replacement);
-        FXCollections.sort(internalList, appointmentComparator);
+    protected void onItemAdded(Appointment appointment) {
+        LocalDate date = appointment.getAppointmentDate().getLocalDate();
+        schedulesByDate.computeIfAbsent(date, unused -> new DaySchedule()).add(appointment);
+        serviceCodes.reserve(appointment.getService().getServiceCode());
+        appointmentsByPhone.computeIfAbsent(appointment.getClient().getPhone(), unused -> new TreeMap<>())
+                .computeIfAbsent(date, unused -> new ArrayList<>())
+                .add(appointment);
     }
 
     @Override
-    public void setItems(List<Appointment> items) {
-        super.setItems(items);
-        FXCollections.sort(internalList, appointmentComparator);
+    protected void onItemRemoved(Appointment appointment) {
+        serviceCodes.release(appointment.getService().getServiceCode());
+        LocalDate date = appointment.getAppointmentDate().getLocalDate();
+        DaySchedule schedule = schedulesByDate.get(date);
+        if (schedule != null && schedule.remove(appointment) && schedule.isEmpty()) {
+            schedulesByDate.remove(date);
+        }
+
+        Phone phone = appointment.getClient().getPhone();
+        TreeMap<LocalDate, List<Appointment>> appointmentsByDate = appointmentsByPhone.get(phone);
+        List<Appointment> sameDayAppointments = appointmentsByDate == null ? null : appointmentsByDate.get(date);
+        if (sameDayAppointments != null && removeInstance(sameDayAppointments, appointment)
+                && sameDayAppointments.isEmpty()) {
+            appointmentsByDate.remove(date);
+            if (appointmentsByDate.isEmpty()) {
+                appointmentsByPhone.remove(phone);
+            }
+        }
     }
 
-    public ObservableList<Appointment> asModifiableList() {
-        return internalList;
+    /**
+     * Returns true if no two of {@code appointments} clash, checking them with a sweep over each day.
+     */
+    @Override
+    protected boolean itemsAreUnique(List<Appointment> appointments) {
+        return !hasClashingAppointments(sortedCopyOf(appointments));
+    }
+
+    /**
+     * Returns true if any two of {@code sortedAppointments}, which are sorted by date and start time, clash.
+     * An appointment can only clash with an earlier appointment on the same day that has not ended by the time it
+     * starts, so it is only checked against those. An appointment that runs past midnight is checked against the
+     * whole day instead, as its end time wraps around to the start of the day.
+     */
+    private static boolean hasClashingAppointments(List<Appointment> sortedAppointments) {
+        List<Appointment> sameDayAppointments = new ArrayList<>();
+        List<Appointment> ongoingAppointments = new ArrayList<>();
+        for (Appointment appointment : sortedAppointments) {
+            if (!sameDayAppointments.isEmpty()
+                    && !sameDayAppointments.get(0).getAppointmentDate().equals(appointment.getAppointmentDate())) {
+                sameDayAppointments.clear();
+                ongoingAppointments.clear();
+            }
+
+            int startSlot = appointment.getStartSlot();
+            ongoingAppointments.removeIf(earlier -> earlier.getEndSlot() <= startSlot);
+            List<Appointment> candidates = appointment.getEndSlot() > HalfHourSlots.SLOTS_PER_DAY
+                    ? sameDayAppointments
+                    : ongoingAppointments;
+            if (candidates.stream().anyMatch(appointment::isSame)) {
+                return true;
+            }
+
+            sameDayAppointments.add(appointment);
+            ongoingAppointments.add(appointment);
+        }
+        return false;
+    }
+
+    /**
+     * The appointments on one day, indexed by the half hour slot they start in.
+     * An appointment can only clash with the appointments that overlap it, which start less than the longest duration
+     * on the day before it and before it ends. Appointments that run past midnight are kept apart and are always
+     * checked, as their end time wraps around to the start of the day.
+     * The half hour slots occupied on the day are also kept as a bitmap.
+     */
+    private static class DaySchedule {
+        private final TreeMap<Integer, List<Appointment>> appointmentsByStartSlot = new TreeMap<>();
+        private final List<Appointment> pastMidnightAppointments = new ArrayList<>();
+        private int longestSlotCount = 0;
+        private int size = 0;
+        private long occupiedSlots = 0;
+
+        void add(Appointment appointment) {
+            int startSlot = appointment.getStartSlot();
+            int endSlot = appointment.getEndSlot();
+            appointmentsByStartSlot.computeIfAbsent(startSlot, slot -> new ArrayList<>()).add(appointment);
+            if (endSlot > HalfHourSlots.SLOTS_PER_DAY) {
+                pastMidnightAppointments.add(appointment);
+            }
+            longestSlotCount = Math.max(longestSlotCount, endSlot - startSlot);
+            size++;
+            occupiedSlots |= HalfHourSlots.getOccupiedSlots(appointment);
+        }
+
+        /**
+         * Removes {@code appointment} itself from the schedule, returning false if it is not in the schedule.
+         */
+        boolean remove(Appointment appointment) {
+            int startSlot = appointment.getStartSlot();
+            List<Appointment> appointments = appointmentsByStartSlot.get(startSlot);
+            if (appointments == null || !removeInstance(appointments, appointment)) {
+                return false;
+            }
+            if (appointments.isEmpty()) {
+                appointmentsByStartSlot.remove(startSlot);
+            }
+            removeInstance(pastMidnightAppointments, appointment);
+            size--;
+            // Other appointments may share some of the slots, so the bitmap is rebuilt from those left on the day.
+            occupiedSlots = getOccupiedSlotsOf(appointmentsByStartSlot.values(), null);
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long getOccupiedSlots() {
+            return occupiedSlots;
+        }
+
+        /**
+         * Adds the appointments on the day to {@code result}, in order of start time.
+         */
+        void addAppointmentsTo(List<Appointment> result) {
+            appointmentsByStartSlot.values().forEach(result::addAll);
+        }
+
+        /**
+         * Returns the half hour slots occupied on the day by the appointments other than {@code excluded}.
+         * Only the slots of {@code excluded} can become free, so only the appointments that overlap it are checked
+         * for whether they still occupy those slots.
+         */
+        long getOccupiedSlotsExcluding(Appointment excluded) {
+            int startSlot = excluded.getStartSlot();
+            int endSlot = excluded.getEndSlot();
+            List<Appointment> appointmentsInStartSlot = appointmentsByStartSlot.get(startSlot);
+            if (appointmentsInStartSlot == null || !appointmentsInStartSlot.contains(excluded)) {
+                return occupiedSlots;
+            }
+            if (endSlot > HalfHourSlots.SLOTS_PER_DAY) {
+                return getOccupiedSlotsOf(appointmentsByStartSlot.values(), excluded);
+            }
+
+            long slots = occupiedSlots & ~HalfHourSlots.getOccupiedSlots(excluded);
+            slots |= getOccupiedSlotsOf(appointmentsByStartSlot.subMap(startSlot - longestSlotCount, false,
+                    endSlot, false).values(), excluded);
+            slots |= getOccupiedSlotsOf(Collections.singletonList(pastMidnightAppointments), excluded);
+            return slots;
+        }
+
+        private static long getOccupiedSlotsOf(Collection<List<Appointment>> appointmentLists, Appointment excluded) {
+            long slots = 0;
+            for (List<Appointment> appointments : appointmentLists) {
+                for (Appointment appointment : appointments) {
+                    if (!appointment.equals(excluded)) {
+                        slots |= HalfHourSlots.getOccupiedSlots(appointment);
+                    }
+                }
+            }
+            return slots;
+        }
+
+        /**
+         * Returns true if {@code appointment} is the same as, that is clashes with, an appointment on the day.
+         */
+        boolean hasClashWith(Appointment appointment) {
+            int startSlot = appointment.getStartSlot();
+            int endSlot = appointment.getEndSlot();
+            if (endSlot > HalfHourSlots.SLOTS_PER_DAY) {
+                return hasClashWith(appointmentsByStartSlot.values(), appointment);
+            }
+            return hasClashWith(appointmentsByStartSlot.subMap(startSlot - longestSlotCount, false, endSlot, false)
+                    .values(), appointment) || hasClashWith(pastMidnightAppointments, appointment);
+        }
+
+        private static boolean hasClashWith(Collection<List<Appointment>> candidateLists, Appointment appointment) {
+            for (List<Appointment> candidates : candidateLists) {
+                if (hasClashWith(candidates, appointment)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean hasClashWith(List<Appointment> candidates, Appointment appointment) {
+            for (int i = 0; i < candidates.size(); i++) {
+                if (appointment.isSame(candidates.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * Removes {@code appointment} itself, rather than an equal appointment, from {@code appointments}.
+     */
+    private static boolean removeInstance(List<Appointment> appointments, Appointment appointment) {
+        for (int i = 0; i < appointments.size(); i++) {
+            if (appointments.get(i) == appointment) {
+                appointments.remove(i);
+                return true;
+            }
+        }
+        return false;
     }
 }
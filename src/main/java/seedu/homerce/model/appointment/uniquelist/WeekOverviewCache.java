@@ -0,0 +1,148 @@
+package seedu.homerce.model.appointment.uniquelist;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.homerce.commons.util.AppUtil.checkArgument;
+import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import javafx.collections.ListChangeListener;
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.ScheduleWeek;
+import seedu.homerce.model.appointment.WeekOverview;
+
+/**
+ * Keeps the overviews of the most recently viewed weeks of a {@code UniqueAppointmentList}, so that paging back and
+ * forth through the schedule does not work out the same weeks again.
+ *
+ * The overview of the current week is worked out from a {@code WeekSchedule} of that week, which is kept up to date
+ * as the list changes, and the overview of any other week from a lookup of the days of the week in the list. The
+ * overviews are kept in least recently used order, and the overviews of the weeks next to a viewed week can be
+ * worked out ahead of time on a background thread from a snapshot of the list. Whenever an appointment is added to
+ * or removed from the list, the overview of its week is dropped. An overview worked out in the background from a
+ * snapshot that has since been changed is thrown away rather than kept.
+ */
+public class WeekOverviewCache {
+    public static final int DEFAULT_CAPACITY = 8;
+    public static final String MESSAGE_INVALID_CAPACITY = "Capacity must be positive";
+
+    private static final Executor PREFETCHER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "WeekOverviewPrefetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final UniqueAppointmentList appointments;
+    private final WeekSchedule currentWeekSchedule;
+    private final Executor prefetcher;
+
+    // Guarded by this
+    private final Map<ScheduleWeek, WeekOverview> overviews;
+    private long version = 0;
+
+    /**
+     * Creates an empty cache of the weeks of {@code appointments} that works out the weeks it prefetches on a shared
+     * background thread.
+     */
+    public WeekOverviewCache(UniqueAppointmentList appointments) {
+        this(appointments, DEFAULT_CAPACITY, PREFETCHER);
+    }
+
+    /**
+     * Creates an empty cache that keeps at most {@code capacity} weeks of {@code appointments} and works out the
+     * weeks it prefetches with {@code prefetcher}.
+     */
+    public WeekOverviewCache(UniqueAppointmentList appointments, int capacity, Executor prefetcher) {
+        requireAllNonNull(appointments, prefetcher);
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.appointments = appointments;
+        // Created before the cache listens to the list, so that it has caught up with a change by the time the
+        // overview dropped for that change is worked out again.
+        this.currentWeekSchedule = new WeekSchedule(appointments);
+        this.prefetcher = prefetcher;
+        this.overviews = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScheduleWeek, WeekOverview> eldest) {
+                return size() > capacity;
+            }
+        };
+        appointments.asUnmodifiableObservableList().addListener((ListChangeListener<Appointment>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    change.getRemoved().forEach(this::invalidateWeekOf);
+                }
+                if (change.wasAdded()) {
+                    change.getAddedSubList().forEach(this::invalidateWeekOf);
+                }
+            }
+        });
+    }
+
+    /**
+     * Moves the current week to {@code week}.
+     */
+    public synchronized void setCurrentWeek(ScheduleWeek week) {
+        currentWeekSchedule.setWeek(week);
+    }
+
+    /**
+     * Returns the overview of {@code week}, working it out straight away if it is not in the cache.
+     */
+    public synchronized WeekOverview get(ScheduleWeek week) {
+        requireNonNull(week);
+        WeekOverview overview = overviews.get(week);
+        if (overview == null) {
+            overview = WeekOverview.of(week, week.equals(currentWeekSchedule.getWeek())
+                    ? currentWeekSchedule.asUnmodifiableObservableList()
+                    : appointments.getAppointmentsBetween(week.getStartDate(), week.getEndDate()));
+            overviews.put(week, overview);
+        }
+        return overview;
+    }
+
+    /**
+     * Works out the overviews of the weeks before and after {@code week} in the background, if they are not in the
+     * cache.
+     */
+    public void prefetchAdjacentWeeks(ScheduleWeek week) {
+        requireNonNull(week);
+        prefetch(week.previous());
+        prefetch(week.next());
+    }
+
+    /**
+     * Returns true if the overview of {@code week} is in the cache.
+     */
+    public synchronized boolean contains(ScheduleWeek week) {
+        requireNonNull(week);
+        return overviews.containsKey(week);
+    }
+
+    private void prefetch(ScheduleWeek week) {
+        List<Appointment> snapshot;
+        long snapshotVersion;
+        synchronized (this) {
+            if (overviews.containsKey(week)) {
+                return;
+            }
+            snapshot = appointments.snapshot();
+            snapshotVersion = version;
+        }
+        prefetcher.execute(() -> put(week, WeekOverview.of(week, snapshot), snapshotVersion));
+    }
+
+    private synchronized void put(ScheduleWeek week, WeekOverview overview, long snapshotVersion) {
+        if (snapshotVersion == version) {
+            overviews.putIfAbsent(week, overview);
+        }
+    }
+
+    private synchronized void invalidateWeekOf(Appointment appointment) {
+        version++;
+        overviews.remove(ScheduleWeek.of(appointment.getAppointmentDate().getLocalDate()));
+    }
+}
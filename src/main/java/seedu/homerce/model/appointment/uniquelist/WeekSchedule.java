@@ -0,0 +1,89 @@
+package seedu.homerce.model.appointment.uniquelist;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.homerce.commons.util.CollectionUtil;
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.ScheduleWeek;
+
+/**
+ * A live view of the appointments in a {@code UniqueAppointmentList} that fall within one week, sorted by date and
+ * time.
+ *
+ * The view is loaded with a range query on the date index of the list whenever the week changes, and is then kept up
+ * to date by listening to the changes to the list. Only the appointments of a change that fall within the week are
+ * added to or removed from the view, so the view never has to be rebuilt after a command.
+ */
+public class WeekSchedule {
+    private final UniqueAppointmentList appointments;
+    private final Comparator<Appointment> comparator = new AppointmentComparator();
+    private final ObservableList<Appointment> weekAppointments = FXCollections.observableArrayList();
+    private final ObservableList<Appointment> weekUnmodifiableAppointments =
+            FXCollections.unmodifiableObservableList(weekAppointments);
+    private ScheduleWeek week;
+
+    /**
+     * Creates an empty view of the appointments in {@code appointments}, which shows no week until
+     * {@link #setWeek(ScheduleWeek)} is called.
+     */
+    public WeekSchedule(UniqueAppointmentList appointments) {
+        requireNonNull(appointments);
+        this.appointments = appointments;
+        appointments.asUnmodifiableObservableList().addListener((ListChangeListener<Appointment>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    change.getRemoved().stream().filter(this::isInWeek).forEach(this::removeFromWeek);
+                }
+                if (change.wasAdded()) {
+                    change.getAddedSubList().stream().filter(this::isInWeek).forEach(appointment ->
+                            CollectionUtil.addSorted(weekAppointments, appointment, comparator));
+                }
+            }
+        });
+    }
+
+    /**
+     * Shows the appointments dated in {@code week}.
+     */
+    public void setWeek(ScheduleWeek week) {
+        requireNonNull(week);
+        if (week.equals(this.week)) {
+            return;
+        }
+        this.week = week;
+        weekAppointments.setAll(appointments.getAppointmentsBetween(week.getStartDate(), week.getEndDate()));
+    }
+
+    /**
+     * Returns the week shown, or null if no week has been set yet.
+     */
+    public ScheduleWeek getWeek() {
+        return week;
+    }
+
+    /**
+     * Returns the appointments of the week as an unmodifiable {@code ObservableList}, which stays up to date as the
+     * appointments and the week change.
+     */
+    public ObservableList<Appointment> asUnmodifiableObservableList() {
+        return weekUnmodifiableAppointments;
+    }
+
+    private boolean isInWeek(Appointment appointment) {
+        return week != null && week.contains(appointment.getAppointmentDate().toEpochDay());
+    }
+
+    private void removeFromWeek(Appointment appointment) {
+        for (int i = 0; i < weekAppointments.size(); i++) {
+            if (weekAppointments.get(i) == appointment) {
+                weekAppointments.remove(i);
+                return;
+            }
+        }
+    }
+}
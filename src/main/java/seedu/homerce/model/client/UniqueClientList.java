@@ -3,6 +3,12 @@ package seedu.homerce.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import seedu.homerce.model.client.exceptions.ClientNotFoundException;
 import seedu.homerce.model.util.uniquelist.UniqueList;
 
@@ -13,16 +19,30 @@ import seedu.homerce.model.util.uniquelist.UniqueList;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  *
+ * Since two clients are the same if they have the same phone number, the clients are also indexed by phone number so
+ * that looking up a client and checking for duplicates take O(1) time.
+ *
  * Supports a minimal set of list operations.
  */
 public class UniqueClientList extends UniqueList<Client> {
 
+    private final Map<Phone, Client> clientsByPhone = new HashMap<>();
+
+    /**
+     * Returns true if the list contains a client with the same phone number as the given argument.
+     */
+    @Override
+    public boolean contains(Client toCheck) {
+        requireNonNull(toCheck);
+        return containsPhone(toCheck.getPhone());
+    }
+
     /**
      * Returns true if the list contains a client with the provided phone number.
      */
     public boolean containsPhone(Phone toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x -> x.getPhone().equals(toCheck));
+        return clientsByPhone.containsKey(toCheck);
     }
 
     /**
@@ -30,11 +50,31 @@ public class UniqueClientList extends UniqueList<Client> {
      */
     public Client getClientByPhone(Phone phone) {
         requireAllNonNull(phone);
-        for (Client client : internalList) {
-            if (client.getPhone().equals(phone)) {
-                return client;
+        Client client = clientsByPhone.get(phone);
+        if (client == null) {
+            throw new ClientNotFoundException();
+        }
+        return client;
+    }
+
+    @Override
+    protected void onItemAdded(Client client) {
+        clientsByPhone.put(client.getPhone(), client);
+    }
+
+    @Override
+    protected void onItemRemoved(Client client) {
+        clientsByPhone.remove(client.getPhone(), client);
+    }
+
+    @Override
+    protected boolean itemsAreUnique(List<Client> clients) {
+        Set<Phone> phones = new HashSet<>();
+        for (Client client : clients) {
+            if (!phones.add(client.getPhone())) {
+                return false;
             }
         }
-        throw new ClientNotFoundException();
+        return true;
     }
 }
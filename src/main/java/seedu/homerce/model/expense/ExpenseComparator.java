@@ -5,6 +5,6 @@ import java.util.Comparator;
 public class ExpenseComparator implements Comparator<Expense> {
     @Override
     public int compare(Expense t1, Expense t2) {
-        return t1.getValue().value.compareTo(t2.getValue().value);
+        return Long.compare(t1.getValue().getCents(), t2.getValue().getCents());
     }
 }
@@ -1,18 +1,22 @@
 package seedu.homerce.model.manager;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.homerce.model.appointment.Appointment;
-import seedu.homerce.model.appointment.predicate.AppointmentWeekPredicate;
+import seedu.homerce.model.appointment.HalfHourSlots;
+import seedu.homerce.model.appointment.ScheduleWeek;
+import seedu.homerce.model.appointment.WeekOverview;
 import seedu.homerce.model.appointment.uniquelist.UniqueAppointmentList;
+import seedu.homerce.model.appointment.uniquelist.WeekOverviewCache;
 import seedu.homerce.model.client.Client;
 
 /**
@@ -22,16 +26,18 @@ import seedu.homerce.model.client.Client;
 public class AppointmentManager implements ReadOnlyAppointmentManager {
 
     private final UniqueAppointmentList appointments;
+    private final WeekOverviewCache weekOverviews;
     private final Logger logger;
-    private Calendar calendar;
+    private ScheduleWeek currentWeek;
 
     /**
      * Constructor for Appointment Manager
      */
     public AppointmentManager() {
         this.appointments = new UniqueAppointmentList();
+        this.weekOverviews = new WeekOverviewCache(appointments);
         this.logger = Logger.getLogger("Appointment Manager");
-        this.calendar = Calendar.getInstance();
+        showWeek(ScheduleWeek.current());
         logger.info("Initialized new Appointment Manager with system date.");
     }
 
@@ -40,10 +46,11 @@ public class AppointmentManager implements ReadOnlyAppointmentManager {
      */
     public AppointmentManager(ReadOnlyAppointmentManager toBeCopied) {
         this.appointments = new UniqueAppointmentList();
+        this.weekOverviews = new WeekOverviewCache(appointments);
         this.logger = Logger.getLogger("Appointment Manager");
         resetData(toBeCopied);
         logger.info("Transferred contents from old appointment manager into this new one.");
-        this.calendar = Calendar.getInstance();
+        showWeek(ScheduleWeek.current());
         logger.info("Initialized new Appointment Manager with system date.");
     }
 
@@ -61,10 +68,38 @@ public class AppointmentManager implements ReadOnlyAppointmentManager {
 
     /**
      * Returns true if a appointment with the same identity as {@code appointment} exists in the Homerce.
+     * This is the case if the two appointments share a half hour slot, which takes a single bitwise AND to check.
      */
     public boolean hasAppointment(Appointment appointment) {
         requireNonNull(appointment);
-        return appointments.contains(appointment);
+        long occupiedSlots = getOccupiedSlots(appointment.getAppointmentDate().getLocalDate());
+        return (occupiedSlots & HalfHourSlots.getOccupiedSlots(appointment)) != 0;
+    }
+
+    /**
+     * Returns true if {@code appointment} clashes with an appointment in the Homerce other than
+     * {@code excludedAppointment}, as if {@code excludedAppointment} had been removed first.
+     */
+    public boolean hasAppointmentExcluding(Appointment appointment, Appointment excludedAppointment) {
+        requireAllNonNull(appointment, excludedAppointment);
+        long occupiedSlots = appointments.getOccupiedSlotsExcluding(appointment.getAppointmentDate().getLocalDate(),
+                excludedAppointment);
+        return (occupiedSlots & HalfHourSlots.getOccupiedSlots(appointment)) != 0;
+    }
+
+    /**
+     * Returns the half hour slots occupied by appointments on {@code date}, as a bitmap of {@code HalfHourSlots}.
+     */
+    public long getOccupiedSlots(LocalDate date) {
+        return appointments.getOccupiedSlots(date);
+    }
+
+    /**
+     * Returns the smallest service code identification number that is at least {@code fromId} and not used by the
+     * service of any appointment.
+     */
+    public int getNextFreeServiceCodeId(int fromId) {
+        return appointments.getNextFreeServiceCodeId(fromId);
     }
 
     /**
@@ -96,14 +131,22 @@ public class AppointmentManager implements ReadOnlyAppointmentManager {
 
     /**
      * Updates appointment information after a client's details in the appointment get edited.
+     * Only the appointments of the client are looked up and replaced, one at a time.
      */
     public void replaceClientsInAppointments(Client target, Client editedClient) {
-        List<Appointment> editedList = appointments.stream().map(curr -> curr.getClient().isSame(target)
-                ? new Appointment(curr.getAppointmentDate(), curr.getAppointmentStartTime(), curr.getService(),
-                    editedClient, curr.getStatus())
-                : curr
-        ).collect(Collectors.toList());
-        setAppointments(editedList);
+        requireAllNonNull(target, editedClient);
+        for (Appointment curr : appointments.getAppointmentsOfClient(target.getPhone())) {
+            Appointment editedAppointment = new Appointment(curr.getAppointmentDate(), curr.getAppointmentStartTime(),
+                curr.getService(), editedClient, curr.getStatus());
+            appointments.setItem(curr, editedAppointment);
+        }
+    }
+
+    /**
+     * Returns true if {@code client} has an appointment dated {@code date} or later.
+     */
+    public boolean hasAppointmentOnOrAfter(Client client, LocalDate date) {
+        return appointments.hasAppointmentOnOrAfter(client, date);
     }
 
     /**
@@ -128,6 +171,16 @@ public class AppointmentManager implements ReadOnlyAppointmentManager {
         return appointments.asModifiableList();
     }
 
+    @Override
+    public long getVersion() {
+        return appointments.getModificationCount();
+    }
+
+    @Override
+    public ReadOnlyAppointmentManager snapshot() {
+        return new Snapshot(appointments.snapshot(), getVersion(), currentWeek);
+    }
+
     @Override
     public ObservableList<Appointment> getAppointmentListCopy() {
         UniqueAppointmentList appointmentListCopy = new UniqueAppointmentList();
@@ -149,46 +202,80 @@ public class AppointmentManager implements ReadOnlyAppointmentManager {
     }
 
     /**
-     * Creates a deep copy of all the appointments in the unique list of appointments.
-     *
-     * @return an appointment manager with a list of deep copied appointments.
+     * Returns the overview of the current week, which is kept in a cache together with the overviews of the weeks
+     * viewed recently.
      */
-    public AppointmentManager deepCopy() {
-        List<Appointment> internalListCopy = appointments.deepCopy();
-        AppointmentManager appointmentManagerCopy = new AppointmentManager();
-        appointmentManagerCopy.setAppointments(internalListCopy);
-        appointmentManagerCopy.setCalendar(calendar);
-        return appointmentManagerCopy;
-    }
-
-    //// Used for pagination
-    public Predicate<Appointment> getCurrentWeekPredicate() {
-        return new AppointmentWeekPredicate(calendar);
+    public WeekOverview getCurrentWeekOverview() {
+        return weekOverviews.get(currentWeek);
     }
 
     //// Used for schedule to have knowledge of the current week when showing the appointments
     @Override
-    public AppointmentWeekPredicate getCurrentWeek() {
-        return new AppointmentWeekPredicate(calendar);
+    public ScheduleWeek getCurrentWeek() {
+        return currentWeek;
     }
 
-    @Override
-    public Calendar getCalendar() {
-        return this.calendar;
+    public void setNextWeek() {
+        setCurrentWeek(currentWeek.next());
     }
 
-    public void setCalendarNextWeek() {
-        calendar.add(Calendar.WEEK_OF_YEAR, 1);
+    public void setPreviousWeek() {
+        setCurrentWeek(currentWeek.previous());
     }
 
-    public void setCalendarPreviousWeek() {
-        calendar.add(Calendar.WEEK_OF_YEAR, -1);
+    /**
+     * Set current week to custom week for custom schedule command, and moves the week schedule to it.
+     * The overviews of the weeks before and after it are worked out in the background, so that paging to them
+     * is instant.
+     */
+    public void setCurrentWeek(ScheduleWeek week) {
+        showWeek(week);
+        weekOverviews.prefetchAdjacentWeeks(week);
+    }
+
+    private void showWeek(ScheduleWeek week) {
+        requireNonNull(week);
+        this.currentWeek = week;
+        weekOverviews.setCurrentWeek(week);
     }
 
     /**
-     * Set calendar to custom week for custom schedule command.
+     * An immutable version of an {@code AppointmentManager}.
      */
-    public void setCalendar(Calendar calendar) {
-        this.calendar = calendar;
+    private static class Snapshot implements ReadOnlyAppointmentManager {
+        private final ObservableList<Appointment> appointments;
+        private final long version;
+        private final ScheduleWeek currentWeek;
+
+        Snapshot(List<Appointment> appointments, long version, ScheduleWeek currentWeek) {
+            this.appointments = FXCollections.unmodifiableObservableList(FXCollections.observableList(appointments));
+            this.version = version;
+            this.currentWeek = currentWeek;
+        }
+
+        @Override
+        public ObservableList<Appointment> getAppointmentList() {
+            return appointments;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public ReadOnlyAppointmentManager snapshot() {
+            return this;
+        }
+
+        @Override
+        public ObservableList<Appointment> getAppointmentListCopy() {
+            return appointments;
+        }
+
+        @Override
+        public ScheduleWeek getCurrentWeek() {
+            return currentWeek;
+        }
     }
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.client.Phone;
@@ -120,6 +121,16 @@ public class ClientManager implements ReadOnlyClientManager {
         return clients.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return clients.getModificationCount();
+    }
+
+    @Override
+    public ReadOnlyClientManager snapshot() {
+        return new Snapshot(clients.snapshot(), getVersion());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -133,15 +144,30 @@ public class ClientManager implements ReadOnlyClientManager {
     }
 
     /**
-     * Creates a deep copy of all the clients in the unique list of clients.
-     *
-     * @return a client manager with a list of deep copied clients.
+     * An immutable version of a {@code ClientManager}.
      */
-    public ClientManager deepCopy() {
-        List<Client> internalListCopy = clients.deepCopy();
-        ClientManager clientManagerCopy = new ClientManager();
-        clientManagerCopy.setClients((internalListCopy));
-        return clientManagerCopy;
+    private static class Snapshot implements ReadOnlyClientManager {
+        private final ObservableList<Client> clients;
+        private final long version;
+
+        Snapshot(List<Client> clients, long version) {
+            this.clients = FXCollections.unmodifiableObservableList(FXCollections.observableList(clients));
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Client> getClientList() {
+            return clients;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public ReadOnlyClientManager snapshot() {
+            return this;
+        }
     }
 }
-
@@ -17,6 +17,8 @@ import seedu.homerce.model.util.nonuniquelist.NonUniqueList;
 public class ExpenseTracker implements ReadOnlyExpenseTracker {
     private final NonUniqueList<Expense> expenses;
     private final ExpenseDefaultComparator expenseDefaultComparator = new ExpenseDefaultComparator();
+    // Whether the expenses are sorted by date, so that a new or edited expense can be placed without a sort.
+    private boolean isSortedByDate = true;
 
     public ExpenseTracker() {
         this.expenses = new NonUniqueList<>();
@@ -37,6 +39,7 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
      */
     public void setExpenses(List<Expense> expenses) {
         this.expenses.setItems(expenses);
+        isSortedByDate = this.expenses.isSorted(expenseDefaultComparator);
     }
 
     /**
@@ -50,21 +53,32 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
     //// expense-level operations
 
     /**
-     * Adds an expense to the homerce.
+     * Adds an expense to the homerce, keeping the expenses sorted by date.
+     * If the expenses are sorted by date, the expense is inserted at its place without sorting them again.
      */
     public void addExpense(Expense e) {
-        expenses.add(e);
-        FXCollections.sort(expenses.getInternalList(), expenseDefaultComparator);
+        if (isSortedByDate) {
+            expenses.addSorted(e, expenseDefaultComparator);
+        } else {
+            expenses.add(e);
+            expenses.sort(expenseDefaultComparator);
+            isSortedByDate = true;
+        }
     }
 
     /**
      * Replaces the given service {@code target} in the list with {@code editedExpense}.
      * {@code target} must exist in the homerce.
+     * If the expenses are sorted by date, the edited expense is moved to its place by date.
      */
     public void setExpense(Expense target, Expense editedExpense) {
         requireNonNull(editedExpense);
 
-        expenses.setItem(target, editedExpense);
+        if (isSortedByDate) {
+            expenses.setItemSorted(target, editedExpense, expenseDefaultComparator);
+        } else {
+            expenses.setItem(target, editedExpense);
+        }
     }
 
     public List<Expense> filterByMonth(Predicate<Expense> predicate) {
@@ -88,6 +102,16 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
         return expenses.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return expenses.getModificationCount();
+    }
+
+    @Override
+    public ReadOnlyExpenseTracker snapshot() {
+        return new Snapshot(expenses.snapshot(), getVersion());
+    }
+
     //// util methods
 
     @Override
@@ -110,18 +134,6 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
         return Objects.hash(expenses);
     }
 
-    /**
-     * Creates a deep copy of all the expenses in the list of expenses.
-     *
-     * @return a list of expenses.
-     */
-    public ExpenseTracker deepCopy() {
-        List<Expense> internalListCopy = expenses.deepCopy();
-        ExpenseTracker expenseManagerCopy = new ExpenseTracker();
-        expenseManagerCopy.setExpenses(internalListCopy);
-        return expenseManagerCopy;
-    }
-
     /**
      * Sorts the expense list by value.
      * @param isAscending
@@ -133,6 +145,7 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
         } else {
             expenses.sort(new ExpenseComparator().reversed());;
         }
+        isSortedByDate = false;
     }
 
     /**
@@ -140,7 +153,49 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
      */
     @Override
     public void sortDefaultExpenseList() {
-        expenses.sort(new ExpenseDefaultComparator());
+        expenses.sort(expenseDefaultComparator);
+        isSortedByDate = true;
     }
-}
 
+    /**
+     * An immutable version of an {@code ExpenseTracker}.
+     */
+    private static class Snapshot implements ReadOnlyExpenseTracker {
+        private static final String MESSAGE_IMMUTABLE_SNAPSHOT = "A snapshot cannot be sorted";
+
+        private final ObservableList<Expense> expenses;
+        private final long version;
+
+        Snapshot(List<Expense> expenses, long version) {
+            this.expenses = FXCollections.unmodifiableObservableList(FXCollections.observableList(expenses));
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Expense> getExpenseList() {
+            return expenses;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public ReadOnlyExpenseTracker snapshot() {
+            return this;
+        }
+
+        // Sorting would change the items of the snapshot, which must stay as they were when it was taken for the
+        // save that is still writing them, so both sort methods throw on purpose.
+        @Override
+        public void sortExpenseList(boolean isAscending) {
+            throw new UnsupportedOperationException(MESSAGE_IMMUTABLE_SNAPSHOT);
+        }
+
+        @Override
+        public void sortDefaultExpenseList() {
+            throw new UnsupportedOperationException(MESSAGE_IMMUTABLE_SNAPSHOT);
+        }
+    }
+}
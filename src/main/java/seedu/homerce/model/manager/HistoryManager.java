@@ -1,5 +1,7 @@
 package seedu.homerce.model.manager;
 
+import static seedu.homerce.commons.util.AppUtil.checkArgument;
+
 import java.util.LinkedList;
 
 import seedu.homerce.logic.commands.BreakdownFinanceCommand;
@@ -7,6 +9,7 @@ import seedu.homerce.logic.commands.Command;
 import seedu.homerce.logic.commands.HelpCommand;
 import seedu.homerce.logic.commands.UndoCommand;
 import seedu.homerce.logic.commands.appointment.FindAppointmentCommand;
+import seedu.homerce.logic.commands.appointment.FreeSlotsCommand;
 import seedu.homerce.logic.commands.appointment.ListAppointmentCommand;
 import seedu.homerce.logic.commands.client.FindClientCommand;
 import seedu.homerce.logic.commands.client.ListClientCommand;
@@ -19,21 +22,27 @@ import seedu.homerce.logic.commands.schedule.NextWeekCommand;
 import seedu.homerce.logic.commands.schedule.PreviousWeekCommand;
 import seedu.homerce.logic.commands.service.FindServiceCommand;
 import seedu.homerce.logic.commands.service.ListServiceCommand;
-import seedu.homerce.model.Model;
 import seedu.homerce.model.undo.History;
-
+import seedu.homerce.model.undo.UndoAction;
 
 /**
- * Holds all the previous states of Homerce's storage.
+ * Holds the changes made to Homerce's storage by previous commands.
+ * Each change is stored as the inverse operation that reverts it, instead of a copy of the whole model.
  *
  * A new HistoryManager is initialized upon each start up of Homerce.
+ * Only the latest changes, up to the history limit, are kept so that a long session runs in bounded memory.
  */
 public class HistoryManager {
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+    public static final String MESSAGE_INVALID_HISTORY_LIMIT = "History limit should be a positive number";
+
     private static HistoryManager historyManager = null;
     private LinkedList<History> histories;
+    private int historyLimit;
 
     private HistoryManager() {
         this.histories = new LinkedList<>();
+        this.historyLimit = DEFAULT_HISTORY_LIMIT;
     }
 
     /**
@@ -50,17 +59,48 @@ public class HistoryManager {
     }
 
     /**
-     * Adds a model to the history of model states.
-     * The model input will not be added if the command given does not change the state of the model.
+     * Adds a new entry for the command to the history of changes.
+     * The entry will not be added if the command given does not change the state of the model.
      *
-     * @param model the new model to be added to the history of model states.
      * @param command the latest command given by the user.
      */
-    public void addToHistory(Model model, Command command) {
+    public void addToHistory(Command command) {
         if (willCommandChangeState(command)) {
-            Model modelDeepCopy = model.deepCopy();
-            History history = new History(modelDeepCopy, command);
+            History history = new History(command);
             histories.addLast(history);
+            discardOldestHistories();
+        }
+    }
+
+    /**
+     * Sets the maximum number of changes that can be undone.
+     * The oldest changes are discarded if there are more changes than the new limit.
+     *
+     * @param historyLimit the maximum number of changes to keep, which must be positive.
+     */
+    public void setHistoryLimit(int historyLimit) {
+        checkArgument(historyLimit > 0, MESSAGE_INVALID_HISTORY_LIMIT);
+        this.historyLimit = historyLimit;
+        discardOldestHistories();
+    }
+
+    private void discardOldestHistories() {
+        while (histories.size() > historyLimit) {
+            histories.removeFirst();
+        }
+    }
+
+    /**
+     * Records the inverse of a change made by {@code command} to the model.
+     * The inverse is only recorded if {@code command} is the latest command added to the history.
+     *
+     * @param command the command that made the change.
+     * @param undoAction the operation that reverts the change.
+     */
+    public void addUndoAction(Command command, UndoAction undoAction) {
+        History latestHistory = histories.peekLast();
+        if (latestHistory != null && latestHistory.getCommand() == command) {
+            latestHistory.addUndoAction(undoAction);
         }
     }
 
@@ -78,7 +118,8 @@ public class HistoryManager {
             && !(command instanceof FindRevenueCommand) && !(command instanceof ListRevenueCommand)
             && !(command instanceof FindAppointmentCommand) && !(command instanceof ListAppointmentCommand)
             && !(command instanceof AbstractWeekCommand) && !(command instanceof BreakdownFinanceCommand)
-            && !(command instanceof PreviousWeekCommand) && !(command instanceof NextWeekCommand);
+            && !(command instanceof PreviousWeekCommand) && !(command instanceof NextWeekCommand)
+            && !(command instanceof FreeSlotsCommand);
     }
 
     public History getPreviousHistory() {
@@ -1,10 +1,8 @@
 package seedu.homerce.model.manager;
 
-import java.util.Calendar;
-
 import javafx.collections.ObservableList;
 import seedu.homerce.model.appointment.Appointment;
-import seedu.homerce.model.appointment.predicate.AppointmentWeekPredicate;
+import seedu.homerce.model.appointment.ScheduleWeek;
 
 /**
  * Unmodifiable view of am appointment book
@@ -22,12 +20,18 @@ public interface ReadOnlyAppointmentManager {
     ObservableList<Appointment> getAppointmentListCopy();
 
     /**
-     * Returns an appointment predicate. Used to determine the current week for use in the schedule view.
+     * Returns the version of the appointment list, which changes every time the list is modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable copy of the appointment data as it is now, taken in O(1) time.
+     * Later changes are not reflected in the copy, so it can be read safely from another thread.
      */
-    AppointmentWeekPredicate getCurrentWeek();
+    ReadOnlyAppointmentManager snapshot();
 
     /**
-     * Returns calendar to determine the current week. Used for the schedule view.
+     * Returns the current week. Used for the schedule view.
      */
-    Calendar getCalendar();
+    ScheduleWeek getCurrentWeek();
 }
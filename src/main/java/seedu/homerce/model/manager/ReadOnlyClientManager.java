@@ -14,5 +14,16 @@ public interface ReadOnlyClientManager {
      */
     ObservableList<Client> getClientList();
 
+    /**
+     * Returns the version of the client list, which changes every time the list is modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable copy of the client data as it is now, taken in O(1) time.
+     * Later changes are not reflected in the copy, so it can be read safely from another thread.
+     */
+    ReadOnlyClientManager snapshot();
+
 
 }
@@ -9,6 +9,17 @@ public interface ReadOnlyExpenseTracker {
      */
     ObservableList<Expense> getExpenseList();
 
+    /**
+     * Returns the version of the expense list, which changes every time the list is modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable copy of the expense data as it is now, taken in O(1) time.
+     * Later changes are not reflected in the copy, so it can be read safely from another thread.
+     */
+    ReadOnlyExpenseTracker snapshot();
+
     /**
      * Sorts the expense list.
      * @param isAscending
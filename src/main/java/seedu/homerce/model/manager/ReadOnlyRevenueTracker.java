@@ -13,6 +13,17 @@ public interface ReadOnlyRevenueTracker {
      */
     ObservableList<Revenue> getRevenueList();
 
+    /**
+     * Returns the version of the revenue list, which changes every time the list is modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable copy of the revenue data as it is now, taken in O(1) time.
+     * Later changes are not reflected in the copy, so it can be read safely from another thread.
+     */
+    ReadOnlyRevenueTracker snapshot();
+
     /**
      * Sorts the expense list.
      *
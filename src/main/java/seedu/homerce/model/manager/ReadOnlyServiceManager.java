@@ -12,4 +12,15 @@ public interface ReadOnlyServiceManager {
      * This list will not contain any duplicate services.
      */
     ObservableList<Service> getServiceList();
+
+    /**
+     * Returns the version of the service list, which changes every time the list is modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable copy of the service data as it is now, taken in O(1) time.
+     * Later changes are not reflected in the copy, so it can be read safely from another thread.
+     */
+    ReadOnlyServiceManager snapshot();
 }
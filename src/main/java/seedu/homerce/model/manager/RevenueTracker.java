@@ -22,6 +22,8 @@ public class RevenueTracker implements ReadOnlyRevenueTracker {
     private final NonUniqueList<Revenue> revenues;
     private final RevenueDefaultComparator revenueDefaultComparator = new RevenueDefaultComparator();
     private final Logger logger;
+    // Whether the revenues are sorted by date, so that a new revenue can be inserted at its place.
+    private boolean isSortedByDate = true;
 
     /**
      * Revenue Tracker Constructor
@@ -52,6 +54,7 @@ public class RevenueTracker implements ReadOnlyRevenueTracker {
         } else {
             revenues.sort(new RevenueComparator().reversed());
         }
+        isSortedByDate = false;
         logger.info("Revenue List is sorted in ascending order by value: " + isAscending);
     }
 
@@ -60,7 +63,8 @@ public class RevenueTracker implements ReadOnlyRevenueTracker {
      */
     @Override
     public void sortDefaultRevenueList() {
-        revenues.sort(new RevenueDefaultComparator());
+        revenues.sort(revenueDefaultComparator);
+        isSortedByDate = true;
         logger.info("Revenue List is sorted in descending chronological order");
     }
 
@@ -80,18 +84,25 @@ public class RevenueTracker implements ReadOnlyRevenueTracker {
      */
     public void setRevenues(List<Revenue> revenues) {
         this.revenues.setItems(revenues);
+        isSortedByDate = this.revenues.isSorted(revenueDefaultComparator);
         logger.info("Revenue List is updated to new list");
     }
 
     //// service-level operations
 
     /**
-     * Adds a revenues to the Homerce.
+     * Adds a revenues to the Homerce, keeping the revenues sorted by date.
+     * If the revenues are sorted by date, the revenue is inserted at its place without sorting them again.
      */
     public void addRevenue(Revenue r) {
-        revenues.add(r);
+        if (isSortedByDate) {
+            revenues.addSorted(r, revenueDefaultComparator);
+        } else {
+            revenues.add(r);
+            revenues.sort(revenueDefaultComparator);
+            isSortedByDate = true;
+        }
         logger.info("Added revenue entry to Revenue List");
-        FXCollections.sort(revenues.getInternalList(), revenueDefaultComparator);
     }
 
 
@@ -120,6 +131,16 @@ public class RevenueTracker implements ReadOnlyRevenueTracker {
         return revenues.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return revenues.getModificationCount();
+    }
+
+    @Override
+    public ReadOnlyRevenueTracker snapshot() {
+        return new Snapshot(revenues.snapshot(), getVersion());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -133,14 +154,44 @@ public class RevenueTracker implements ReadOnlyRevenueTracker {
     }
 
     /**
-     * Creates a deep copy of all the revenues in the list of revenues.
-     *
-     * @return a list of revenues.
+     * An immutable version of a {@code RevenueTracker}.
      */
-    public RevenueTracker deepCopy() {
-        List<Revenue> internalListCopy = revenues.deepCopy();
-        RevenueTracker revenueTrackerCopy = new RevenueTracker();
-        revenueTrackerCopy.setRevenues(internalListCopy);
-        return revenueTrackerCopy;
+    private static class Snapshot implements ReadOnlyRevenueTracker {
+        private static final String MESSAGE_IMMUTABLE_SNAPSHOT = "A snapshot cannot be sorted";
+
+        private final ObservableList<Revenue> revenues;
+        private final long version;
+
+        Snapshot(List<Revenue> revenues, long version) {
+            this.revenues = FXCollections.unmodifiableObservableList(FXCollections.observableList(revenues));
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Revenue> getRevenueList() {
+            return revenues;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public ReadOnlyRevenueTracker snapshot() {
+            return this;
+        }
+
+        // Sorting would change the items of the snapshot, which must stay as they were when it was taken for the
+        // save that is still writing them, so both sort methods throw on purpose.
+        @Override
+        public void sortRevenueList(boolean isAscending) {
+            throw new UnsupportedOperationException(MESSAGE_IMMUTABLE_SNAPSHOT);
+        }
+
+        @Override
+        public void sortDefaultRevenueList() {
+            throw new UnsupportedOperationException(MESSAGE_IMMUTABLE_SNAPSHOT);
+        }
     }
 }
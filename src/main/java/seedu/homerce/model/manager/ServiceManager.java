@@ -7,6 +7,7 @@ import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.homerce.model.service.Service;
 import seedu.homerce.model.service.ServiceCode;
@@ -77,6 +78,13 @@ public class ServiceManager implements ReadOnlyServiceManager {
         return services.contains(serviceCode);
     }
 
+    /**
+     * Returns the smallest service code identification number that is at least {@code fromId} and not used by any
+     * service.
+     */
+    public int getNextFreeServiceCodeId(int fromId) {
+        return services.getNextFreeServiceCodeId(fromId);
+    }
 
     /**
      * Adds a service to homerce.
@@ -119,6 +127,16 @@ public class ServiceManager implements ReadOnlyServiceManager {
         return services.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return services.getModificationCount();
+    }
+
+    @Override
+    public ReadOnlyServiceManager snapshot() {
+        return new Snapshot(services.snapshot(), getVersion());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -141,14 +159,30 @@ public class ServiceManager implements ReadOnlyServiceManager {
     }
 
     /**
-     * Creates a deep copy of all the services in the unique list of services.
-     *
-     * @return a service manager with a list of deep copied services.
+     * An immutable version of a {@code ServiceManager}.
      */
-    public ServiceManager deepCopy() {
-        List<Service> internalListCopy = services.deepCopy();
-        ServiceManager serviceManagerCopy = new ServiceManager();
-        serviceManagerCopy.setServices(internalListCopy);
-        return serviceManagerCopy;
+    private static class Snapshot implements ReadOnlyServiceManager {
+        private final ObservableList<Service> services;
+        private final long version;
+
+        Snapshot(List<Service> services, long version) {
+            this.services = FXCollections.unmodifiableObservableList(FXCollections.observableList(services));
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Service> getServiceList() {
+            return services;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public ReadOnlyServiceManager snapshot() {
+            return this;
+        }
     }
 }
@@ -1,14 +1,13 @@
 package seedu.homerce.model.revenue;
 
-import java.math.BigDecimal;
 import java.util.Comparator;
 
 public class RevenueComparator implements Comparator<Revenue> {
 
     @Override
     public int compare(Revenue revenue1, Revenue revenue2) {
-        assert revenue1.getValue().value.compareTo(BigDecimal.ZERO) >= 0;
-        assert revenue2.getValue().value.compareTo(BigDecimal.ZERO) >= 0;
-        return revenue1.getValue().value.compareTo(revenue2.getValue().value);
+        assert revenue1.getValue().getCents() >= 0;
+        assert revenue2.getValue().getCents() >= 0;
+        return Long.compare(revenue1.getValue().getCents(), revenue2.getValue().getCents());
     }
 }
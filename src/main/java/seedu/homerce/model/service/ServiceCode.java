@@ -9,12 +9,14 @@ import java.util.function.Predicate;
  */
 public class ServiceCode {
 
-    public static final String MESSAGE_CONSTRAINTS = "ServiceCode needs to be in the range of SC000-SC999";
+    public static final String MESSAGE_CONSTRAINTS = "ServiceCode needs to be SC followed by a number in the range of "
+        + "000-999999, written with at least three digits and no other leading zeroes (eg: SC007, SC1024)";
     public static final String LEADING_ZEROES_REGEX = "^0+(?!$)";
-    public static final Predicate<ServiceCode> VALIDATION_PREDICATE = i -> i.value.length() == 5
-        && i.value.substring(0, 2).toUpperCase().equals("SC")
-        && getIntFromServiceCode(i) < 1000
-        && getIntFromServiceCode(i) >= 0;
+    public static final String VALIDATION_REGEX = "(?i)SC(\\d{3}|[1-9]\\d{3,5})";
+    public static final Predicate<ServiceCode> VALIDATION_PREDICATE = i -> i.value.matches(VALIDATION_REGEX);
+    public static final int MAX_ID = 999999;
+    private static final String PREFIX = "SC";
+    private static final String ID_FORMAT = "%03d";
 
     /**
      * String representing a unique identification number for each Service object
@@ -35,13 +37,12 @@ public class ServiceCode {
     }
 
     /**
-     * Extracts the integer value of the identification code from ServiceCode.
-     *
-     * @param serviceCode is the ServiceCode object storing the unique identification code of a Service object.
-     * @return an integer representing the unique identification number.
+     * Returns the service code string for the identification number {@code id}, padded with zeroes to at least
+     * three digits so that the codes SC000-SC999 keep their original format.
      */
-    private static int getIntFromServiceCode(ServiceCode serviceCode) {
-        return Integer.valueOf(serviceCode.value.substring(2).replaceFirst(LEADING_ZEROES_REGEX, ""));
+    public static String toServiceCodeString(int id) {
+        assert id >= 0 && id <= MAX_ID;
+        return PREFIX + String.format(ID_FORMAT, id);
     }
 
     /**
@@ -58,6 +59,11 @@ public class ServiceCode {
             && value.equals(((ServiceCode) other).value)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,79 @@
+package seedu.homerce.model.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Keeps track of the service codes in use, so that the smallest free service code can be found without going
+ * through every service.
+ *
+ * A service code is in use while it has been reserved more times than it has been released, so the same code can be
+ * reserved once for every appointment that refers to it. The smallest free identification number is cached and
+ * only moves forward past codes as they are reserved, so finding it takes O(1) amortized time.
+ */
+public class ServiceCodeAllocator {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final BitSet usedIds = new BitSet();
+    private int[] referenceCounts = new int[INITIAL_CAPACITY];
+    private int lowestFreeId = 0;
+
+    /**
+     * Marks {@code serviceCode} as in use once more.
+     */
+    public void reserve(ServiceCode serviceCode) {
+        requireNonNull(serviceCode);
+        int id = serviceCode.getID();
+        if (id >= referenceCounts.length) {
+            referenceCounts = Arrays.copyOf(referenceCounts, Math.max(id + 1, referenceCounts.length * 2));
+        }
+        if (referenceCounts[id]++ == 0) {
+            usedIds.set(id);
+            if (id == lowestFreeId) {
+                lowestFreeId = usedIds.nextClearBit(id + 1);
+            }
+        }
+    }
+
+    /**
+     * Marks one use of {@code serviceCode} as ended. The code becomes free again once every use has ended.
+     */
+    public void release(ServiceCode serviceCode) {
+        requireNonNull(serviceCode);
+        int id = serviceCode.getID();
+        if (!usedIds.get(id)) {
+            return;
+        }
+        if (--referenceCounts[id] == 0) {
+            usedIds.clear(id);
+            lowestFreeId = Math.min(lowestFreeId, id);
+        }
+    }
+
+    /**
+     * Frees every service code.
+     */
+    public void clear() {
+        usedIds.clear();
+        Arrays.fill(referenceCounts, 0);
+        lowestFreeId = 0;
+    }
+
+    /**
+     * Returns true if {@code serviceCode} is in use.
+     */
+    public boolean isReserved(ServiceCode serviceCode) {
+        requireNonNull(serviceCode);
+        return usedIds.get(serviceCode.getID());
+    }
+
+    /**
+     * Returns the smallest identification number that is at least {@code fromId} and not in use.
+     */
+    public int getNextFreeId(int fromId) {
+        assert fromId >= 0;
+        return fromId <= lowestFreeId ? lowestFreeId : usedIds.nextClearBit(fromId);
+    }
+}
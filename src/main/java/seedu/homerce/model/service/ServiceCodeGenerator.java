@@ -1,13 +1,12 @@
 package seedu.homerce.model.service;
 
-import java.util.HashSet;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
-import java.util.Set;
+import java.util.function.IntUnaryOperator;
 
 import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.service.exceptions.MaximumServiceException;
-import seedu.homerce.model.util.attributes.Amount;
-import seedu.homerce.model.util.attributes.Title;
 
 /**
  * Generates a unique service code for each service.
@@ -21,34 +20,45 @@ public class ServiceCodeGenerator {
      */
     public static String generateNewServiceCode(List<Service> serviceList, List<Appointment> appointmentList) {
         if (serviceList == null && appointmentList == null) {
-            return "SC000";
+            return ServiceCode.toServiceCodeString(0);
         }
         // Check against appointment list as well
 
-        Set<Service> serviceSet = new HashSet<>(serviceList);
-        Set<Service> serviceInAppointmentSet = new HashSet<>();
-        appointmentList.forEach(appointment -> serviceInAppointmentSet.add(appointment.getService()));
+        ServiceCodeAllocator serviceCodes = new ServiceCodeAllocator();
+        serviceList.forEach(service -> serviceCodes.reserve(service.getServiceCode()));
+        ServiceCodeAllocator appointmentServiceCodes = new ServiceCodeAllocator();
+        appointmentList.forEach(appointment -> appointmentServiceCodes.reserve(
+            appointment.getService().getServiceCode()));
 
-        String serviceCode = "";
+        return generateFromFreeIds(serviceCodes::getNextFreeId, appointmentServiceCodes::getNextFreeId);
+    }
 
-        for (int codeNum = 0; codeNum < 1000; codeNum++) {
-            String potentialServiceCode = "SC" + "0".repeat(3 - String.valueOf(codeNum).length())
-                + String.valueOf(codeNum);
+    /**
+     * Creates a new unique identification code for a Service to use, which is the smallest code in use by neither
+     * the services nor the appointments.
+     *
+     * @param nextFreeServiceId gives the smallest identification number not in use by a service that is at least
+     *     the given number, as {@link ServiceCodeAllocator#getNextFreeId(int)} does.
+     * @param nextFreeAppointmentId does the same for the services of the appointments.
+     * @return a unique identification code for a Service object.
+     */
+    public static String generateFromFreeIds(IntUnaryOperator nextFreeServiceId,
+                                             IntUnaryOperator nextFreeAppointmentId) {
+        requireNonNull(nextFreeServiceId);
+        requireNonNull(nextFreeAppointmentId);
 
-            Service testService = new Service(new Title("Test"), new Duration(0.5), new Amount(0.5))
-                .addServiceCode(potentialServiceCode);
-            // .equals for two services return true as long as value of ServiceCode is the same
-            if (!serviceSet.contains(testService) && !serviceInAppointmentSet.contains(testService)) {
-                serviceCode = potentialServiceCode;
-                break;
-            }
+        int codeNum = nextFreeServiceId.applyAsInt(0);
+        int freeCodeNum = nextFreeAppointmentId.applyAsInt(codeNum);
+        while (freeCodeNum != codeNum) { // Skip over codes that are only in use by past appointments
+            codeNum = nextFreeServiceId.applyAsInt(freeCodeNum);
+            freeCodeNum = nextFreeAppointmentId.applyAsInt(codeNum);
         }
 
-        if (serviceCode.equals("")) { // No suitable service code found from codeNum 0 - 999
+        if (codeNum > ServiceCode.MAX_ID) { // No suitable service code found from codeNum 0 - MAX_ID
             throw new MaximumServiceException("You have reached the maximum number of services that you can add"
-                + "for homerce");
+                + " for homerce");
         }
 
-        return serviceCode;
+        return ServiceCode.toServiceCodeString(codeNum);
     }
 }
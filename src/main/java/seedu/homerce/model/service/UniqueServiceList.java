@@ -3,43 +3,39 @@ package seedu.homerce.model.service;
 import static java.util.Objects.requireNonNull;
 import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import seedu.homerce.model.service.exceptions.ServiceNotFoundException;
-import seedu.homerce.model.util.uniquelist.UniqueList;
+import seedu.homerce.model.util.attributes.Title;
+import seedu.homerce.model.util.uniquelist.SortedUniqueList;
 
-public class UniqueServiceList extends UniqueList<Service> {
-    private final ServiceComparator serviceComparator = new ServiceComparator();
-
-    @Override
-    public void add(Service toAdd) {
-        super.add(toAdd);
-        FXCollections.sort(internalList, serviceComparator);
+/**
+ * A list of services that enforces uniqueness between the titles of its elements and does not allow nulls.
+ * The list is kept sorted with {@code ServiceComparator}.
+ *
+ * The services are also indexed by service code and by title, so that looking up a service and checking for
+ * duplicates take O(1) time, and the service codes in use are tracked so that a free one can be found in O(1) time.
+ */
+public class UniqueServiceList extends SortedUniqueList<Service> {
+    private final Map<ServiceCode, Service> servicesByCode = new HashMap<>();
+    private final Map<Title, Service> servicesByTitle = new HashMap<>();
+    private final ServiceCodeAllocator serviceCodes = new ServiceCodeAllocator();
 
+    public UniqueServiceList() {
+        super(new ServiceComparator());
     }
 
+    /**
+     * Returns true if the list contains a service with the same title as the given argument.
+     */
     @Override
-    public void setItem(Service target, Service edited) {
-        super.setItem(target, edited);
-        FXCollections.sort(internalList, serviceComparator);
-
-    }
-
-    @Override
-    public void setItems(UniqueList<Service> replacement) {
-        super.setItems(replacement);
-        FXCollections.sort(internalList, serviceComparator);
-
-    }
-
-    @Override
-    public void setItems(List<Service> items) {
-        super.setItems(items);
-        FXCollections.sort(internalList, serviceComparator);
-
+    public boolean contains(Service toCheck) {
+        requireNonNull(toCheck);
+        return servicesByTitle.containsKey(toCheck.getTitle());
     }
 
     /**
@@ -47,7 +43,7 @@ public class UniqueServiceList extends UniqueList<Service> {
      */
     public boolean contains(ServiceCode toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x -> x.getServiceCode().equals(toCheck));
+        return servicesByCode.containsKey(toCheck);
     }
 
     /**
@@ -55,25 +51,43 @@ public class UniqueServiceList extends UniqueList<Service> {
      */
     public Service getServiceByServiceCode(ServiceCode serviceCode) {
         requireAllNonNull(serviceCode);
-        for (Service service : internalList) {
-            if (service.getServiceCode().equals(serviceCode)) {
-                return service;
-            }
+        Service service = servicesByCode.get(serviceCode);
+        if (service == null) {
+            throw new ServiceNotFoundException();
         }
-        throw new ServiceNotFoundException();
+        return service;
     }
 
     /**
-     * Creates a deep copy of all the services in the unique list of services.
-     *
-     * @return a list of services.
+     * Returns the smallest service code identification number that is at least {@code fromId} and not used by any
+     * service in the list.
      */
-    public List<Service> deepCopy() {
-        Iterator<Service> iterator = this.iterator();
-        List<Service> servicesCopy = new ArrayList<>();
-        while (iterator.hasNext()) {
-            servicesCopy.add(iterator.next());
+    public int getNextFreeServiceCodeId(int fromId) {
+        return serviceCodes.getNextFreeId(fromId);
+    }
+
+    @Override
+    protected void onItemAdded(Service service) {
+        servicesByCode.put(service.getServiceCode(), service);
+        servicesByTitle.put(service.getTitle(), service);
+        serviceCodes.reserve(service.getServiceCode());
+    }
+
+    @Override
+    protected void onItemRemoved(Service service) {
+        servicesByCode.remove(service.getServiceCode(), service);
+        servicesByTitle.remove(service.getTitle(), service);
+        serviceCodes.release(service.getServiceCode());
+    }
+
+    @Override
+    protected boolean itemsAreUnique(List<Service> services) {
+        Set<Title> titles = new HashSet<>();
+        for (Service service : services) {
+            if (!titles.add(service.getTitle())) {
+                return false;
+            }
         }
-        return servicesCopy;
+        return true;
     }
 }
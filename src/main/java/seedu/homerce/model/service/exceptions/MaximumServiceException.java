@@ -1,7 +1,7 @@
 package seedu.homerce.model.service.exceptions;
 
 /**
- * Indicates that homerce has reached the maximum number of Services that it can store - 1000.
+ * Indicates that homerce has run out of service codes for new Services.
  */
 public class MaximumServiceException extends RuntimeException {
     public MaximumServiceException(String message) {
@@ -1,30 +1,55 @@
 package seedu.homerce.model.undo;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedList;
+
 import seedu.homerce.logic.commands.Command;
 import seedu.homerce.model.Model;
 
 /**
- * Contains information of the state of Homerce at a particular time instance.
+ * Contains the changes made to the state of Homerce by a single command, recorded as inverse operations.
  */
 public class History {
-    /** State of storage of Homerce */
-    private final Model model;
+    /** Inverse operations of the changes made by the command, most recent change first */
+    private final LinkedList<UndoAction> undoActions;
     /** Command that caused the change to Homerce's state */
     private final Command command;
 
     /**
-     * Constructor to create a history object encapsulating Homerce's state at a particular time instance.
+     * Constructor to create a history object for the changes made to Homerce by a command.
      *
-     * @param model stores the state of Homerce
      * @param command command executed that changed the state of Homerce
      */
-    public History(Model model, Command command) {
-        this.model = model;
+    public History(Command command) {
+        this.undoActions = new LinkedList<>();
         this.command = command;
     }
 
-    public Model getModel() {
-        return this.model;
+    /**
+     * Records the inverse of a change made by the command.
+     *
+     * @param undoAction the operation that reverts the change.
+     */
+    public void addUndoAction(UndoAction undoAction) {
+        requireNonNull(undoAction);
+        undoActions.addFirst(undoAction);
+    }
+
+    /**
+     * Reverts all the changes made by the command on the given {@code model}, in the reverse order that the changes
+     * were made.
+     *
+     * @param model the model to revert the changes on.
+     */
+    public void undo(Model model) {
+        for (UndoAction undoAction : undoActions) {
+            undoAction.undo(model);
+        }
+    }
+
+    public boolean hasUndoActions() {
+        return !undoActions.isEmpty();
     }
 
     public Command getCommand() {
@@ -0,0 +1,17 @@
+package seedu.homerce.model.undo;
+
+import seedu.homerce.model.Model;
+
+/**
+ * Represents the inverse of a single change made to Homerce's state by a command.
+ */
+@FunctionalInterface
+public interface UndoAction {
+
+    /**
+     * Reverts the change on the given {@code model}.
+     *
+     * @param model the model to revert the change on.
+     */
+    void undo(Model model);
+}
@@ -10,6 +10,9 @@ import seedu.homerce.commons.util.AppUtil;
 
 /**
  * The price of a service provided by homerce.
+ *
+ * The amount is held as a whole number of cents, so that amounts can be compared and added up exactly without
+ * creating any objects.
  */
 public class Amount {
     public static final String MESSAGE_CONSTRAINTS = "Amount (in dollars and cents - eg: 15.00) "
@@ -19,9 +22,11 @@ public class Amount {
     private static final double MAX_VALUE = 1000000.00;
     public static final Predicate<Double> VALIDATION_PREDICATE = i -> i > MIN_VALUE && i < MAX_VALUE;
 
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int DECIMAL_PLACES = 2;
 
-    /** Representing money in Singapore Dollars */
-    public final BigDecimal value;
+    /** Representing money in Singapore cents */
+    private final long cents;
 
     /**
      * The cost of a Service in Singapore Dollars.
@@ -30,7 +35,7 @@ public class Amount {
     public Amount(Double amount) {
         requireNonNull(amount);
         AppUtil.checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
-        value = new BigDecimal(amount).setScale(2, RoundingMode.HALF_UP);
+        cents = new BigDecimal(amount).setScale(DECIMAL_PLACES, RoundingMode.HALF_UP).unscaledValue().longValue();
     }
 
     /**
@@ -40,6 +45,46 @@ public class Amount {
         return VALIDATION_PREDICATE.test(test);
     }
 
+    /**
+     * Returns the amount in Singapore cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the amount in Singapore Dollars, for uses that do not need it to be exact, such as charts.
+     */
+    public double toDouble() {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Returns the amount in Singapore Dollars with two decimal places, as it is saved in the data files.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, DECIMAL_PLACES);
+    }
+
+    /**
+     * Returns {@code totalCents} with this amount added to it.
+     *
+     * @throws ArithmeticException if the total overflows.
+     */
+    public long addTo(long totalCents) {
+        return Math.addExact(totalCents, cents);
+    }
+
+    /**
+     * Gives a string representation of {@code cents}, which may be negative, in Singapore Dollars with two decimal
+     * places.
+     */
+    public static String formatCents(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absoluteCents = Math.abs(cents);
+        return String.format("%s%d.%02d", sign, absoluteCents / CENTS_PER_DOLLAR, absoluteCents % CENTS_PER_DOLLAR);
+    }
+
     /**
      * Gives a string representation of the amount, in Singapore Dollars.
      *
@@ -47,18 +92,18 @@ public class Amount {
      */
     @Override
     public String toString() {
-        return value.setScale(2, RoundingMode.HALF_UP).toString(); // Two decimal places
+        return formatCents(cents); // Two decimal places
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Amount// instanceof handles nulls
-                && value.equals(((Amount) other).value)); // state check
+                && cents == ((Amount) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 }
@@ -17,6 +17,7 @@ public class Date {
     private static final DateTimeFormatter FORMAT_OUTPUT = DateTimeFormatter.ofPattern("dd MMM yyyy");
 
     protected final LocalDate date;
+    private final long epochDay;
 
     /**
      * Represents the date stored for any model object.
@@ -27,6 +28,7 @@ public class Date {
         requireNonNull(dateString);
         checkArgument(isValidDate(dateString), MESSAGE_CONSTRAINTS);
         this.date = LocalDate.parse(dateString, FORMAT_INPUT);
+        this.epochDay = date.toEpochDay();
     }
 
     /**
@@ -58,6 +60,13 @@ public class Date {
         return date;
     }
 
+    /**
+     * Returns the number of days from 1 January 1970 to the date, which is worked out once when the date is created.
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
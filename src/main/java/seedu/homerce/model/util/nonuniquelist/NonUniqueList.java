@@ -3,21 +3,35 @@ package seedu.homerce.model.util.nonuniquelist;
 import static java.util.Objects.requireNonNull;
 import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.homerce.commons.util.CollectionUtil;
 import seedu.homerce.model.util.nonuniquelist.exceptions.ItemNotFoundException;
-
+import seedu.homerce.model.util.persistentlist.PersistentList;
+import seedu.homerce.model.util.persistentlist.PersistentObservableList;
+
+/**
+ * A list that allows duplicate elements but does not allow nulls.
+ *
+ * The items are held in a {@code PersistentObservableList}, so that a point-in-time version of the list can be taken
+ * in O(1) time with {@link #snapshot()}.
+ */
 public class NonUniqueList<T> implements Iterable<T> {
 
-    private final ObservableList<T> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<T> internalList = new PersistentObservableList<>();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount = 0;
+
+    {
+        internalList.addListener((ListChangeListener<T>) change -> modificationCount++);
+    }
 
     /**
      * Adds an item to the list.
@@ -27,6 +41,15 @@ public class NonUniqueList<T> implements Iterable<T> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds an item to the list, which must be sorted by {@code comparator}, at its place in that order.
+     * The place is found with a binary search, so the list is not sorted again.
+     */
+    public void addSorted(T toAdd, Comparator<T> comparator) {
+        requireAllNonNull(toAdd, comparator);
+        CollectionUtil.addSorted(internalList, toAdd, comparator);
+    }
+
     /**
      * Replaces the item {@code target} in the list with {@code editedExpense} or {@code editedRevenue}.
      * {@code target} must exist in the list.
@@ -42,6 +65,22 @@ public class NonUniqueList<T> implements Iterable<T> {
         internalList.set(index, editedItem);
     }
 
+    /**
+     * Replaces the item {@code target} in the list, which must be sorted by {@code comparator}, with
+     * {@code editedItem}, moving it if needed to keep the list sorted.
+     * {@code target} must exist in the list.
+     */
+    public void setItemSorted(T target, T editedItem, Comparator<T> comparator) {
+        requireAllNonNull(target, editedItem, comparator);
+
+        int index = internalList.indexOf(target);
+        if (index == -1) {
+            throw new ItemNotFoundException();
+        }
+
+        CollectionUtil.setSorted(internalList, index, editedItem, comparator);
+    }
+
     /**
      * Removes the equivalent item from the list.
      * The item must exist in the list.
@@ -98,25 +137,46 @@ public class NonUniqueList<T> implements Iterable<T> {
         return internalList.size();
     }
 
+    /**
+     * Returns the number of times the list has been modified.
+     * The count changes every time an item is added, removed, replaced or moved.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns an immutable version of the list as it is now.
+     * Later changes to this list are not reflected in the returned version.
+     *
+     * @return the current version of the list.
+     */
+    public PersistentList<T> snapshot() {
+        return internalList.getVersion();
+    }
+
     /**
      * Creates a deep copy of all the non unique list of items.
+     * The copy shares its structure with this list, so it is created in O(1) time.
      *
-     * @return a list of deep copied items.
+     * @return an immutable list of the items.
      */
     public List<T> deepCopy() {
-        Iterator<T> iterator = this.iterator();
-        List<T> itemsCopy = new ArrayList<>();
-        while (iterator.hasNext()) {
-            itemsCopy.add(iterator.next());
-        }
-        return itemsCopy;
+        return snapshot();
+    }
+
+    /**
+     * Returns true if the Non Unique List is sorted by {@code comparator}.
+     */
+    public boolean isSorted(Comparator<T> comparator) {
+        return CollectionUtil.isSorted(internalList, comparator);
     }
 
     /**
      * Sorts the Non Unique List.
      */
     public void sort(Comparator<T> comparator) {
-        FXCollections.sort(internalList, comparator);
+        internalList.sort(comparator);
     }
 
     /**
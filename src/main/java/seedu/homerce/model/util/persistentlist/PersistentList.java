@@ -0,0 +1,241 @@
+package seedu.homerce.model.util.persistentlist;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure between its versions.
+ * Every update returns a new version of the list in O(log n) time while leaving the current version untouched,
+ * so holding on to a version is an O(1) point-in-time snapshot of the list.
+ *
+ * The list is backed by a height balanced binary tree ordered by index. Updates only copy the nodes on the path
+ * from the root to the updated index and share every other node with the previous version.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentList} containing the items of {@code items} in the same order.
+     * Runs in O(n) time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> items) {
+        requireNonNull(items);
+        if (items instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<T> persistentItems = (PersistentList<T>) items;
+            return persistentItems;
+        }
+        Object[] itemArray = items.toArray();
+        if (itemArray.length == 0) {
+            return empty();
+        }
+        return new PersistentList<>(build(itemArray, 0, itemArray.length));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.item;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a new version of this list with the item at {@code index} replaced by {@code item}.
+     */
+    public PersistentList<T> with(int index, T item) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, item));
+    }
+
+    /**
+     * Returns a new version of this list with {@code item} inserted at {@code index}.
+     */
+    public PersistentList<T> plus(int index, T item) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, item));
+    }
+
+    /**
+     * Returns a new version of this list with {@code item} appended to the end.
+     */
+    public PersistentList<T> plus(T item) {
+        return plus(size(), item);
+    }
+
+    /**
+     * Returns a new version of this list with the item at {@code index} removed.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+            private Node<T> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> current = path.pop();
+                next = current.right;
+                return current.item;
+            }
+        };
+    }
+
+    //// tree operations
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <T> int sizeOf(Node<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> int heightOf(Node<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] items, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>((T) items[mid], build(items, from, mid), build(items, mid + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T item) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.item, set(node.left, index, item), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.item, node.left, set(node.right, index - leftSize - 1, item));
+        }
+        return new Node<>(item, node.left, node.right);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T item) {
+        if (node == null) {
+            return new Node<>(item, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.item, insert(node.left, index, item), node.right);
+        }
+        return balance(node.item, node.left, insert(node.right, index - leftSize - 1, item));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.item, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.item, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.item, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Creates a node from the given parts, rotating if the heights of {@code left} and {@code right} differ by more
+     * than one.
+     */
+    private static <T> Node<T> balance(T item, Node<T> left, Node<T> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.item, left.left, new Node<>(item, left.right, right));
+            }
+            return new Node<>(left.right.item, new Node<>(left.item, left.left, left.right.left),
+                    new Node<>(item, left.right.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.item, new Node<>(item, left, right.left), right.right);
+            }
+            return new Node<>(right.left.item, new Node<>(item, left, right.left.left),
+                    new Node<>(right.item, right.left.right, right.right));
+        }
+        return new Node<>(item, left, right);
+    }
+
+    /**
+     * An immutable node of the tree, which also stores the height and size of the subtree rooted at it.
+     */
+    private static final class Node<T> {
+        private final T item;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+        private final int size;
+
+        Node(T item, Node<T> left, Node<T> right) {
+            this.item = item;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.homerce.model.util.persistentlist;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} whose items are held in a {@code PersistentList}.
+ *
+ * The current version of the list is the only copy of its items, and every change replaces it with a new version
+ * that shares structure with the old one, so {@link #getVersion()} is an O(1) point-in-time snapshot of the list.
+ * Items are looked up and changed in O(log n) time. Replacing all items builds the new version in O(n) time, and
+ * sorting is reported as a single permutation rather than as the removal and addition of every item.
+ */
+public class PersistentObservableList<T> extends ModifiableObservableListBase<T> {
+
+    private PersistentList<T> version = PersistentList.empty();
+
+    /**
+     * Returns the current version of the list.
+     * Later changes to this list are not reflected in the returned version.
+     */
+    public PersistentList<T> getVersion() {
+        return version;
+    }
+
+    @Override
+    public T get(int index) {
+        return version.get(index);
+    }
+
+    @Override
+    public int size() {
+        return version.size();
+    }
+
+    /**
+     * Returns an iterator over the current version of the list, which does not support removal.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return version.iterator();
+    }
+
+    @Override
+    public int indexOf(Object item) {
+        int index = 0;
+        for (T current : version) {
+            if (Objects.equals(item, current)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    protected void doAdd(int index, T item) {
+        version = version.plus(index, item);
+    }
+
+    @Override
+    protected T doSet(int index, T item) {
+        T replacedItem = version.get(index);
+        version = version.with(index, item);
+        return replacedItem;
+    }
+
+    @Override
+    protected T doRemove(int index) {
+        T removedItem = version.get(index);
+        version = version.minus(index);
+        return removedItem;
+    }
+
+    /**
+     * Replaces all the items of the list with {@code items}, which is reported as a single replacement.
+     */
+    @Override
+    public boolean setAll(Collection<? extends T> items) {
+        requireNonNull(items);
+        PersistentList<T> replacedVersion = version;
+        version = PersistentList.of(new ArrayList<>(items));
+        modCount++;
+        beginChange();
+        nextReplace(0, version.size(), replacedVersion);
+        endChange();
+        return true;
+    }
+
+    /**
+     * Sorts the list by {@code comparator}, keeping items that compare equal in the same order.
+     * The sorted version is built in O(n) time after the sort and reported as a single permutation.
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        List<T> items = new ArrayList<>(version);
+        List<Integer> oldIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            oldIndexes.add(i);
+        }
+        oldIndexes.sort((first, second) -> comparator.compare(items.get(first), items.get(second)));
+
+        int[] permutation = new int[items.size()];
+        List<T> sortedItems = new ArrayList<>(items.size());
+        for (int newIndex = 0; newIndex < items.size(); newIndex++) {
+            int oldIndex = oldIndexes.get(newIndex);
+            permutation[oldIndex] = newIndex;
+            sortedItems.add(items.get(oldIndex));
+        }
+        version = PersistentList.of(sortedItems);
+        modCount++;
+        beginChange();
+        nextPermutation(0, items.size(), permutation);
+        endChange();
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.homerce.model.util.uniquelist;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.homerce.commons.util.CollectionUtil;
+import seedu.homerce.model.util.uniquelist.exceptions.DuplicateItemException;
+import seedu.homerce.model.util.uniquelist.exceptions.ItemNotFoundException;
+
+/**
+ * A {@code UniqueList} that is kept sorted by a comparator.
+ *
+ * Each item is added at its place in the order found with a binary search, and an edited item is only moved if it
+ * no longer fits between its neighbours, so that every change to the list is a single insertion, replacement or
+ * move rather than a sort of the whole list.
+ */
+public class SortedUniqueList<T extends UniqueListItem> extends UniqueList<T> {
+
+    private final Comparator<T> comparator;
+
+    /**
+     * Creates an empty list that is kept sorted by {@code comparator}.
+     */
+    public SortedUniqueList(Comparator<T> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void add(T toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateItemException();
+        }
+        CollectionUtil.addSorted(internalList, toAdd, comparator);
+    }
+
+    @Override
+    public void setItem(T target, T edited) {
+        requireAllNonNull(target, edited);
+
+        int index = internalList.indexOf(target);
+        if (index == -1) {
+            throw new ItemNotFoundException();
+        }
+
+        if (!target.isSame(edited) && contains(edited)) {
+            throw new DuplicateItemException();
+        }
+
+        CollectionUtil.setSorted(internalList, index, edited, comparator);
+    }
+
+    @Override
+    public void setItems(UniqueList<T> replacement) {
+        requireNonNull(replacement);
+        internalList.setAll(sortedCopyOf(replacement.internalList));
+    }
+
+    /**
+     * Replaces the contents of this list with {@code items}, sorted by the comparator of this list.
+     * {@code items} must not contain duplicate items.
+     */
+    @Override
+    public void setItems(List<T> items) {
+        requireAllNonNull(items);
+        if (!itemsAreUnique(items)) {
+            throw new DuplicateItemException();
+        }
+
+        internalList.setAll(sortedCopyOf(items));
+    }
+
+    /**
+     * Returns the comparator the list is sorted by.
+     */
+    protected Comparator<T> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns a copy of {@code items} sorted by the comparator of this list.
+     */
+    protected List<T> sortedCopyOf(List<T> items) {
+        List<T> sortedItems = new ArrayList<>(items);
+        sortedItems.sort(comparator);
+        return sortedItems;
+    }
+}
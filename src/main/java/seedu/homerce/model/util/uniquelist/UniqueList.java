@@ -3,13 +3,15 @@ package seedu.homerce.model.util.uniquelist;
 import static java.util.Objects.requireNonNull;
 import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.homerce.model.util.persistentlist.PersistentList;
+import seedu.homerce.model.util.persistentlist.PersistentObservableList;
 import seedu.homerce.model.util.uniquelist.exceptions.DuplicateItemException;
 import seedu.homerce.model.util.uniquelist.exceptions.ItemNotFoundException;
 
@@ -21,12 +23,30 @@ import seedu.homerce.model.util.uniquelist.exceptions.ItemNotFoundException;
  * as to ensure that the client with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ *
+ * The items are held in a {@code PersistentObservableList}, so that a point-in-time version of the list can be taken
+ * in O(1) time with {@link #snapshot()}.
  */
 public class UniqueList<T extends UniqueListItem> implements Iterable<T> {
 
-    protected final ObservableList<T> internalList = FXCollections.observableArrayList();
+    protected final PersistentObservableList<T> internalList = new PersistentObservableList<>();
     protected final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount = 0;
+
+    {
+        internalList.addListener((ListChangeListener<T>) change -> {
+            modificationCount++;
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    change.getRemoved().forEach(this::onItemRemoved);
+                }
+                if (change.wasAdded()) {
+                    change.getAddedSubList().forEach(this::onItemAdded);
+                }
+            }
+        });
+    }
 
     /**
      * Returns true if the list contains an equivalent item as the given argument.
@@ -121,10 +141,21 @@ public class UniqueList<T extends UniqueListItem> implements Iterable<T> {
         return internalList.hashCode();
     }
 
+    /**
+     * Called whenever {@code item} is added to the list, so that subclasses can keep an index of the items.
+     */
+    protected void onItemAdded(T item) {}
+
+    /**
+     * Called whenever {@code item} is removed from the list, including when it is replaced by another item.
+     * Removals are reported before the additions made by the same change.
+     */
+    protected void onItemRemoved(T item) {}
+
     /**
      * Returns true if {@code items} contains only unique items.
      */
-    private boolean itemsAreUnique(List<T> items) {
+    protected boolean itemsAreUnique(List<T> items) {
         for (int i = 0; i < items.size() - 1; i++) {
             for (int j = i + 1; j < items.size(); j++) {
                 if (items.get(i).isSame(items.get(j))) {
@@ -153,17 +184,31 @@ public class UniqueList<T extends UniqueListItem> implements Iterable<T> {
         return internalList.stream();
     }
 
+    /**
+     * Returns the number of times the list has been modified.
+     * The count changes every time an item is added, removed, replaced or moved.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns an immutable version of the list as it is now.
+     * Later changes to this list are not reflected in the returned version.
+     *
+     * @return the current version of the list.
+     */
+    public PersistentList<T> snapshot() {
+        return internalList.getVersion();
+    }
+
     /**
      * Creates a deep copy of all the items in the unique list.
+     * The copy shares its structure with this list, so it is created in O(1) time.
      *
-     * @return a list of deep copied items.
+     * @return an immutable list of the items.
      */
     public List<T> deepCopy() {
-        Iterator<T> iterator = this.iterator();
-        List<T> itemsCopy = new ArrayList<>();
-        while (iterator.hasNext()) {
-            itemsCopy.add(iterator.next());
-        }
-        return itemsCopy;
+        return snapshot();
     }
 }
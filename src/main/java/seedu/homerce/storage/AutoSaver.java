@@ -0,0 +1,199 @@
+package seedu.homerce.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.homerce.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.util.StringUtil;
+
+/**
+ * Writes data files on a background thread, so that saving does not hold up the user interface.
+ *
+ * Each save is submitted together with the data file it writes to and the version of the data it writes. Saves that
+ * are submitted for the same file before the writer gets to them are coalesced, so only the latest version is
+ * written. Submitted data is written at most {@code maxStalenessMillis} milliseconds after it was submitted, and
+ * {@link #flush()} writes all pending data straight away.
+ *
+ * A save that fails is tried again {@code retryDelayMillis} milliseconds later, or with the next write if that comes
+ * first, until it succeeds. The save error handler is told when saving to a file starts failing, and again once the
+ * file has been saved, rather than on every failed attempt.
+ */
+public class AutoSaver {
+
+    public static final String MESSAGE_SAVE_FAILED = "Could not save data to file: ";
+    public static final String MESSAGE_SAVE_RECOVERED = "Saved data to file after an earlier failure: ";
+    public static final String MESSAGE_INVALID_STALENESS = "Maximum staleness must not be negative";
+    public static final String MESSAGE_INVALID_RETRY_DELAY = "Retry delay must be positive";
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 5000;
+
+    private static final Logger logger = LogsCenter.getLogger(AutoSaver.class);
+
+    /**
+     * Writes one version of a data file.
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        void save() throws IOException;
+    }
+
+    private final long maxStalenessMillis;
+    private final long retryDelayMillis;
+    private final ScheduledExecutorService writer;
+    private final Object writeLock = new Object();
+
+    // Guarded by writeLock
+    private final Set<Path> failingFilePaths = new HashSet<>();
+
+    // Guarded by this
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+
+    private volatile Consumer<String> saveErrorHandler = message -> { };
+
+    /**
+     * Creates an {@code AutoSaver} that writes submitted data at most {@code maxStalenessMillis} milliseconds later.
+     */
+    public AutoSaver(long maxStalenessMillis) {
+        this(maxStalenessMillis, DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates an {@code AutoSaver} that writes submitted data at most {@code maxStalenessMillis} milliseconds later,
+     * and tries a failed save again {@code retryDelayMillis} milliseconds after it failed.
+     */
+    public AutoSaver(long maxStalenessMillis, long retryDelayMillis) {
+        checkArgument(maxStalenessMillis >= 0, MESSAGE_INVALID_STALENESS);
+        checkArgument(retryDelayMillis > 0, MESSAGE_INVALID_RETRY_DELAY);
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AutoSaver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given a message for the user whenever saving to a file starts failing or recovers.
+     * The handler is called from the thread that did the save.
+     */
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * Submits {@code saveTask}, which writes {@code version} of the data in {@code filePath}.
+     * Any save already pending for {@code filePath} is replaced, as it writes an older version.
+     * The task must only read data that does not change, as it runs on another thread.
+     */
+    public synchronized void submit(Path filePath, long version, SaveTask saveTask) {
+        requireNonNull(filePath);
+        requireNonNull(saveTask);
+        pendingSaves.put(filePath, new PendingSave(version, saveTask));
+        scheduleWrite(maxStalenessMillis);
+    }
+
+    /**
+     * Returns true if there is data that has been submitted but not written yet.
+     */
+    public synchronized boolean hasPendingSaves() {
+        return !pendingSaves.isEmpty();
+    }
+
+    /**
+     * Writes all pending data on the calling thread, and returns once it is written.
+     */
+    public void flush() {
+        writePendingSaves();
+    }
+
+    /**
+     * Writes all pending data and stops the background writer.
+     * A save that fails is tried once more straight away, rather than left to a retry that will never run.
+     * No more saves should be submitted after this.
+     *
+     * @return the data files that still could not be saved.
+     */
+    public Set<Path> stop() {
+        flush();
+        if (hasPendingSaves()) {
+            logger.info("Trying the failed saves again before stopping");
+            flush();
+        }
+        writer.shutdownNow();
+        synchronized (this) {
+            Set<Path> unsavedFilePaths = new HashSet<>(pendingSaves.keySet());
+            pendingSaves.clear();
+            return unsavedFilePaths;
+        }
+    }
+
+    private void writePendingSaves() {
+        synchronized (writeLock) {
+            Map<Path, PendingSave> saves;
+            synchronized (this) {
+                saves = new LinkedHashMap<>(pendingSaves);
+                pendingSaves.clear();
+                isWriteScheduled = false;
+            }
+
+            for (Map.Entry<Path, PendingSave> entry : saves.entrySet()) {
+                Path filePath = entry.getKey();
+                PendingSave save = entry.getValue();
+                try {
+                    save.saveTask.save();
+                    logger.fine("Saved version " + save.version + " of " + filePath);
+                    if (failingFilePaths.remove(filePath)) {
+                        saveErrorHandler.accept(MESSAGE_SAVE_RECOVERED + filePath);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    logger.warning("Failed to save " + filePath + " : " + StringUtil.getDetails(e));
+                    synchronized (this) {
+                        pendingSaves.putIfAbsent(filePath, save);
+                    }
+                    if (failingFilePaths.add(filePath)) {
+                        saveErrorHandler.accept(MESSAGE_SAVE_FAILED + e);
+                    }
+                    scheduleWrite(retryDelayMillis);
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedules the pending saves to be written {@code delayMillis} milliseconds later, unless a write is already
+     * scheduled or the background writer has been stopped.
+     */
+    private synchronized void scheduleWrite(long delayMillis) {
+        if (!isWriteScheduled && !writer.isShutdown()) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePendingSaves, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * A save that has been submitted but not written yet.
+     */
+    private static class PendingSave {
+        private final long version;
+        private final SaveTask saveTask;
+
+        PendingSave(long version, SaveTask saveTask) {
+            this.version = version;
+            this.saveTask = saveTask;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.homerce.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.util.StringUtil;
+import seedu.homerce.storage.journal.Journal;
+
+/**
+ * Keeps data files that could not be read, so that the empty data the application starts with instead does not
+ * overwrite them when it is saved.
+ */
+public class DataFileBackup {
+
+    public static final String BACKUP_FILE_INFIX = ".unreadable-";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileBackup.class);
+
+    /**
+     * Moves the data file at {@code filePath}, and its journal if any, aside to backup files named after the file
+     * and the current time. A file that cannot be moved is left in place.
+     *
+     * @return the backup files that the data file and its journal were moved to.
+     */
+    public static List<Path> moveAside(Path filePath) {
+        requireNonNull(filePath);
+        String backupSuffix = BACKUP_FILE_INFIX + System.currentTimeMillis();
+        List<Path> backupPaths = new ArrayList<>();
+        for (Path path : new Path[] {filePath, Journal.getJournalFilePath(filePath)}) {
+            if (!Files.exists(path)) {
+                continue;
+            }
+            Path backupPath = Paths.get(path.toString() + backupSuffix);
+            try {
+                Files.move(path, backupPath);
+                backupPaths.add(backupPath);
+                logger.warning("Moved unreadable data file " + path + " to " + backupPath);
+            } catch (IOException e) {
+                logger.severe("Failed to move unreadable data file " + path + " aside, it will be overwritten : "
+                    + StringUtil.getDetails(e));
+            }
+        }
+        return backupPaths;
+    }
+}
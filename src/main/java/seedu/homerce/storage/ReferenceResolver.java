@@ -0,0 +1,101 @@
+package seedu.homerce.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.homerce.model.client.Client;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.model.service.Service;
+
+/**
+ * Resolves the clients and services of appointments and revenues in the data files against the loaded managers.
+ *
+ * A client is only saved as a reference to its phone if the client manager holds an identical client, so that
+ * appointments made before a client was edited or deleted keep their own copy. The reference is saved together with
+ * the name and email of the client, which are all that history needs, so that an appointment can still be read if
+ * its client is missing from the clients file or has changed since. Services are always saved in full, as all their
+ * details are needed for history. Every client and service read back that is identical to an item in the managers is
+ * replaced by that item, so that it is only held in memory once.
+ */
+public class ReferenceResolver {
+
+    private final Map<String, Client> clientsByPhone = new HashMap<>();
+    private final Map<String, Service> servicesByCode = new HashMap<>();
+
+    /**
+     * Creates a {@code ReferenceResolver} that resolves no references, so every client is saved in full.
+     */
+    public ReferenceResolver() {}
+
+    /**
+     * Creates a {@code ReferenceResolver} for the clients in {@code clientManager} and the services in
+     * {@code serviceManager}.
+     */
+    public ReferenceResolver(ReadOnlyClientManager clientManager, ReadOnlyServiceManager serviceManager) {
+        this(clientManager);
+        addServices(serviceManager);
+    }
+
+    /**
+     * Creates a {@code ReferenceResolver} for the clients in {@code clientManager}, which shares no services.
+     */
+    public ReferenceResolver(ReadOnlyClientManager clientManager) {
+        requireNonNull(clientManager);
+        for (Client client : clientManager.getClientList()) {
+            clientsByPhone.putIfAbsent(client.getPhone().value, client);
+        }
+    }
+
+    /**
+     * Creates a {@code ReferenceResolver} for the services in {@code serviceManager}, which resolves no clients.
+     */
+    public ReferenceResolver(ReadOnlyServiceManager serviceManager) {
+        addServices(serviceManager);
+    }
+
+    private void addServices(ReadOnlyServiceManager serviceManager) {
+        requireNonNull(serviceManager);
+        for (Service service : serviceManager.getServiceList()) {
+            servicesByCode.putIfAbsent(service.getServiceCode().value, service);
+        }
+    }
+
+    /**
+     * Returns true if {@code client} can be saved as a reference to its phone.
+     */
+    public boolean isReferable(Client client) {
+        return client.equals(clientsByPhone.get(client.getPhone().value));
+    }
+
+    /**
+     * Returns the client that a reference saved with the details of {@code savedClient} refers to.
+     * This is the client with the same phone in the client manager if it still has the same name and email, or
+     * {@code savedClient} itself otherwise.
+     */
+    public Client resolveClient(Client savedClient) {
+        Client client = clientsByPhone.get(savedClient.getPhone().value);
+        if (client != null && client.getName().equals(savedClient.getName())
+                && client.getEmail().equals(savedClient.getEmail())) {
+            return client;
+        }
+        return savedClient;
+    }
+
+    /**
+     * Returns the identical client held by the client manager, or {@code client} itself if there is none.
+     */
+    public Client share(Client client) {
+        return isReferable(client) ? clientsByPhone.get(client.getPhone().value) : client;
+    }
+
+    /**
+     * Returns the identical service held by the service manager, or {@code service} itself if there is none.
+     */
+    public Service share(Service service) {
+        Service managedService = servicesByCode.get(service.getServiceCode().value);
+        return managedService != null && managedService.isNotEdited(service) ? managedService : service;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.homerce.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.model.manager.ReadOnlyExpenseTracker;
+import seedu.homerce.model.manager.ReadOnlyRevenueTracker;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.storage.journal.Journal;
+
+/**
+ * Copies data between two {@code Storage}s that keep their data files in different formats, such as json and binary.
+ * Appointments are copied with their clients in full, so that they do not depend on the order in which the other
+ * data files are copied.
+ */
+public class StorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageConverter.class);
+
+    /**
+     * Copies each data file of {@code source} that was changed more recently than the matching file of
+     * {@code target}, or that has no matching file in {@code target}, to {@code target}.
+     *
+     * @return the number of data files copied.
+     * @throws DataConversionException if a data file of {@code source} is not in the correct format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static int convertNewerData(Storage source, Storage target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        int convertedFileCount = 0;
+        if (isNewer(source.getClientManagerFilePath(), target.getClientManagerFilePath())) {
+            Optional<ReadOnlyClientManager> clientManager = source.readClientManager();
+            if (clientManager.isPresent()) {
+                target.saveClientManager(clientManager.get());
+                convertedFileCount++;
+            }
+        }
+        if (isNewer(source.getServiceManagerStorageFilePath(), target.getServiceManagerStorageFilePath())) {
+            Optional<ReadOnlyServiceManager> serviceManager = source.readServiceManager();
+            if (serviceManager.isPresent()) {
+                target.saveServiceManager(serviceManager.get());
+                convertedFileCount++;
+            }
+        }
+        if (isNewer(source.getAppointmentManagerStorageFilePath(), target.getAppointmentManagerStorageFilePath())) {
+            Optional<ReadOnlyAppointmentManager> appointmentManager =
+                source.readAppointmentManager(readClientReferences(source), readServiceReferences(source));
+            if (appointmentManager.isPresent()) {
+                target.saveAppointmentManager(appointmentManager.get(), new ClientManager());
+                convertedFileCount++;
+            }
+        }
+        if (isNewer(source.getRevenueTrackerStorageFilePath(), target.getRevenueTrackerStorageFilePath())) {
+            Optional<ReadOnlyRevenueTracker> revenueTracker = source.readRevenueTracker(readServiceReferences(source));
+            if (revenueTracker.isPresent()) {
+                target.saveRevenueTracker(revenueTracker.get());
+                convertedFileCount++;
+            }
+        }
+        if (isNewer(source.getExpenseTrackerStorageFilePath(), target.getExpenseTrackerStorageFilePath())) {
+            Optional<ReadOnlyExpenseTracker> expenseTracker = source.readExpenseTracker();
+            if (expenseTracker.isPresent()) {
+                target.saveExpenseTracker(expenseTracker.get());
+                convertedFileCount++;
+            }
+        }
+        return convertedFileCount;
+    }
+
+    /**
+     * Returns the clients of {@code source} that its appointments may refer to.
+     */
+    private static ReadOnlyClientManager readClientReferences(Storage source)
+            throws DataConversionException, IOException {
+        return source.readClientManager().orElseGet(ClientManager::new);
+    }
+
+    /**
+     * Returns the services of {@code source} that the services of its appointments and revenues are shared with.
+     */
+    private static ReadOnlyServiceManager readServiceReferences(Storage source)
+            throws DataConversionException, IOException {
+        return source.readServiceManager().orElseGet(ServiceManager::new);
+    }
+
+    /**
+     * Returns true if the data at {@code sourceFilePath} exists and was changed after the data at
+     * {@code targetFilePath}, or if there is no data at {@code targetFilePath}.
+     */
+    private static boolean isNewer(Path sourceFilePath, Path targetFilePath) throws IOException {
+        Optional<FileTime> sourceTime = getLastModifiedTime(sourceFilePath);
+        if (sourceTime.isEmpty()) {
+            return false;
+        }
+        Optional<FileTime> targetTime = getLastModifiedTime(targetFilePath);
+        boolean isNewer = targetTime.isEmpty() || sourceTime.get().compareTo(targetTime.get()) > 0;
+        if (isNewer) {
+            logger.info("Converting " + sourceFilePath + " to " + targetFilePath);
+        }
+        return isNewer;
+    }
+
+    /**
+     * Returns the time the data at {@code filePath} was last changed, including changes recorded in its journal.
+     */
+    private static Optional<FileTime> getLastModifiedTime(Path filePath) throws IOException {
+        Optional<FileTime> lastModifiedTime = Optional.empty();
+        for (Path path : new Path[] {filePath, Journal.getJournalFilePath(filePath)}) {
+            if (Files.exists(path)) {
+                FileTime time = Files.getLastModifiedTime(path);
+                if (lastModifiedTime.isEmpty() || time.compareTo(lastModifiedTime.get()) > 0) {
+                    lastModifiedTime = Optional.of(time);
+                }
+            }
+        }
+        return lastModifiedTime;
+    }
+}
@@ -133,25 +133,30 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyAppointmentManager> readAppointmentManager() throws DataConversionException, IOException {
-        return readAppointmentManager(appointmentStorage.getAppointmentManagerStorageFilePath());
+    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(ReadOnlyClientManager clientManager,
+            ReadOnlyServiceManager serviceManager) throws DataConversionException, IOException {
+        return readAppointmentManager(appointmentStorage.getAppointmentManagerStorageFilePath(), clientManager,
+            serviceManager);
     }
 
     @Override
-    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(Path filePath)
+    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(Path filePath,
+            ReadOnlyClientManager clientManager, ReadOnlyServiceManager serviceManager)
             throws DataConversionException, IOException {
-        return appointmentStorage.readAppointmentManager(filePath);
+        return appointmentStorage.readAppointmentManager(filePath, clientManager, serviceManager);
     }
 
     @Override
-    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager) throws IOException {
-        saveAppointmentManager(appointmentManager, appointmentStorage.getAppointmentManagerStorageFilePath());
+    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager,
+            ReadOnlyClientManager clientManager) throws IOException {
+        saveAppointmentManager(appointmentManager, clientManager,
+            appointmentStorage.getAppointmentManagerStorageFilePath());
     }
 
     @Override
-    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager, Path filePath)
-            throws IOException {
-        appointmentStorage.saveAppointmentManager(appointmentManager, filePath);
+    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager,
+            ReadOnlyClientManager clientManager, Path filePath) throws IOException {
+        appointmentStorage.saveAppointmentManager(appointmentManager, clientManager, filePath);
     }
 
     // ================ RevenueTracker methods ==============================
@@ -162,14 +167,15 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyRevenueTracker> readRevenueTracker() throws DataConversionException, IOException {
-        return readRevenueTracker(revenueStorage.getRevenueTrackerStorageFilePath());
+    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException {
+        return readRevenueTracker(revenueStorage.getRevenueTrackerStorageFilePath(), serviceManager);
     }
 
     @Override
-    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(Path filePath) throws DataConversionException,
-        IOException {
-        return revenueStorage.readRevenueTracker(filePath);
+    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(Path filePath, ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException {
+        return revenueStorage.readRevenueTracker(filePath, serviceManager);
     }
 
     @Override
@@ -7,9 +7,13 @@ import java.util.Optional;
 import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.model.manager.AppointmentManager;
 import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
 
 /**
  * Represents a storage for {@link AppointmentManager}.
+ * Appointments may refer to their clients by phone, and the clients and services of the appointments read back are
+ * shared with the given client and service managers where they are identical.
  */
 public interface AppointmentStorage {
 
@@ -22,27 +26,33 @@ public interface AppointmentStorage {
      * Returns AppointmentManager data as a {@link ReadOnlyAppointmentManager}.
      * Returns {@code Optional.empty()} if storage file is not found.
      *
+     * @param clientManager clients that the appointments may refer to. Cannot be null.
+     * @param serviceManager services that the services of the appointments are shared with. Cannot be null.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    Optional<ReadOnlyAppointmentManager> readAppointmentManager() throws DataConversionException, IOException;
+    Optional<ReadOnlyAppointmentManager> readAppointmentManager(ReadOnlyClientManager clientManager,
+            ReadOnlyServiceManager serviceManager) throws DataConversionException, IOException;
 
     /**
-     * @see #readAppointmentManager()
+     * @see #readAppointmentManager(ReadOnlyClientManager, ReadOnlyServiceManager)
      */
-    Optional<ReadOnlyAppointmentManager> readAppointmentManager(Path filePath) throws DataConversionException,
-            IOException;
+    Optional<ReadOnlyAppointmentManager> readAppointmentManager(Path filePath, ReadOnlyClientManager clientManager,
+            ReadOnlyServiceManager serviceManager) throws DataConversionException, IOException;
 
     /**
      * Saves the given {@link ReadOnlyAppointmentManager} to the storage.
      *
      * @param appointmentManager cannot be null.
+     * @param clientManager clients that the appointments may refer to instead of being saved in full. Cannot be null.
      * @throws IOException if there was any problem writing to the file.
      */
-    void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager) throws IOException;
+    void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager, ReadOnlyClientManager clientManager)
+            throws IOException;
 
     /**
-     * @see #saveAppointmentManager(ReadOnlyAppointmentManager)
+     * @see #saveAppointmentManager(ReadOnlyAppointmentManager, ReadOnlyClientManager)
      */
-    void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager, Path filePath) throws IOException;
+    void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager, ReadOnlyClientManager clientManager,
+            Path filePath) throws IOException;
 }
@@ -0,0 +1,94 @@
+package seedu.homerce.storage.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.storage.ReferenceResolver;
+import seedu.homerce.storage.binary.BinaryFile;
+import seedu.homerce.storage.binary.BinaryModelCodec;
+
+/**
+ * A class to access AppointmentManager data stored as a binary file on the hard disk.
+ */
+public class BinaryAppointmentStorage implements AppointmentStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAppointmentStorage.class);
+
+    private Path filePath;
+
+    public BinaryAppointmentStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAppointmentManagerStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(ReadOnlyClientManager clientManager,
+            ReadOnlyServiceManager serviceManager) throws DataConversionException {
+        return readAppointmentManager(filePath, clientManager, serviceManager);
+    }
+
+    /**
+     * Similar to {@link #readAppointmentManager(ReadOnlyClientManager, ReadOnlyServiceManager)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(Path filePath,
+            ReadOnlyClientManager clientManager, ReadOnlyServiceManager serviceManager)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        ReferenceResolver references = new ReferenceResolver(clientManager, serviceManager);
+        List<Appointment> appointments = new ArrayList<>();
+        try {
+            if (!BinaryFile.read(filePath, BinaryModelCodec.APPOINTMENT_CONTENT_TYPE,
+                reader -> BinaryModelCodec.readAppointment(reader, references), appointments::add)) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonSerializableAppointmentManager.toAppointmentManager(appointments));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager,
+            ReadOnlyClientManager clientManager) throws IOException {
+        saveAppointmentManager(appointmentManager, clientManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAppointmentManager(ReadOnlyAppointmentManager, ReadOnlyClientManager)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager,
+            ReadOnlyClientManager clientManager, Path filePath) throws IOException {
+        requireNonNull(appointmentManager);
+        requireNonNull(filePath);
+
+        BinaryFile.write(filePath, BinaryModelCodec.APPOINTMENT_CONTENT_TYPE, appointmentManager.getAppointmentList(),
+            BinaryModelCodec::writeAppointment);
+    }
+
+}
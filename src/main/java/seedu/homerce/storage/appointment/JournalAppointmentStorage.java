@@ -0,0 +1,89 @@
+package seedu.homerce.storage.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.util.FileUtil;
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.manager.AppointmentManager;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.storage.journal.Journal;
+
+/**
+ * A {@code AppointmentStorage} that records the changes to the appointments in a journal instead of rewriting the whole
+ * appointments file on every save. The appointments file is only rewritten when the journal is compacted.
+ */
+public class JournalAppointmentStorage implements AppointmentStorage {
+
+    private final AppointmentStorage snapshotStorage;
+    private final Journal<Appointment, JsonAdaptedAppointment> journal;
+
+    /**
+     * Creates a {@code JournalAppointmentStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournalAppointmentStorage(AppointmentStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new Journal<>(snapshotStorage.getAppointmentManagerStorageFilePath(),
+                JsonAdaptedAppointment::new, JsonAdaptedAppointment[].class, JsonAdaptedAppointment::toModelType);
+    }
+
+    @Override
+    public Path getAppointmentManagerStorageFilePath() {
+        return snapshotStorage.getAppointmentManagerStorageFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(ReadOnlyClientManager clientManager,
+            ReadOnlyServiceManager serviceManager) throws DataConversionException, IOException {
+        return readAppointmentManager(getAppointmentManagerStorageFilePath(), clientManager, serviceManager);
+    }
+
+    @Override
+    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(Path filePath,
+            ReadOnlyClientManager clientManager, ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAppointmentManager> snapshot =
+                snapshotStorage.readAppointmentManager(filePath, clientManager, serviceManager);
+        if (!filePath.equals(getAppointmentManagerStorageFilePath())
+                || !FileUtil.isFileExists(journal.getJournalFilePath())) {
+            return snapshot;
+        }
+
+        AppointmentManager appointmentManager = new AppointmentManager(snapshot.orElseGet(AppointmentManager::new));
+        journal.replay(appointmentManager::addAppointment, appointmentManager::removeAppointment,
+                appointmentManager::setAppointments, appointmentManager::setAppointments);
+        return Optional.of(appointmentManager);
+    }
+
+    @Override
+    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager,
+            ReadOnlyClientManager clientManager) throws IOException {
+        saveAppointmentManager(appointmentManager, clientManager, getAppointmentManagerStorageFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAppointmentManager(ReadOnlyAppointmentManager, ReadOnlyClientManager)}.
+     * The snapshot always holds the clients in full, as it is not rewritten when only a client changes.
+     */
+    @Override
+    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager,
+            ReadOnlyClientManager clientManager, Path filePath) throws IOException {
+        requireNonNull(appointmentManager);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAppointmentManagerStorageFilePath())) {
+            snapshotStorage.saveAppointmentManager(appointmentManager, clientManager, filePath);
+            return;
+        }
+        journal.save(appointmentManager.getAppointmentList(), snapshotFilePath ->
+                snapshotStorage.saveAppointmentManager(appointmentManager, new ClientManager(), snapshotFilePath));
+    }
+}
@@ -1,17 +1,30 @@
 package seedu.homerce.storage.appointment;
 
+import java.util.Collections;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.homerce.commons.exceptions.IllegalValueException;
 import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.appointment.TimeOfDay;
 import seedu.homerce.model.client.Client;
+import seedu.homerce.model.client.Email;
+import seedu.homerce.model.client.Name;
+import seedu.homerce.model.client.Phone;
 import seedu.homerce.model.service.Service;
 import seedu.homerce.model.util.attributes.Date;
+import seedu.homerce.storage.ReferenceResolver;
 import seedu.homerce.storage.client.JsonAdaptedClient;
 import seedu.homerce.storage.service.JsonAdaptedService;
 
+/**
+ * Jackson-friendly version of {@link Appointment}.
+ * The client of the appointment is either saved in full, or as a reference to its phone together with its name and
+ * email, which are used if the reference cannot be resolved. The service of the appointment is always saved in full.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedAppointment {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Appointment's %s field is missing!";
 
@@ -19,6 +32,9 @@ public class JsonAdaptedAppointment {
     private final String timeOfDay;
     private final boolean status;
     private final JsonAdaptedClient client;
+    private final String clientPhone;
+    private final String clientName;
+    private final String clientEmail;
     private final JsonAdaptedService service;
 
     /**
@@ -29,23 +45,48 @@ public class JsonAdaptedAppointment {
                                   @JsonProperty("timeOfDay") String timeOfDay,
                                   @JsonProperty("status") boolean status,
                                   @JsonProperty("client") JsonAdaptedClient client,
+                                  @JsonProperty("clientPhone") String clientPhone,
+                                  @JsonProperty("clientName") String clientName,
+                                  @JsonProperty("clientEmail") String clientEmail,
                                   @JsonProperty("service") JsonAdaptedService service) {
         this.date = date;
         this.timeOfDay = timeOfDay;
         this.status = status;
         this.client = client;
+        this.clientPhone = clientPhone;
+        this.clientName = clientName;
+        this.clientEmail = clientEmail;
         this.service = service;
     }
 
     /**
-     * Converts a given {@code Appointment} into this class for Jackson use.
+     * Converts a given {@code Appointment} into this class for Jackson use, saving its client in full.
      */
     public JsonAdaptedAppointment(Appointment source) {
+        this(source, new ReferenceResolver());
+    }
+
+    /**
+     * Converts a given {@code Appointment} into this class for Jackson use, saving its client as a reference if
+     * {@code references} can resolve it.
+     */
+    public JsonAdaptedAppointment(Appointment source, ReferenceResolver references) {
         date = source.getAppointmentDate().toString();
         timeOfDay = source.getAppointmentStartTime().toString();
         status = source.getStatus().isDone();
-        client = new JsonAdaptedClient(source.getClient());
-        service = new JsonAdaptedService((source.getService()));
+        Client sourceClient = source.getClient();
+        if (references.isReferable(sourceClient)) {
+            client = null;
+            clientPhone = sourceClient.getPhone().value;
+            clientName = sourceClient.getName().fullName;
+            clientEmail = sourceClient.getEmail().value;
+        } else {
+            client = new JsonAdaptedClient(sourceClient);
+            clientPhone = null;
+            clientName = null;
+            clientEmail = null;
+        }
+        service = new JsonAdaptedService(source.getService());
     }
 
     /**
@@ -54,6 +95,16 @@ public class JsonAdaptedAppointment {
      * @throws IllegalValueException if there were any data constraints violated in the adapted appointment.
      */
     public Appointment toModelType() throws IllegalValueException {
+        return toModelType(new ReferenceResolver());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted appointment object into the model's {@code Appointment} object,
+     * resolving the reference to its client and sharing its client and service with {@code references}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted appointment.
+     */
+    public Appointment toModelType(ReferenceResolver references) throws IllegalValueException {
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
@@ -71,18 +122,48 @@ public class JsonAdaptedAppointment {
             throw new IllegalValueException(TimeOfDay.MESSAGE_CONSTRAINTS);
         }
         final TimeOfDay modelTimeOfDay = new TimeOfDay(timeOfDay);
-        if (client == null) {
+        final Client modelClient;
+        if (client != null) {
+            modelClient = references.share(client.toModelType());
+        } else if (clientPhone != null) {
+            modelClient = references.resolveClient(toSavedClient());
+        } else {
             throw new IllegalValueException("Appointment's Client field is missing!");
         }
-        final Client modelClient = client.toModelType();
         if (service == null) {
             throw new IllegalValueException("Appointment's Service field is missing!");
         }
-        final Service modelService = service.toModelType();
+        final Service modelService = references.share(service.toModelType());
         Appointment result = new Appointment(modelDate, modelTimeOfDay, modelClient, modelService);
         if (status) {
             result.markDone();
         }
         return result;
     }
+
+    /**
+     * Converts the details saved with the reference to the client of this appointment into the model's
+     * {@code Client} object, which has no tags.
+     */
+    private Client toSavedClient() throws IllegalValueException {
+        if (!Phone.isValidPhone(clientPhone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (clientName == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedClient.MISSING_FIELD_MESSAGE_FORMAT,
+                    Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(clientName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (clientEmail == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedClient.MISSING_FIELD_MESSAGE_FORMAT,
+                    Email.class.getSimpleName()));
+        }
+        if (!Email.isValidEmail(clientEmail)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        return new Client(new Name(clientName), new Phone(clientPhone), new Email(clientEmail),
+                Collections.emptySet());
+    }
 }
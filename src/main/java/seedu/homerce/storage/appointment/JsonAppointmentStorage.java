@@ -13,6 +13,9 @@ import seedu.homerce.commons.exceptions.IllegalValueException;
 import seedu.homerce.commons.util.FileUtil;
 import seedu.homerce.commons.util.JsonUtil;
 import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.storage.ReferenceResolver;
 
 /**
  * A class to access AppointmentManager data stored as a json file on the hard disk.
@@ -32,29 +35,26 @@ public class JsonAppointmentStorage implements AppointmentStorage {
     }
 
     @Override
-    public Optional<ReadOnlyAppointmentManager> readAppointmentManager() throws DataConversionException, IOException {
-        return readAppointmentManager(filePath);
+    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(ReadOnlyClientManager clientManager,
+            ReadOnlyServiceManager serviceManager) throws DataConversionException, IOException {
+        return readAppointmentManager(filePath, clientManager, serviceManager);
     }
 
     /**
-     * Similar to {@link #readAppointmentManager()}.
+     * Similar to {@link #readAppointmentManager(ReadOnlyClientManager, ReadOnlyServiceManager)}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     @Override
-    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(Path filePath) throws DataConversionException,
-            IOException {
+    public Optional<ReadOnlyAppointmentManager> readAppointmentManager(Path filePath,
+            ReadOnlyClientManager clientManager, ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAppointmentManager> jsonAppointmentManager = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAppointmentManager.class);
-        if (!jsonAppointmentManager.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAppointmentManager.get().toModelType());
+            return JsonSerializableAppointmentManager.readModelType(filePath,
+                new ReferenceResolver(clientManager, serviceManager));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -62,17 +62,19 @@ public class JsonAppointmentStorage implements AppointmentStorage {
     }
 
     @Override
-    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager) throws IOException {
-        saveAppointmentManager(appointmentManager, filePath);
+    public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager,
+            ReadOnlyClientManager clientManager) throws IOException {
+        saveAppointmentManager(appointmentManager, clientManager, filePath);
     }
 
     @Override
     public void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager,
-                                       Path filePath) throws IOException {
+            ReadOnlyClientManager clientManager, Path filePath) throws IOException {
         requireNonNull(appointmentManager);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAppointmentManager(appointmentManager), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAppointmentManager(appointmentManager,
+            new ReferenceResolver(clientManager)), filePath);
     }
 }
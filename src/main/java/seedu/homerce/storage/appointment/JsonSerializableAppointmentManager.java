@@ -1,16 +1,22 @@
 package seedu.homerce.storage.appointment;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.JsonUtil;
 import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.manager.AppointmentManager;
 import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
+import seedu.homerce.model.util.uniquelist.exceptions.DuplicateItemException;
+import seedu.homerce.storage.ReferenceResolver;
 
 public class JsonSerializableAppointmentManager {
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "Appointments list contains duplicate appointment(s).";
@@ -31,8 +37,19 @@ public class JsonSerializableAppointmentManager {
      * @param source future changes to this will not affect the created {@code JsonSerializableAppointmentManager}.
      */
     public JsonSerializableAppointmentManager(ReadOnlyAppointmentManager source) {
+        this(source, new ReferenceResolver());
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAppointmentManager} into this class for Jackson use, saving the clients and
+     * services of the appointments as references wherever {@code references} can resolve them.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAppointmentManager}.
+     */
+    public JsonSerializableAppointmentManager(ReadOnlyAppointmentManager source, ReferenceResolver references) {
         appointments.addAll(source.getAppointmentList()
-                .stream().map(JsonAdaptedAppointment::new).collect(Collectors.toList()));
+                .stream().map(appointment -> new JsonAdaptedAppointment(appointment, references))
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -41,13 +58,45 @@ public class JsonSerializableAppointmentManager {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AppointmentManager toModelType() throws IllegalValueException {
-        AppointmentManager appointmentManager = new AppointmentManager();
+        List<Appointment> modelAppointments = new ArrayList<>();
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            if (appointmentManager.hasAppointment(appointment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
-            }
-            appointmentManager.addAppointment(appointment);
+            modelAppointments.add(jsonAdaptedAppointment.toModelType());
+        }
+        return toAppointmentManager(modelAppointments);
+    }
+
+    /**
+     * Reads the appointments in the json file at {@code filePath} one at a time into a new
+     * {@code AppointmentManager}, so that the file is never held in memory as a whole. References to clients and
+     * services are resolved with {@code references}.
+     *
+     * @return the appointment manager, or {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyAppointmentManager> readModelType(Path filePath, ReferenceResolver references)
+            throws DataConversionException, IllegalValueException {
+        List<Appointment> modelAppointments = new ArrayList<>();
+        if (!JsonUtil.readJsonArray(filePath, "appointments", JsonAdaptedAppointment.class,
+            jsonAdaptedAppointment -> modelAppointments.add(jsonAdaptedAppointment.toModelType(references)))) {
+            return Optional.empty();
+        }
+        return Optional.of(toAppointmentManager(modelAppointments));
+    }
+
+    /**
+     * Creates an {@code AppointmentManager} holding all of {@code modelAppointments} at once, rather than adding
+     * and checking them one at a time.
+     *
+     * @throws IllegalValueException if any of the appointments clash.
+     */
+    static AppointmentManager toAppointmentManager(List<Appointment> modelAppointments)
+            throws IllegalValueException {
+        AppointmentManager appointmentManager = new AppointmentManager();
+        try {
+            appointmentManager.setAppointments(modelAppointments);
+        } catch (DuplicateItemException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
         }
         return appointmentManager;
     }
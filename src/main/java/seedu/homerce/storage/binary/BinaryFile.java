@@ -0,0 +1,194 @@
+package seedu.homerce.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.FileUtil;
+
+/**
+ * Reads and writes lists of items in a compact, versioned binary format.
+ *
+ * A file starts with a header holding {@link #MAGIC_NUMBER}, the {@link #FORMAT_VERSION} it was written in and the
+ * type of its content. The header is followed by the string table shared by all records, the number of records and
+ * then the records themselves, each prefixed by its length in bytes.
+ */
+public class BinaryFile {
+
+    public static final int MAGIC_NUMBER = 0x484D5243;
+    public static final int FORMAT_VERSION = 1;
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a Homerce binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "File was written by a newer version of Homerce: %d";
+    public static final String MESSAGE_WRONG_CONTENT = "File contains %s instead of %s";
+    public static final String MESSAGE_INVALID_LENGTH = "File contains a negative length";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFile.class);
+
+    /**
+     * Writes the fields of an item as one record.
+     */
+    @FunctionalInterface
+    public interface RecordEncoder<T> {
+        void encode(T item, BinaryRecordWriter writer) throws IOException;
+    }
+
+    /**
+     * Reads an item from the fields of one record.
+     */
+    @FunctionalInterface
+    public interface RecordDecoder<T> {
+        T decode(BinaryRecordReader reader) throws IllegalValueException;
+    }
+
+    /**
+     * Handles an item as soon as it is read.
+     */
+    @FunctionalInterface
+    public interface ItemHandler<T> {
+        void handle(T item) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the location of the binary file that holds the same data as the file at {@code filePath}.
+     * The extension of the file name, if any, is replaced with {@link #BINARY_FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        Path binaryFileName = Paths.get(baseName + BINARY_FILE_EXTENSION);
+        return filePath.getParent() == null ? binaryFileName : filePath.getParent().resolve(binaryFileName);
+    }
+
+    /**
+     * Writes {@code items} to the file at {@code filePath}, replacing its contents.
+     *
+     * @param contentType name of the type of the items, which is checked when the file is read.
+     */
+    public static <T> void write(Path filePath, String contentType, List<T> items, RecordEncoder<T> encoder)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(items);
+
+        BinaryRecordWriter writer = new BinaryRecordWriter();
+        List<byte[]> records = new ArrayList<>(items.size());
+        for (T item : items) {
+            encoder.encode(item, writer);
+            records.add(writer.finishRecord());
+        }
+
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream output =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(contentType);
+
+            List<String> strings = writer.getStrings();
+            output.writeInt(strings.size());
+            for (String string : strings) {
+                output.writeUTF(string);
+            }
+
+            output.writeInt(records.size());
+            for (byte[] record : records) {
+                output.writeInt(record.length);
+                output.write(record);
+            }
+        }
+    }
+
+    /**
+     * Reads the items in the file at {@code filePath} one record at a time, passing each item to {@code itemHandler}
+     * as soon as it is read.
+     *
+     * @param contentType name of the type of the items, which must match the one the file was written with.
+     * @return false if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if a record holds invalid values, or {@code itemHandler} rejects an item.
+     */
+    public static <T> boolean read(Path filePath, String contentType, RecordDecoder<T> decoder,
+            ItemHandler<T> itemHandler) throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return false;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (input.readInt() != MAGIC_NUMBER) {
+                throw new IOException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = input.readInt();
+            if (version > FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            String fileContentType = input.readUTF();
+            if (!fileContentType.equals(contentType)) {
+                throw new IOException(String.format(MESSAGE_WRONG_CONTENT, fileContentType, contentType));
+            }
+
+            String[] strings = new String[readLength(input)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = input.readUTF();
+            }
+
+            BinaryRecordReader reader = new BinaryRecordReader(strings);
+            byte[] buffer = new byte[0];
+            int recordCount = readLength(input);
+            for (int i = 0; i < recordCount; i++) {
+                int length = readLength(input);
+                if (buffer.length < length) {
+                    buffer = new byte[length];
+                }
+                input.readFully(buffer, 0, length);
+                reader.startRecord(buffer, length);
+                itemHandler.handle(decode(decoder, reader));
+            }
+        } catch (EOFException e) {
+            logger.warning("Binary file " + filePath + " ends unexpectedly");
+            throw new DataConversionException(e);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
+    private static int readLength(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException(MESSAGE_INVALID_LENGTH);
+        }
+        return length;
+    }
+
+    /**
+     * Decodes one item, treating a value rejected by the model as an invalid value in the record.
+     */
+    private static <T> T decode(RecordDecoder<T> decoder, BinaryRecordReader reader) throws IllegalValueException {
+        try {
+            return decoder.decode(reader);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.homerce.storage.binary;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.TimeOfDay;
+import seedu.homerce.model.client.Client;
+import seedu.homerce.model.client.Email;
+import seedu.homerce.model.client.Name;
+import seedu.homerce.model.client.Phone;
+import seedu.homerce.model.expense.Expense;
+import seedu.homerce.model.expense.IsFixed;
+import seedu.homerce.model.revenue.Revenue;
+import seedu.homerce.model.service.Duration;
+import seedu.homerce.model.service.Service;
+import seedu.homerce.model.service.ServiceCode;
+import seedu.homerce.model.util.attributes.Amount;
+import seedu.homerce.model.util.attributes.Date;
+import seedu.homerce.model.util.attributes.Description;
+import seedu.homerce.model.util.attributes.Tag;
+import seedu.homerce.model.util.attributes.Title;
+import seedu.homerce.storage.ReferenceResolver;
+
+/**
+ * Converts the model's items to and from binary records.
+ * The fields of each item are written in a fixed order, and a record of a newer format version may only add fields to
+ * the end of the record. Appointments and revenues hold their clients and services in full, since the string table
+ * already stores each name only once, but the clients and services read back are shared with the managers.
+ */
+public class BinaryModelCodec {
+
+    public static final String CLIENT_CONTENT_TYPE = "clients";
+    public static final String SERVICE_CONTENT_TYPE = "services";
+    public static final String APPOINTMENT_CONTENT_TYPE = "appointments";
+    public static final String REVENUE_CONTENT_TYPE = "revenues";
+    public static final String EXPENSE_CONTENT_TYPE = "expenses";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d-M-yyyy");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    /**
+     * Writes the name, phone, email and tags of {@code client}.
+     */
+    public static void writeClient(Client client, BinaryRecordWriter writer) throws IOException {
+        writer.writeString(client.getName().fullName);
+        writer.writeString(client.getPhone().value);
+        writer.writeString(client.getEmail().value);
+        writer.writeInt(client.getTags().size());
+        for (Tag tag : client.getTags()) {
+            writer.writeString(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a client written by {@link #writeClient(Client, BinaryRecordWriter)}.
+     */
+    public static Client readClient(BinaryRecordReader reader) throws IllegalValueException {
+        Name name = new Name(reader.readString());
+        Phone phone = new Phone(reader.readString());
+        Email email = new Email(reader.readString());
+        int tagCount = reader.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(reader.readString()));
+        }
+        return new Client(name, phone, email, tags);
+    }
+
+    /**
+     * Writes the title, price, duration and service code of {@code service}.
+     */
+    public static void writeService(Service service, BinaryRecordWriter writer) throws IOException {
+        writer.writeString(service.getTitle().value);
+        writer.writeDouble(service.getAmount().toDouble());
+        writer.writeDouble(service.getDuration().value);
+        writer.writeString(service.getServiceCode().value);
+    }
+
+    /**
+     * Reads a service written by {@link #writeService(Service, BinaryRecordWriter)}.
+     */
+    public static Service readService(BinaryRecordReader reader) throws IllegalValueException {
+        Title title = new Title(reader.readString());
+        Amount price = new Amount(reader.readDouble());
+        Duration duration = new Duration(reader.readDouble());
+        String serviceCode = reader.readString();
+        if (!ServiceCode.isValidServiceCode(serviceCode)) {
+            throw new IllegalValueException(ServiceCode.MESSAGE_CONSTRAINTS);
+        }
+        return new Service(title, duration, price).addServiceCode(serviceCode);
+    }
+
+    /**
+     * Writes the date, start time, status, client and service of {@code appointment}.
+     */
+    public static void writeAppointment(Appointment appointment, BinaryRecordWriter writer) throws IOException {
+        writer.writeDate(appointment.getAppointmentDate().getLocalDate());
+        writer.writeTime(appointment.getAppointmentStartTime().getLocalTime());
+        writer.writeBoolean(appointment.getStatus().isDone());
+        writeClient(appointment.getClient(), writer);
+        writeService(appointment.getService(), writer);
+    }
+
+    /**
+     * Reads an appointment written by {@link #writeAppointment(Appointment, BinaryRecordWriter)}, sharing its client
+     * and service with {@code references} where they are identical.
+     */
+    public static Appointment readAppointment(BinaryRecordReader reader, ReferenceResolver references)
+            throws IllegalValueException {
+        Date date = toDate(reader.readDate());
+        TimeOfDay timeOfDay = toTimeOfDay(reader.readTime());
+        boolean isDone = reader.readBoolean();
+        Client client = references.share(readClient(reader));
+        Service service = references.share(readService(reader));
+        Appointment appointment = new Appointment(date, timeOfDay, client, service);
+        if (isDone) {
+            appointment.markDone();
+        }
+        return appointment;
+    }
+
+    /**
+     * Writes the date and service of {@code revenue}.
+     */
+    public static void writeRevenue(Revenue revenue, BinaryRecordWriter writer) throws IOException {
+        writer.writeDate(revenue.getDate().getLocalDate());
+        writeService(revenue.getService(), writer);
+    }
+
+    /**
+     * Reads a revenue written by {@link #writeRevenue(Revenue, BinaryRecordWriter)}, sharing its service with
+     * {@code references} where it is identical.
+     */
+    public static Revenue readRevenue(BinaryRecordReader reader, ReferenceResolver references)
+            throws IllegalValueException {
+        Date date = toDate(reader.readDate());
+        Service service = references.share(readService(reader));
+        return new Revenue(service, date);
+    }
+
+    /**
+     * Writes the value, date, description, tag and whether {@code expense} is fixed and recurring.
+     */
+    public static void writeExpense(Expense expense, BinaryRecordWriter writer) throws IOException {
+        writer.writeDouble(expense.getValue().toDouble());
+        writer.writeDate(expense.getDate().getLocalDate());
+        writer.writeString(expense.getDescription().value);
+        writer.writeString(expense.getTag().tagName);
+        writer.writeBoolean(expense.getIsFixed().value);
+        writer.writeBoolean(expense.getIsFixed().getIsRecurring());
+    }
+
+    /**
+     * Reads an expense written by {@link #writeExpense(Expense, BinaryRecordWriter)}.
+     */
+    public static Expense readExpense(BinaryRecordReader reader) throws IllegalValueException {
+        Amount value = new Amount(reader.readDouble());
+        Date date = toDate(reader.readDate());
+        Description description = new Description(reader.readString());
+        Tag tag = new Tag(reader.readString());
+        boolean isFixed = reader.readBoolean();
+        boolean isRecurring = reader.readBoolean();
+        IsFixed modelIsFixed = isFixed ? new IsFixed("y", isRecurring) : new IsFixed("n");
+        return new Expense(description, modelIsFixed, value, date, tag);
+    }
+
+    private static Date toDate(LocalDate date) {
+        return new Date(date.format(DATE_FORMAT));
+    }
+
+    private static TimeOfDay toTimeOfDay(LocalTime time) {
+        return new TimeOfDay(time.format(TIME_FORMAT));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.homerce.storage.binary;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import seedu.homerce.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the fields of a binary record written by {@link BinaryRecordWriter}, in the order they were written.
+ * Any fields left unread at the end of a record are ignored, so that newer versions of the format can add fields to
+ * the end of a record.
+ */
+public class BinaryRecordReader {
+
+    public static final String MESSAGE_TRUNCATED_RECORD = "Record ends before all of its fields are read";
+    public static final String MESSAGE_INVALID_STRING = "Record refers to a string that is not in the string table";
+    public static final String MESSAGE_INVALID_DATE = "Record contains a date that is out of range";
+    public static final String MESSAGE_INVALID_TIME = "Record contains a time that is not within a day";
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final String[] strings;
+    private ByteBuffer record;
+
+    BinaryRecordReader(String[] strings) {
+        this.strings = strings;
+    }
+
+    /**
+     * Starts reading the record held in the first {@code length} bytes of {@code bytes}.
+     */
+    void startRecord(byte[] bytes, int length) {
+        record = ByteBuffer.wrap(bytes, 0, length);
+    }
+
+    public int readInt() throws IllegalValueException {
+        try {
+            return record.getInt();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED_RECORD);
+        }
+    }
+
+    public double readDouble() throws IllegalValueException {
+        try {
+            return record.getDouble();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED_RECORD);
+        }
+    }
+
+    public boolean readBoolean() throws IllegalValueException {
+        try {
+            return record.get() != 0;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED_RECORD);
+        }
+    }
+
+    public String readString() throws IllegalValueException {
+        int index = readInt();
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_STRING);
+        }
+        return strings[index];
+    }
+
+    public LocalDate readDate() throws IllegalValueException {
+        try {
+            return LocalDate.ofEpochDay(readInt());
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+    }
+
+    public LocalTime readTime() throws IllegalValueException {
+        int minuteOfDay = readInt();
+        if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIME);
+        }
+        return LocalTime.ofSecondOfDay(minuteOfDay * 60L);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.homerce.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the fields of binary records.
+ *
+ * Strings are not written into the records themselves. Each distinct string is added once to a string table that is
+ * shared by all records of a file, and records refer to it by its index in the table. Dates are written as the number
+ * of days since the epoch, and times as the minute of the day.
+ */
+public class BinaryRecordWriter {
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+
+    public void writeInt(int value) throws IOException {
+        record.writeInt(value);
+    }
+
+    public void writeDouble(double value) throws IOException {
+        record.writeDouble(value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        record.writeBoolean(value);
+    }
+
+    /**
+     * Writes a reference to {@code value} in the string table, adding it to the table if it is not there yet.
+     */
+    public void writeString(String value) throws IOException {
+        requireNonNull(value);
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            stringIndexes.put(value, index);
+            strings.add(value);
+        }
+        record.writeInt(index);
+    }
+
+    public void writeDate(LocalDate date) throws IOException {
+        record.writeInt(Math.toIntExact(date.toEpochDay()));
+    }
+
+    public void writeTime(LocalTime time) throws IOException {
+        record.writeInt(time.toSecondOfDay() / 60);
+    }
+
+    /**
+     * Returns the strings referred to by the records written so far, in the order of their indexes.
+     */
+    List<String> getStrings() {
+        return strings;
+    }
+
+    /**
+     * Returns the bytes of the record being written, and starts a new record.
+     */
+    byte[] finishRecord() {
+        byte[] bytes = recordBytes.toByteArray();
+        recordBytes.reset();
+        return bytes;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.homerce.storage.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.storage.binary.BinaryFile;
+import seedu.homerce.storage.binary.BinaryModelCodec;
+
+/**
+ * A class to access ClientManager data stored as a binary file on the hard disk.
+ */
+public class BinaryClientStorage implements ClientStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryClientStorage.class);
+
+    private Path filePath;
+
+    public BinaryClientStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getClientManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyClientManager> readClientManager() throws DataConversionException {
+        return readClientManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readClientManager()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyClientManager> readClientManager(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        ClientManager clientManager = new ClientManager();
+        try {
+            if (!BinaryFile.read(filePath, BinaryModelCodec.CLIENT_CONTENT_TYPE, BinaryModelCodec::readClient,
+                client -> JsonSerializableClientManager.addToModel(clientManager, client))) {
+                return Optional.empty();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(clientManager);
+    }
+
+    @Override
+    public void saveClientManager(ReadOnlyClientManager clientManager) throws IOException {
+        saveClientManager(clientManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveClientManager(ReadOnlyClientManager)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveClientManager(ReadOnlyClientManager clientManager, Path filePath) throws IOException {
+        requireNonNull(clientManager);
+        requireNonNull(filePath);
+
+        BinaryFile.write(filePath, BinaryModelCodec.CLIENT_CONTENT_TYPE, clientManager.getClientList(),
+            BinaryModelCodec::writeClient);
+    }
+
+}
@@ -0,0 +1,76 @@
+package seedu.homerce.storage.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.util.FileUtil;
+import seedu.homerce.model.client.Client;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.storage.journal.Journal;
+
+/**
+ * A {@code ClientStorage} that records the changes to the clients in a journal instead of rewriting the whole
+ * clients file on every save. The clients file is only rewritten when the journal is compacted.
+ */
+public class JournalClientStorage implements ClientStorage {
+
+    private final ClientStorage snapshotStorage;
+    private final Journal<Client, JsonAdaptedClient> journal;
+
+    /**
+     * Creates a {@code JournalClientStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournalClientStorage(ClientStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new Journal<>(snapshotStorage.getClientManagerFilePath(),
+                JsonAdaptedClient::new, JsonAdaptedClient[].class, JsonAdaptedClient::toModelType);
+    }
+
+    @Override
+    public Path getClientManagerFilePath() {
+        return snapshotStorage.getClientManagerFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyClientManager> readClientManager() throws DataConversionException, IOException {
+        return readClientManager(getClientManagerFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyClientManager> readClientManager(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyClientManager> snapshot = snapshotStorage.readClientManager(filePath);
+        if (!filePath.equals(getClientManagerFilePath()) || !FileUtil.isFileExists(journal.getJournalFilePath())) {
+            return snapshot;
+        }
+
+        ClientManager clientManager = new ClientManager(snapshot.orElseGet(ClientManager::new));
+        journal.replay(clientManager::addClient, clientManager::removeClient, clientManager::setClient,
+                clientManager::setClients);
+        return Optional.of(clientManager);
+    }
+
+    @Override
+    public void saveClientManager(ReadOnlyClientManager clientManager) throws IOException {
+        saveClientManager(clientManager, getClientManagerFilePath());
+    }
+
+    @Override
+    public void saveClientManager(ReadOnlyClientManager clientManager, Path filePath) throws IOException {
+        requireNonNull(clientManager);
+        requireNonNull(filePath);
+        if (!filePath.equals(getClientManagerFilePath())) {
+            snapshotStorage.saveClientManager(clientManager, filePath);
+            return;
+        }
+        journal.save(clientManager.getClientList(),
+                snapshotFilePath -> snapshotStorage.saveClientManager(clientManager, snapshotFilePath));
+    }
+}
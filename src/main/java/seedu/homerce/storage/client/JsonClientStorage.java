@@ -45,14 +45,8 @@ public class JsonClientStorage implements ClientStorage {
     public Optional<ReadOnlyClientManager> readClientManager(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableClientManager> jsonClientManager = JsonUtil.readJsonFile(
-                filePath, JsonSerializableClientManager.class);
-        if (!jsonClientManager.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonClientManager.get().toModelType());
+            return JsonSerializableClientManager.readModelType(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -1,14 +1,18 @@
 package seedu.homerce.storage.client;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.JsonUtil;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.manager.ClientManager;
 import seedu.homerce.model.manager.ReadOnlyClientManager;
@@ -48,13 +52,39 @@ class JsonSerializableClientManager {
     public ClientManager toModelType() throws IllegalValueException {
         ClientManager clientManager = new ClientManager();
         for (JsonAdaptedClient jsonAdaptedClient : clients) {
-            Client client = jsonAdaptedClient.toModelType();
-            if (clientManager.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
-            }
-            clientManager.addClient(client);
+            addToModel(clientManager, jsonAdaptedClient.toModelType());
         }
         return clientManager;
     }
 
+    /**
+     * Reads the clients in the json file at {@code filePath} one at a time into a new {@code ClientManager}, so that
+     * the file is never held in memory as a whole.
+     *
+     * @return the client manager, or {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyClientManager> readModelType(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        ClientManager clientManager = new ClientManager();
+        if (!JsonUtil.readJsonArray(filePath, "clients", JsonAdaptedClient.class,
+            jsonAdaptedClient -> addToModel(clientManager, jsonAdaptedClient.toModelType()))) {
+            return Optional.empty();
+        }
+        return Optional.of(clientManager);
+    }
+
+    /**
+     * Adds {@code client}, read from a data file, to {@code clientManager}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToModel(ClientManager clientManager, Client client) throws IllegalValueException {
+        if (clientManager.hasClient(client)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+        }
+        clientManager.addClient(client);
+    }
+
 }
@@ -0,0 +1,85 @@
+package seedu.homerce.storage.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.model.expense.Expense;
+import seedu.homerce.model.manager.ReadOnlyExpenseTracker;
+import seedu.homerce.storage.binary.BinaryFile;
+import seedu.homerce.storage.binary.BinaryModelCodec;
+
+/**
+ * A class to access ExpenseTracker data stored as a binary file on the hard disk.
+ */
+public class BinaryExpenseStorage implements ExpenseStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryExpenseStorage.class);
+
+    private Path filePath;
+
+    public BinaryExpenseStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getExpenseTrackerStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseTracker> readExpenseTracker() throws DataConversionException {
+        return readExpenseTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readExpenseTracker()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyExpenseTracker> readExpenseTracker(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        List<Expense> expenses = new ArrayList<>();
+        try {
+            if (!BinaryFile.read(filePath, BinaryModelCodec.EXPENSE_CONTENT_TYPE, BinaryModelCodec::readExpense,
+                expense -> JsonSerializableExpenseTracker.addToList(expenses, expense))) {
+                return Optional.empty();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(JsonSerializableExpenseTracker.toExpenseTracker(expenses));
+    }
+
+    @Override
+    public void saveExpenseTracker(ReadOnlyExpenseTracker expenseTracker) throws IOException {
+        saveExpenseTracker(expenseTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveExpenseTracker(ReadOnlyExpenseTracker)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveExpenseTracker(ReadOnlyExpenseTracker expenseTracker, Path filePath) throws IOException {
+        requireNonNull(expenseTracker);
+        requireNonNull(filePath);
+
+        BinaryFile.write(filePath, BinaryModelCodec.EXPENSE_CONTENT_TYPE, expenseTracker.getExpenseList(),
+            BinaryModelCodec::writeExpense);
+    }
+
+}
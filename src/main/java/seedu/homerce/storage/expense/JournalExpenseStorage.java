@@ -0,0 +1,77 @@
+package seedu.homerce.storage.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.util.FileUtil;
+import seedu.homerce.model.expense.Expense;
+import seedu.homerce.model.manager.ExpenseTracker;
+import seedu.homerce.model.manager.ReadOnlyExpenseTracker;
+import seedu.homerce.storage.journal.Journal;
+
+/**
+ * A {@code ExpenseStorage} that records the changes to the expenses in a journal instead of rewriting the whole
+ * expenses file on every save. The expenses file is only rewritten when the journal is compacted.
+ */
+public class JournalExpenseStorage implements ExpenseStorage {
+
+    private final ExpenseStorage snapshotStorage;
+    private final Journal<Expense, JsonAdaptedExpense> journal;
+
+    /**
+     * Creates a {@code JournalExpenseStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournalExpenseStorage(ExpenseStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new Journal<>(snapshotStorage.getExpenseTrackerStorageFilePath(),
+                JsonAdaptedExpense::new, JsonAdaptedExpense[].class, JsonAdaptedExpense::toModelType);
+    }
+
+    @Override
+    public Path getExpenseTrackerStorageFilePath() {
+        return snapshotStorage.getExpenseTrackerStorageFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseTracker> readExpenseTracker() throws DataConversionException, IOException {
+        return readExpenseTracker(getExpenseTrackerStorageFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenseTracker> readExpenseTracker(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyExpenseTracker> snapshot = snapshotStorage.readExpenseTracker(filePath);
+        if (!filePath.equals(getExpenseTrackerStorageFilePath())
+                || !FileUtil.isFileExists(journal.getJournalFilePath())) {
+            return snapshot;
+        }
+
+        ExpenseTracker expenseTracker = new ExpenseTracker(snapshot.orElseGet(ExpenseTracker::new));
+        journal.replay(expenseTracker::addExpense, expenseTracker::removeExpense, expenseTracker::setExpense,
+                expenseTracker::setExpenses);
+        return Optional.of(expenseTracker);
+    }
+
+    @Override
+    public void saveExpenseTracker(ReadOnlyExpenseTracker expenseTracker) throws IOException {
+        saveExpenseTracker(expenseTracker, getExpenseTrackerStorageFilePath());
+    }
+
+    @Override
+    public void saveExpenseTracker(ReadOnlyExpenseTracker expenseTracker, Path filePath) throws IOException {
+        requireNonNull(expenseTracker);
+        requireNonNull(filePath);
+        if (!filePath.equals(getExpenseTrackerStorageFilePath())) {
+            snapshotStorage.saveExpenseTracker(expenseTracker, filePath);
+            return;
+        }
+        journal.save(expenseTracker.getExpenseList(),
+                snapshotFilePath -> snapshotStorage.saveExpenseTracker(expenseTracker, snapshotFilePath));
+    }
+}
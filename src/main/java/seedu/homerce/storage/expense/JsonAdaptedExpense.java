@@ -51,7 +51,7 @@ public class JsonAdaptedExpense {
      * Converts a given {@code Expense} into this class for Jackson use.
      */
     public JsonAdaptedExpense(Expense source) {
-        value = source.getValue().value;
+        value = source.getValue().toBigDecimal();
         date = source.getDate().toString();
         description = source.getDescription().value;
         isFixed = source.getIsFixed().value ? "y" : "n";
@@ -47,14 +47,8 @@ public class JsonExpenseStorage implements ExpenseStorage {
             IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableExpenseTracker> jsonExpenseTracker = JsonUtil.readJsonFile(
-            filePath, JsonSerializableExpenseTracker.class);
-        if (!jsonExpenseTracker.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonExpenseTracker.get().toModelType());
+            return JsonSerializableExpenseTracker.readModelType(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
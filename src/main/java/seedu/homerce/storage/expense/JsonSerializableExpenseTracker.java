@@ -1,18 +1,23 @@
 package seedu.homerce.storage.expense;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.JsonUtil;
 import seedu.homerce.model.expense.Expense;
+import seedu.homerce.model.expense.ExpenseDefaultComparator;
 import seedu.homerce.model.expense.IsFixed;
 import seedu.homerce.model.manager.ExpenseTracker;
 import seedu.homerce.model.manager.ReadOnlyExpenseTracker;
@@ -53,25 +58,62 @@ public class JsonSerializableExpenseTracker {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ExpenseTracker toModelType() throws IllegalValueException {
-        ExpenseTracker expenseTracker = new ExpenseTracker();
-        LocalDate date = LocalDate.now();
+        List<Expense> modelExpenses = new ArrayList<>();
         for (JsonAdaptedExpense jsonAdaptedExpense : expenses) {
-            Expense expense = jsonAdaptedExpense.toModelType();
-            expenseTracker.addExpense(expense);
-            while (isRecurringExpense(expense, date) && !isSameMonth(expense, date)) {
-                expense.getIsFixed().markAsRecurred();
-                Expense duplicateExpense = createDuplicateExpense(expense, date);
-                expenseTracker.addExpense(duplicateExpense);
-                expense = duplicateExpense;
-            }
+            addToList(modelExpenses, jsonAdaptedExpense.toModelType());
+        }
+        return toExpenseTracker(modelExpenses);
+    }
+
+    /**
+     * Reads the expenses in the json file at {@code filePath} one at a time into a new {@code ExpenseTracker}, so that
+     * the file is never held in memory as a whole.
+     *
+     * @return the expense tracker, or {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyExpenseTracker> readModelType(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        List<Expense> modelExpenses = new ArrayList<>();
+        if (!JsonUtil.readJsonArray(filePath, "expenses", JsonAdaptedExpense.class,
+            jsonAdaptedExpense -> addToList(modelExpenses, jsonAdaptedExpense.toModelType()))) {
+            return Optional.empty();
+        }
+        return Optional.of(toExpenseTracker(modelExpenses));
+    }
+
+    /**
+     * Adds {@code expense}, read from a data file, to {@code modelExpenses}, together with any of its recurrences
+     * up to the current month.
+     */
+    static void addToList(List<Expense> modelExpenses, Expense expense) {
+        LocalDate date = LocalDate.now();
+        modelExpenses.add(expense);
+        while (isRecurringExpense(expense, date) && !isSameMonth(expense, date)) {
+            expense.getIsFixed().markAsRecurred();
+            Expense duplicateExpense = createDuplicateExpense(expense, date);
+            modelExpenses.add(duplicateExpense);
+            expense = duplicateExpense;
         }
+    }
+
+    /**
+     * Creates an {@code ExpenseTracker} holding all of {@code modelExpenses} at once, sorting them a single time
+     * rather than after each expense is added.
+     */
+    static ExpenseTracker toExpenseTracker(List<Expense> modelExpenses) {
+        List<Expense> sortedExpenses = new ArrayList<>(modelExpenses);
+        sortedExpenses.sort(new ExpenseDefaultComparator());
+        ExpenseTracker expenseTracker = new ExpenseTracker();
+        expenseTracker.setExpenses(sortedExpenses);
         return expenseTracker;
     }
 
     /**
      * Checks if the given expense is recurring and if it should be duplicated.
      */
-    private boolean isRecurringExpense(Expense expense, LocalDate date) {
+    private static boolean isRecurringExpense(Expense expense, LocalDate date) {
         boolean expenseIsRecurring = expense.getIsFixed().value && expense.getIsFixed().getIsRecurring();
         if (!expenseIsRecurring) {
             return false;
@@ -87,12 +129,12 @@ public class JsonSerializableExpenseTracker {
     /**
      * Creates a duplicate expense of the original fixed recurring expense, with a date one month later.
      */
-    public Expense createDuplicateExpense(Expense expense, LocalDate date) {
+    public static Expense createDuplicateExpense(Expense expense, LocalDate date) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
         Description duplicateDescription = new Description(expense.getDescription().value);
         IsFixed duplicateIsFixed = new IsFixed("y");
-        Amount duplicateValue = new Amount(expense.getValue().value.doubleValue());
+        Amount duplicateValue = expense.getValue();
         Date duplicateDate = new Date(expense.getDate().getLocalDate().plusMonths(1).format(formatter));
         Tag duplicateTag = new Tag(expense.getTag().tagName);
 
@@ -102,7 +144,7 @@ public class JsonSerializableExpenseTracker {
     /**
      * Checks if the recurring expense was made in the current month.
      */
-    public boolean isSameMonth(Expense expense, LocalDate date) {
+    public static boolean isSameMonth(Expense expense, LocalDate date) {
         Month expenseMonth = expense.getDate().getMonth();
         if (expenseMonth != date.getMonth()) {
             return false;
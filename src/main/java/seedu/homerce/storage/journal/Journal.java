@@ -0,0 +1,302 @@
+package seedu.homerce.storage.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.FileUtil;
+import seedu.homerce.commons.util.JsonUtil;
+
+/**
+ * An append-only log of the changes made to a list of items since the list was last saved as a snapshot.
+ *
+ * Once a list is tracked, every change to it is recorded as one line of the form {@code OPERATION [items]}, where
+ * the items are stored in their json adapted form. Saving the list only appends the recorded lines to the journal
+ * file, and the snapshot is rewritten only when the journal has grown past {@link #COMPACTION_THRESHOLD} lines.
+ * Reading the list replays the journal on top of the snapshot.
+ *
+ * The first line of the journal file holds the checksum of the snapshot that the journal follows. A new snapshot is
+ * written to a temporary file and moved over the old one before the journal is cleared, so if the application stops
+ * in between, the journal left behind belongs to an older snapshot and is discarded instead of replayed.
+ *
+ * @param <T> type of the items in the list.
+ * @param <A> json adapted type of the items.
+ */
+public class Journal<T, A> {
+
+    /** Number of records the journal can hold before it is folded into the snapshot. */
+    public static final int COMPACTION_THRESHOLD = 500;
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private static final String SNAPSHOT_HEADER_PREFIX = "SNAPSHOT ";
+
+    private static final Logger logger = LogsCenter.getLogger(Journal.class);
+
+    /**
+     * Operations that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD, REMOVE, SET, RESET
+    }
+
+    /**
+     * Converts a json adapted item back to its model type.
+     */
+    @FunctionalInterface
+    public interface ModelTypeConverter<A, T> {
+        T toModelType(A adaptedItem) throws IllegalValueException;
+    }
+
+    /**
+     * Writes a full snapshot of the tracked list to the given file.
+     */
+    @FunctionalInterface
+    public interface SnapshotWriter {
+        void writeSnapshot(Path filePath) throws IOException;
+    }
+
+    private final Path snapshotFilePath;
+    private final Path journalFilePath;
+    private final Function<T, A> adapter;
+    private final Class<A[]> adaptedArrayClass;
+    private final ModelTypeConverter<A, T> converter;
+    private final ListChangeListener<T> changeRecorder = this::recordChange;
+    private final List<String> pendingRecords = new ArrayList<>();
+
+    private ObservableList<T> trackedList;
+    private int savedRecordCount;
+
+    /**
+     * Creates a journal for the snapshot stored at {@code snapshotFilePath}.
+     *
+     * @param snapshotFilePath location of the snapshot that the journal belongs to.
+     * @param adapter converts an item to its json adapted form.
+     * @param adaptedArrayClass array class of the json adapted type, used to read the items of a record.
+     * @param converter converts a json adapted item back to its model type.
+     */
+    public Journal(Path snapshotFilePath, Function<T, A> adapter, Class<A[]> adaptedArrayClass,
+                   ModelTypeConverter<A, T> converter) {
+        requireNonNull(snapshotFilePath);
+        this.snapshotFilePath = snapshotFilePath;
+        this.journalFilePath = getJournalFilePath(snapshotFilePath);
+        this.adapter = adapter;
+        this.adaptedArrayClass = adaptedArrayClass;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return Paths.get(snapshotFilePath.toString() + JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Saves {@code list}.
+     * If {@code list} is already tracked by this journal, only the changes recorded since the last save are appended
+     * to the journal file. Otherwise, or if the journal is due for compaction, a full snapshot is written with
+     * {@code snapshotWriter} to a temporary file that then replaces the snapshot, the journal file is cleared and
+     * {@code list} is tracked from then on.
+     *
+     * @throws IOException if there was any problem writing to the journal or the snapshot.
+     */
+    public void save(ObservableList<T> list, SnapshotWriter snapshotWriter) throws IOException {
+        requireNonNull(list);
+        if (list == trackedList && savedRecordCount + pendingRecords.size() < COMPACTION_THRESHOLD) {
+            flush();
+            return;
+        }
+        Path temporaryFilePath = Paths.get(snapshotFilePath.toString() + TEMPORARY_FILE_EXTENSION);
+        snapshotWriter.writeSnapshot(temporaryFilePath);
+        long snapshotChecksum = getChecksum(temporaryFilePath);
+        Files.move(temporaryFilePath, snapshotFilePath,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        track(list);
+        Files.write(journalFilePath, List.of(SNAPSHOT_HEADER_PREFIX + snapshotChecksum), StandardCharsets.UTF_8);
+        savedRecordCount = 0;
+    }
+
+    /**
+     * Replays the records in the journal file in the order they were recorded.
+     * Nothing is replayed if the journal does not follow the current snapshot. A record that can no longer be applied
+     * is skipped. Replay stops at the first record that cannot be read, such as one that was only partially written.
+     *
+     * @return the number of records replayed.
+     * @throws IOException if there was any problem reading the journal file.
+     */
+    public int replay(Consumer<T> add, Consumer<T> remove, BiConsumer<T, T> set, Consumer<List<T>> reset)
+            throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        int replayedCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            if (!followsSnapshot(reader.readLine())) {
+                logger.warning("Discarded " + journalFilePath + " as it does not follow the snapshot "
+                        + snapshotFilePath);
+                return 0;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Operation operation;
+                List<T> items;
+                try {
+                    int separatorIndex = line.indexOf(' ');
+                    operation = Operation.valueOf(line.substring(0, separatorIndex));
+                    items = decode(line.substring(separatorIndex + 1));
+                } catch (IllegalArgumentException | IndexOutOfBoundsException | DataConversionException e) {
+                    logger.warning("Stopped replaying " + journalFilePath + " at unreadable record: " + line);
+                    break;
+                }
+
+                try {
+                    apply(operation, items, add, remove, set, reset);
+                    replayedCount++;
+                } catch (RuntimeException e) {
+                    logger.warning("Skipped journal record that can no longer be applied: " + line);
+                }
+            }
+        }
+        logger.fine("Replayed " + replayedCount + " records from " + journalFilePath);
+        return replayedCount;
+    }
+
+    /**
+     * Returns true if {@code header} holds the checksum of the current snapshot.
+     */
+    private boolean followsSnapshot(String header) throws IOException {
+        if (header == null || !header.startsWith(SNAPSHOT_HEADER_PREFIX)
+                || !FileUtil.isFileExists(snapshotFilePath)) {
+            return false;
+        }
+        return header.equals(SNAPSHOT_HEADER_PREFIX + getChecksum(snapshotFilePath));
+    }
+
+    private static long getChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return checksum.getValue();
+    }
+
+    private void apply(Operation operation, List<T> items, Consumer<T> add, Consumer<T> remove,
+                       BiConsumer<T, T> set, Consumer<List<T>> reset) {
+        switch (operation) {
+        case ADD:
+            items.forEach(add);
+            break;
+        case REMOVE:
+            items.forEach(remove);
+            break;
+        case SET:
+            set.accept(items.get(0), items.get(1));
+            break;
+        case RESET:
+            reset.accept(items);
+            break;
+        default:
+            throw new AssertionError(operation);
+        }
+    }
+
+    /**
+     * Appends the changes recorded since the last save to the journal file.
+     */
+    private void flush() throws IOException {
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        FileUtil.appendLinesToFile(journalFilePath, pendingRecords);
+        savedRecordCount += pendingRecords.size();
+        pendingRecords.clear();
+    }
+
+    private void track(ObservableList<T> list) {
+        if (trackedList != list) {
+            if (trackedList != null) {
+                trackedList.removeListener(changeRecorder);
+            }
+            list.addListener(changeRecorder);
+            trackedList = list;
+        }
+        pendingRecords.clear();
+    }
+
+    /**
+     * Records a change to the tracked list.
+     * Permutations are not recorded, as the managers restore the order of their items when records are replayed.
+     */
+    private void recordChange(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            int sizeBeforeChange = change.getList().size() - change.getAddedSize() + change.getRemovedSize();
+            if (change.getFrom() == 0 && change.getRemovedSize() == sizeBeforeChange) {
+                record(Operation.RESET, change.getAddedSubList());
+            } else if (change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                record(Operation.SET, Arrays.asList(change.getRemoved().get(0), change.getAddedSubList().get(0)));
+            } else {
+                if (change.wasRemoved()) {
+                    record(Operation.REMOVE, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    record(Operation.ADD, change.getAddedSubList());
+                }
+            }
+        }
+    }
+
+    private void record(Operation operation, List<? extends T> items) {
+        List<A> adaptedItems = items.stream().map(adapter).collect(Collectors.toList());
+        try {
+            pendingRecords.add(operation + " " + JsonUtil.toCompactJsonString(adaptedItems));
+        } catch (IOException e) {
+            // Adapted items only hold strings and numbers, so they can always be converted to json.
+            throw new AssertionError(e);
+        }
+    }
+
+    private List<T> decode(String json) throws DataConversionException {
+        try {
+            List<T> items = new ArrayList<>();
+            for (A adaptedItem : JsonUtil.fromJsonString(json, adaptedArrayClass)) {
+                items.add(converter.toModelType(adaptedItem));
+            }
+            return items;
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+}
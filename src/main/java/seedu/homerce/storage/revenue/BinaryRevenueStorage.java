@@ -0,0 +1,90 @@
+package seedu.homerce.storage.revenue;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.model.manager.ReadOnlyRevenueTracker;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.model.revenue.Revenue;
+import seedu.homerce.storage.ReferenceResolver;
+import seedu.homerce.storage.binary.BinaryFile;
+import seedu.homerce.storage.binary.BinaryModelCodec;
+
+/**
+ * A class to access RevenueTracker data stored as a binary file on the hard disk.
+ */
+public class BinaryRevenueStorage implements RevenueStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRevenueStorage.class);
+
+    private Path filePath;
+
+    public BinaryRevenueStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getRevenueTrackerStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(ReadOnlyServiceManager serviceManager)
+            throws DataConversionException {
+        return readRevenueTracker(filePath, serviceManager);
+    }
+
+    /**
+     * Similar to {@link #readRevenueTracker(ReadOnlyServiceManager)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(Path filePath, ReadOnlyServiceManager serviceManager)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        ReferenceResolver references = new ReferenceResolver(serviceManager);
+        List<Revenue> revenues = new ArrayList<>();
+        try {
+            if (!BinaryFile.read(filePath, BinaryModelCodec.REVENUE_CONTENT_TYPE,
+                reader -> BinaryModelCodec.readRevenue(reader, references), revenues::add)) {
+                return Optional.empty();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(JsonSerializableRevenueTracker.toRevenueTracker(revenues));
+    }
+
+    @Override
+    public void saveRevenueTracker(ReadOnlyRevenueTracker revenueTracker) throws IOException {
+        saveRevenueTracker(revenueTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveRevenueTracker(ReadOnlyRevenueTracker)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveRevenueTracker(ReadOnlyRevenueTracker revenueTracker, Path filePath) throws IOException {
+        requireNonNull(revenueTracker);
+        requireNonNull(filePath);
+
+        BinaryFile.write(filePath, BinaryModelCodec.REVENUE_CONTENT_TYPE, revenueTracker.getRevenueList(),
+            BinaryModelCodec::writeRevenue);
+    }
+
+}
@@ -0,0 +1,81 @@
+package seedu.homerce.storage.revenue;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.util.FileUtil;
+import seedu.homerce.model.manager.ReadOnlyRevenueTracker;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.model.manager.RevenueTracker;
+import seedu.homerce.model.revenue.Revenue;
+import seedu.homerce.storage.journal.Journal;
+
+/**
+ * A {@code RevenueStorage} that records the changes to the revenues in a journal instead of rewriting the whole
+ * revenues file on every save. The revenues file is only rewritten when the journal is compacted.
+ */
+public class JournalRevenueStorage implements RevenueStorage {
+
+    private final RevenueStorage snapshotStorage;
+    private final Journal<Revenue, JsonAdaptedRevenue> journal;
+
+    /**
+     * Creates a {@code JournalRevenueStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournalRevenueStorage(RevenueStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new Journal<>(snapshotStorage.getRevenueTrackerStorageFilePath(),
+                JsonAdaptedRevenue::new, JsonAdaptedRevenue[].class, JsonAdaptedRevenue::toModelType);
+    }
+
+    @Override
+    public Path getRevenueTrackerStorageFilePath() {
+        return snapshotStorage.getRevenueTrackerStorageFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException {
+        return readRevenueTracker(getRevenueTrackerStorageFilePath(), serviceManager);
+    }
+
+    @Override
+    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(Path filePath, ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyRevenueTracker> snapshot = snapshotStorage.readRevenueTracker(filePath, serviceManager);
+        if (!filePath.equals(getRevenueTrackerStorageFilePath())
+                || !FileUtil.isFileExists(journal.getJournalFilePath())) {
+            return snapshot;
+        }
+
+        RevenueTracker revenueTracker = new RevenueTracker(snapshot.orElseGet(RevenueTracker::new));
+        journal.replay(revenueTracker::addRevenue, revenueTracker::removeRevenue, (target, edited) -> {
+            revenueTracker.removeRevenue(target);
+            revenueTracker.addRevenue(edited);
+        }, revenueTracker::setRevenues);
+        return Optional.of(revenueTracker);
+    }
+
+    @Override
+    public void saveRevenueTracker(ReadOnlyRevenueTracker revenueTracker) throws IOException {
+        saveRevenueTracker(revenueTracker, getRevenueTrackerStorageFilePath());
+    }
+
+    @Override
+    public void saveRevenueTracker(ReadOnlyRevenueTracker revenueTracker, Path filePath) throws IOException {
+        requireNonNull(revenueTracker);
+        requireNonNull(filePath);
+        if (!filePath.equals(getRevenueTrackerStorageFilePath())) {
+            snapshotStorage.saveRevenueTracker(revenueTracker, filePath);
+            return;
+        }
+        journal.save(revenueTracker.getRevenueList(),
+                snapshotFilePath -> snapshotStorage.saveRevenueTracker(revenueTracker, snapshotFilePath));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.homerce.storage.revenue;
 import java.math.BigDecimal;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.homerce.commons.exceptions.IllegalValueException;
@@ -13,7 +14,13 @@ import seedu.homerce.model.service.ServiceCode;
 import seedu.homerce.model.util.attributes.Amount;
 import seedu.homerce.model.util.attributes.Date;
 import seedu.homerce.model.util.attributes.Title;
+import seedu.homerce.storage.ReferenceResolver;
 
+/**
+ * Jackson-friendly version of {@link Revenue}.
+ * The service of the revenue is always saved in full, as all its details are needed for history.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedRevenue {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Revenue's %s field is missing!";
@@ -33,7 +40,7 @@ public class JsonAdaptedRevenue {
                               @JsonProperty("serviceCode") String serviceCode,
                               @JsonProperty("date") String date) {
         this.title = title;
-        this.price = new BigDecimal(price);
+        this.price = price == null ? null : new BigDecimal(price);
         this.duration = duration;
         this.serviceCode = serviceCode;
         this.date = date;
@@ -44,7 +51,7 @@ public class JsonAdaptedRevenue {
      */
     public JsonAdaptedRevenue(Revenue source) {
         title = source.getService().getTitle().value;
-        price = source.getService().getAmount().value;
+        price = source.getService().getAmount().toBigDecimal();
         duration = source.getService().getDuration().value;
         serviceCode = source.getService().getServiceCode().value;
         date = source.getDate().toString();
@@ -56,6 +63,40 @@ public class JsonAdaptedRevenue {
      * @throws IllegalValueException if there were any data constraints violated in the adapted revenue.
      */
     public Revenue toModelType() throws IllegalValueException {
+        return toModelType(new ReferenceResolver());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted revenue object into the model's {@code Revenue} object, sharing its
+     * service with {@code references}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted revenue.
+     */
+    public Revenue toModelType(ReferenceResolver references) throws IllegalValueException {
+        if (serviceCode == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                ServiceCode.class.getSimpleName()));
+        }
+        if (!ServiceCode.isValidServiceCode(serviceCode)) {
+            throw new IllegalValueException(ServiceCode.MESSAGE_CONSTRAINTS);
+        }
+
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
+        }
+
+        if (!Date.isValidDate(date)) {
+            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+        }
+        final Date modelDate = new Date(date);
+
+        return new Revenue(references.share(toModelService()), modelDate);
+    }
+
+    /**
+     * Converts the service fields of this revenue into the model's {@code Service} object.
+     */
+    private Service toModelService() throws IllegalValueException {
         if (title == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName()));
         }
@@ -81,26 +122,8 @@ public class JsonAdaptedRevenue {
         }
         final Amount modelAmount = new Amount(price.doubleValue());
 
-        if (serviceCode == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                ServiceCode.class.getSimpleName()));
-        }
-        if (!ServiceCode.isValidServiceCode(serviceCode)) {
-            throw new IllegalValueException(ServiceCode.MESSAGE_CONSTRAINTS);
-        }
-
-        if (date == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
-        }
-
-        if (!Date.isValidDate(date)) {
-            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
-        }
-        final Date modelDate = new Date(date);
-
         Service service = new Service(modelTitle, modelDuration, modelAmount);
         service.addServiceCode(serviceCode);
-
-        return new Revenue(service, modelDate);
+        return service;
     }
 }
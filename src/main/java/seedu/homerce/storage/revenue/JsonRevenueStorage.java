@@ -13,6 +13,8 @@ import seedu.homerce.commons.exceptions.IllegalValueException;
 import seedu.homerce.commons.util.FileUtil;
 import seedu.homerce.commons.util.JsonUtil;
 import seedu.homerce.model.manager.ReadOnlyRevenueTracker;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.storage.ReferenceResolver;
 import seedu.homerce.storage.service.JsonServiceStorage;
 
 /**
@@ -33,29 +35,25 @@ public class JsonRevenueStorage implements RevenueStorage {
     }
 
     @Override
-    public Optional<ReadOnlyRevenueTracker> readRevenueTracker() throws DataConversionException, IOException {
-        return readRevenueTracker(filePath);
+    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException {
+        return readRevenueTracker(filePath, serviceManager);
     }
 
     /**
-     * Similar to {@link #readRevenueTracker()}.
+     * Similar to {@link #readRevenueTracker(ReadOnlyServiceManager)}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     @Override
-    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(Path filePath) throws DataConversionException,
-        IOException {
+    public Optional<ReadOnlyRevenueTracker> readRevenueTracker(Path filePath, ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableRevenueTracker> jsonRevenueTracker = JsonUtil.readJsonFile(
-            filePath, JsonSerializableRevenueTracker.class);
-        if (jsonRevenueTracker.isEmpty()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonRevenueTracker.get().toModelType());
+            return JsonSerializableRevenueTracker.readModelType(filePath,
+                new ReferenceResolver(serviceManager));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -1,17 +1,23 @@
 package seedu.homerce.storage.revenue;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.JsonUtil;
 import seedu.homerce.model.manager.ReadOnlyRevenueTracker;
 import seedu.homerce.model.manager.RevenueTracker;
 import seedu.homerce.model.revenue.Revenue;
+import seedu.homerce.model.revenue.RevenueDefaultComparator;
+import seedu.homerce.storage.ReferenceResolver;
 
 /**
  * An Immutable revenueTracker that is serializable to JSON format.
@@ -44,11 +50,40 @@ public class JsonSerializableRevenueTracker {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public RevenueTracker toModelType() throws IllegalValueException {
-        RevenueTracker revenueTracker = new RevenueTracker();
+        List<Revenue> modelRevenues = new ArrayList<>();
         for (JsonAdaptedRevenue jsonAdaptedRevenue : revenues) {
-            Revenue revenue = jsonAdaptedRevenue.toModelType();
-            revenueTracker.addRevenue(revenue);
+            modelRevenues.add(jsonAdaptedRevenue.toModelType());
         }
+        return toRevenueTracker(modelRevenues);
+    }
+
+    /**
+     * Reads the revenues in the json file at {@code filePath} one at a time into a new {@code RevenueTracker}, so that
+     * the file is never held in memory as a whole. Services are shared with {@code references}.
+     *
+     * @return the revenue tracker, or {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyRevenueTracker> readModelType(Path filePath, ReferenceResolver references)
+            throws DataConversionException, IllegalValueException {
+        List<Revenue> modelRevenues = new ArrayList<>();
+        if (!JsonUtil.readJsonArray(filePath, "revenues", JsonAdaptedRevenue.class,
+            jsonAdaptedRevenue -> modelRevenues.add(jsonAdaptedRevenue.toModelType(references)))) {
+            return Optional.empty();
+        }
+        return Optional.of(toRevenueTracker(modelRevenues));
+    }
+
+    /**
+     * Creates a {@code RevenueTracker} holding all of {@code modelRevenues} at once, sorting them a single time
+     * rather than after each revenue is added.
+     */
+    static RevenueTracker toRevenueTracker(List<Revenue> modelRevenues) {
+        List<Revenue> sortedRevenues = new ArrayList<>(modelRevenues);
+        sortedRevenues.sort(new RevenueDefaultComparator());
+        RevenueTracker revenueTracker = new RevenueTracker();
+        revenueTracker.setRevenues(sortedRevenues);
         return revenueTracker;
     }
 
@@ -6,9 +6,11 @@ import java.util.Optional;
 
 import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.model.manager.ReadOnlyRevenueTracker;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
 
 /**
  * Represents a storage for {@link seedu.homerce.model.manager.RevenueTracker}.
+ * The services of the revenues read back are shared with the given service manager where they are identical.
  */
 public interface RevenueStorage {
 
@@ -21,15 +23,18 @@ public interface RevenueStorage {
      * Returns RevenueTracker data as a {@link seedu.homerce.model.manager.ReadOnlyRevenueTracker}.
      * Returns {@code Optional.empty()} if storage file is not found.
      *
+     * @param serviceManager services that the services of the revenues are shared with. Cannot be null.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    Optional<ReadOnlyRevenueTracker> readRevenueTracker() throws DataConversionException, IOException;
+    Optional<ReadOnlyRevenueTracker> readRevenueTracker(ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException;
 
     /**
-     * @see #readRevenueTracker()
+     * @see #readRevenueTracker(ReadOnlyServiceManager)
      */
-    Optional<ReadOnlyRevenueTracker> readRevenueTracker(Path filePath) throws DataConversionException, IOException;
+    Optional<ReadOnlyRevenueTracker> readRevenueTracker(Path filePath, ReadOnlyServiceManager serviceManager)
+            throws DataConversionException, IOException;
 
     /**
      * Saves the given {@link ReadOnlyRevenueTracker} to the storage.
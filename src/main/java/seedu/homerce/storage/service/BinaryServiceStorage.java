@@ -0,0 +1,83 @@
+package seedu.homerce.storage.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.storage.binary.BinaryFile;
+import seedu.homerce.storage.binary.BinaryModelCodec;
+
+/**
+ * A class to access ServiceManager data stored as a binary file on the hard disk.
+ */
+public class BinaryServiceStorage implements ServiceStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryServiceStorage.class);
+
+    private Path filePath;
+
+    public BinaryServiceStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getServiceManagerStorageFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyServiceManager> readServiceManager() throws DataConversionException {
+        return readServiceManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readServiceManager()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyServiceManager> readServiceManager(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        ServiceManager serviceManager = new ServiceManager();
+        try {
+            if (!BinaryFile.read(filePath, BinaryModelCodec.SERVICE_CONTENT_TYPE, BinaryModelCodec::readService,
+                service -> JsonSerializableServiceManager.addToModel(serviceManager, service))) {
+                return Optional.empty();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(serviceManager);
+    }
+
+    @Override
+    public void saveServiceManager(ReadOnlyServiceManager serviceManager) throws IOException {
+        saveServiceManager(serviceManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveServiceManager(ReadOnlyServiceManager)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveServiceManager(ReadOnlyServiceManager serviceManager, Path filePath) throws IOException {
+        requireNonNull(serviceManager);
+        requireNonNull(filePath);
+
+        BinaryFile.write(filePath, BinaryModelCodec.SERVICE_CONTENT_TYPE, serviceManager.getServiceList(),
+            BinaryModelCodec::writeService);
+    }
+
+}
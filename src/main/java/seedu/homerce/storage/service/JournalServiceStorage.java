@@ -0,0 +1,77 @@
+package seedu.homerce.storage.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.util.FileUtil;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.model.service.Service;
+import seedu.homerce.storage.journal.Journal;
+
+/**
+ * A {@code ServiceStorage} that records the changes to the services in a journal instead of rewriting the whole
+ * services file on every save. The services file is only rewritten when the journal is compacted.
+ */
+public class JournalServiceStorage implements ServiceStorage {
+
+    private final ServiceStorage snapshotStorage;
+    private final Journal<Service, JsonAdaptedService> journal;
+
+    /**
+     * Creates a {@code JournalServiceStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournalServiceStorage(ServiceStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new Journal<>(snapshotStorage.getServiceManagerStorageFilePath(),
+                JsonAdaptedService::new, JsonAdaptedService[].class, JsonAdaptedService::toModelType);
+    }
+
+    @Override
+    public Path getServiceManagerStorageFilePath() {
+        return snapshotStorage.getServiceManagerStorageFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyServiceManager> readServiceManager() throws DataConversionException, IOException {
+        return readServiceManager(getServiceManagerStorageFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyServiceManager> readServiceManager(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyServiceManager> snapshot = snapshotStorage.readServiceManager(filePath);
+        if (!filePath.equals(getServiceManagerStorageFilePath())
+                || !FileUtil.isFileExists(journal.getJournalFilePath())) {
+            return snapshot;
+        }
+
+        ServiceManager serviceManager = new ServiceManager(snapshot.orElseGet(ServiceManager::new));
+        journal.replay(serviceManager::addService, serviceManager::removeService, serviceManager::setService,
+                serviceManager::setServices);
+        return Optional.of(serviceManager);
+    }
+
+    @Override
+    public void saveServiceManager(ReadOnlyServiceManager serviceManager) throws IOException {
+        saveServiceManager(serviceManager, getServiceManagerStorageFilePath());
+    }
+
+    @Override
+    public void saveServiceManager(ReadOnlyServiceManager serviceManager, Path filePath) throws IOException {
+        requireNonNull(serviceManager);
+        requireNonNull(filePath);
+        if (!filePath.equals(getServiceManagerStorageFilePath())) {
+            snapshotStorage.saveServiceManager(serviceManager, filePath);
+            return;
+        }
+        journal.save(serviceManager.getServiceList(),
+                snapshotFilePath -> snapshotStorage.saveServiceManager(serviceManager, snapshotFilePath));
+    }
+}
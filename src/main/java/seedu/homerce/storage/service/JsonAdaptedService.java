@@ -42,7 +42,7 @@ public class JsonAdaptedService {
      */
     public JsonAdaptedService(Service source) {
         title = source.getTitle().value;
-        price = source.getAmount().value;
+        price = source.getAmount().toBigDecimal();
         duration = source.getDuration().value;
         serviceCode = source.getServiceCode().value;
 
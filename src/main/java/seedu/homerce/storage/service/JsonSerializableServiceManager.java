@@ -1,14 +1,18 @@
 package seedu.homerce.storage.service;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.JsonUtil;
 import seedu.homerce.model.manager.ReadOnlyServiceManager;
 import seedu.homerce.model.manager.ServiceManager;
 import seedu.homerce.model.service.Service;
@@ -48,13 +52,39 @@ public class JsonSerializableServiceManager {
     public ServiceManager toModelType() throws IllegalValueException {
         ServiceManager serviceManager = new ServiceManager();
         for (JsonAdaptedService jsonAdaptedService : services) {
-            Service service = jsonAdaptedService.toModelType();
-            if (serviceManager.hasService(service)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SERVICE);
-            }
-            serviceManager.addService(service);
+            addToModel(serviceManager, jsonAdaptedService.toModelType());
         }
         return serviceManager;
     }
 
+    /**
+     * Reads the services in the json file at {@code filePath} one at a time into a new {@code ServiceManager}, so that
+     * the file is never held in memory as a whole.
+     *
+     * @return the service manager, or {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyServiceManager> readModelType(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        ServiceManager serviceManager = new ServiceManager();
+        if (!JsonUtil.readJsonArray(filePath, "services", JsonAdaptedService.class,
+            jsonAdaptedService -> addToModel(serviceManager, jsonAdaptedService.toModelType()))) {
+            return Optional.empty();
+        }
+        return Optional.of(serviceManager);
+    }
+
+    /**
+     * Adds {@code service}, read from a data file, to {@code serviceManager}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToModel(ServiceManager serviceManager, Service service) throws IllegalValueException {
+        if (serviceManager.hasService(service)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SERVICE);
+        }
+        serviceManager.addService(service);
+    }
+
 }
@@ -47,14 +47,8 @@ public class JsonServiceStorage implements ServiceStorage {
             IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableServiceManager> jsonServiceManager = JsonUtil.readJsonFile(
-                filePath, JsonSerializableServiceManager.class);
-        if (!jsonServiceManager.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonServiceManager.get().toModelType());
+            return JsonSerializableServiceManager.readModelType(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
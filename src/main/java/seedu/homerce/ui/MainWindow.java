@@ -3,6 +3,7 @@ package seedu.homerce.ui;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.control.MenuItem;
@@ -15,11 +16,13 @@ import seedu.homerce.logic.Logic;
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.logic.parser.exceptions.ParseException;
+import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.ui.appointmentpanel.AppointmentListPanel;
 import seedu.homerce.ui.clientpanel.ClientListPanel;
 import seedu.homerce.ui.expensepanel.ExpenseListPanel;
 import seedu.homerce.ui.financialpanel.FinanceWindow;
 import seedu.homerce.ui.revenuepanel.RevenueListPanel;
+import seedu.homerce.ui.schedulepanel.ScheduleCanvasPanel;
 import seedu.homerce.ui.schedulepanel.SchedulePanel;
 import seedu.homerce.ui.servicepanel.ServiceListPanel;
 
@@ -114,6 +117,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -145,15 +149,36 @@ public class MainWindow extends UiPart<Stage> {
             tabPanelPlaceholder.getChildren().add(expenseListPanel.getRoot());
             break;
         case SchedulePanel.TAB_NAME:
-            schedulePanel = new SchedulePanel(logic.getFilteredSchedule(), logic.getAppointmentManager());
-            schedulePanel.construct();
-            tabPanelPlaceholder.getChildren().add(schedulePanel.getRoot());
+            showSchedule();
             break;
         default:
             throw new AssertionError("No such tab name: " + tabName);
         }
     }
 
+    /**
+     * Shows the schedule of the current week, drawn onto a canvas if it is enabled in the user prefs.
+     */
+    private void showSchedule() {
+        if (logic.isCanvasScheduleEnabled()) {
+            ScheduleCanvasPanel scheduleCanvasPanel =
+                new ScheduleCanvasPanel(logic.getCurrentWeekOverview(), this::handleAppointmentClicked);
+            scheduleCanvasPanel.construct();
+            tabPanelPlaceholder.getChildren().add(scheduleCanvasPanel.getRoot());
+        } else {
+            schedulePanel = new SchedulePanel(logic.getCurrentWeekOverview());
+            schedulePanel.construct();
+            tabPanelPlaceholder.getChildren().add(schedulePanel.getRoot());
+        }
+    }
+
+    /**
+     * Shows the details of an appointment clicked in the schedule.
+     */
+    private void handleAppointmentClicked(Appointment appointment) {
+        resultDisplay.setFeedbackToUser(appointment.toString());
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
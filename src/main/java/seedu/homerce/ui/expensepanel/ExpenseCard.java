@@ -52,7 +52,7 @@ public class ExpenseCard extends UiPart<Region> {
         description.setText("Description: " + expense.getDescription().toString());
         //description.setStyle("-fx-font-weight: bold;");
         isFixed.setText("Type: " + (expense.getIsFixed().value ? "Fixed" : "Not Fixed"));
-        value.setText("Value: " + expense.getValue().value);
+        value.setText("Value: " + expense.getValue());
         date.setText(expense.getDate().toUiString());
         tag.setText(expense.getTag().toUiString());
     }
@@ -1,7 +1,5 @@
 package seedu.homerce.ui.financialpanel;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -17,6 +15,7 @@ import seedu.homerce.commons.core.GuiSettings;
 import seedu.homerce.commons.core.LogsCenter;
 import seedu.homerce.model.expense.Expense;
 import seedu.homerce.model.revenue.Revenue;
+import seedu.homerce.model.util.attributes.Amount;
 import seedu.homerce.ui.UiPart;
 
 /**
@@ -88,21 +87,12 @@ public class FinanceWindow extends UiPart<Stage> {
      * to only include expenses within that month.
      */
     private void setExpenseChart(ObservableList<Expense> expenseList) {
-        Map<String, Double> maps = new HashMap<>();
+        Map<String, Long> maps = new HashMap<>();
         for (Expense expense : expenseList) {
-            if (maps.containsKey(expense.getTag().tagName)) {
-                double currentExpense = maps.get(expense.getTag().tagName);
-                double newExpense = currentExpense + expense.getValue().value.doubleValue();
-                maps.put(expense.getTag().tagName, newExpense);
-
-            } else {
-                double newExpense = expense.getValue().value.doubleValue();
-                maps.put(expense.getTag().tagName, newExpense);
-
-            }
+            maps.merge(expense.getTag().tagName, expense.getValue().getCents(), Math::addExact);
         }
         ObservableList<PieChart.Data> expenseChartData = maps.entrySet().stream()
-            .map(expense -> new PieChart.Data(expense.getKey(), expense.getValue()))
+            .map(expense -> new PieChart.Data(expense.getKey(), expense.getValue() / 100.0))
             .collect(Collectors.toCollection(FXCollections::observableArrayList));
 
         expenseChart.setData(expenseChartData);
@@ -116,20 +106,12 @@ public class FinanceWindow extends UiPart<Stage> {
      * to only include revenues within that month.
      */
     private void setRevenueChart(ObservableList<Revenue> revenueList) {
-        Map<String, Double> maps = new HashMap<>();
+        Map<String, Long> maps = new HashMap<>();
         for (Revenue revenue : revenueList) {
-            if (maps.containsKey(revenue.getService().getTitle().value)) {
-                double currentRevenue = maps.get(revenue.getService().getTitle().value);
-                double newRevenue = currentRevenue + revenue.getValue().value.doubleValue();
-                maps.put(revenue.getService().getTitle().value, newRevenue);
-
-            } else {
-                double newRevenue = revenue.getValue().value.doubleValue();
-                maps.put(revenue.getService().getTitle().value, newRevenue);
-            }
+            maps.merge(revenue.getService().getTitle().value, revenue.getValue().getCents(), Math::addExact);
         }
         ObservableList<PieChart.Data> revenueChartData = maps.entrySet().stream()
-            .map(revenue -> new PieChart.Data(revenue.getKey(), revenue.getValue()))
+            .map(revenue -> new PieChart.Data(revenue.getKey(), revenue.getValue() / 100.0))
             .collect(Collectors.toCollection(FXCollections::observableArrayList));
 
         revenueChart.setData(revenueChartData);
@@ -142,19 +124,19 @@ public class FinanceWindow extends UiPart<Stage> {
      * Revenue, expense and profit displays should be capped at 6 digits. Else it will overflow the container box.
      */
     private void setProfitDisplay(ObservableList<Expense> expenseList, ObservableList<Revenue> revenueList) {
-        BigDecimal totalExpense = expenseList
-            .stream()
-            .reduce(new BigDecimal(0), (sum, expense) -> sum.add(expense.getValue().value), (
-                sum, expenseAmount) -> sum.add(expenseAmount));
-        BigDecimal totalRevenue = revenueList
-            .stream()
-            .reduce(new BigDecimal(0), (sum, revenue) -> sum.add(revenue.getValue().value), (
-                sum, revenueAmount) -> sum.add(revenueAmount));
-        BigDecimal profit = totalRevenue.subtract(totalExpense);
-
-        profitText.setText("Total Profit: $" + profit.setScale(2, RoundingMode.HALF_UP).toString());
-        expenseText.setText("Total Expense: $" + totalExpense.setScale(2, RoundingMode.HALF_UP).toString());
-        revenueText.setText("Total Revenue: $" + totalRevenue.setScale(2, RoundingMode.HALF_UP).toString());
+        long totalExpense = 0;
+        for (Expense expense : expenseList) {
+            totalExpense = expense.getValue().addTo(totalExpense);
+        }
+        long totalRevenue = 0;
+        for (Revenue revenue : revenueList) {
+            totalRevenue = revenue.getValue().addTo(totalRevenue);
+        }
+        long profit = Math.subtractExact(totalRevenue, totalExpense);
+
+        profitText.setText("Total Profit: $" + Amount.formatCents(profit));
+        expenseText.setText("Total Expense: $" + Amount.formatCents(totalExpense));
+        revenueText.setText("Total Revenue: $" + Amount.formatCents(totalRevenue));
     }
 
     /**
@@ -0,0 +1,182 @@
+package seedu.homerce.ui.schedulepanel;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import seedu.homerce.commons.core.LogsCenter;
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.WeekOverview;
+import seedu.homerce.ui.UiPart;
+
+/**
+ * Panel that draws the schedule of a week onto a single {@code Canvas}, as an alternative to {@code SchedulePanel}
+ * for weeks with many appointments.
+ *
+ * The number of nodes in the panel does not grow with the number of appointments, as each appointment is drawn
+ * rather than added as a node. The appointment under the mouse is found with {@link ScheduleLayout}, and its details
+ * are shown in a tooltip and handed to the click handler when it is clicked.
+ */
+public class ScheduleCanvasPanel extends UiPart<Region> {
+    private static final String FXML = "schedulepanel/ScheduleCanvasPanel.fxml";
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("d/M");
+
+    // Colours and sizes of the grid schedule, which are set in DarkTheme.css
+    private static final Color RED_SLOT_COLOR = Color.web("#F1E0E0");
+    private static final Color BLUE_SLOT_COLOR = Color.web("#E0E7F1");
+    private static final Color GREEN_SLOT_COLOR = Color.web("#DEEEDC");
+    private static final Color DATE_SLOT_COLOR = Color.web("#e6e6e6");
+    private static final Color TEXT_COLOR = Color.web("#555555");
+    private static final double CORNER_ARC = 20;
+    private static final double DATE_SLOT_SIZE = 80;
+    private static final double TEXT_PADDING = 10;
+    private static final double LINE_HEIGHT = 18;
+    private static final Font TEXT_FONT = Font.font("Segoe UI Semibold", 14);
+    private static final Font DAY_FONT = Font.font("Segoe UI Semibold", 16);
+    private static final Font DATE_FONT = Font.font("Segoe UI Semibold", 12);
+    private static final double TOOLTIP_OFFSET = 12;
+
+    private final Logger logger = LogsCenter.getLogger(ScheduleCanvasPanel.class);
+
+    private final ScheduleLayout layout;
+    private final Consumer<Appointment> appointmentClickHandler;
+    private final Tooltip tooltip = new Tooltip();
+    private Appointment hoveredAppointment;
+
+    @FXML
+    private ScrollPane scrollPane;
+
+    @FXML
+    private Canvas canvas;
+
+    /**
+     * Creates a {@code ScheduleCanvasPanel} showing the week in the given {@code WeekOverview}, which hands the
+     * appointments that are clicked to {@code appointmentClickHandler}.
+     */
+    public ScheduleCanvasPanel(WeekOverview weekOverview, Consumer<Appointment> appointmentClickHandler) {
+        super(FXML);
+        requireNonNull(appointmentClickHandler);
+        this.layout = new ScheduleLayout(weekOverview);
+        this.appointmentClickHandler = appointmentClickHandler;
+    }
+
+    /**
+     * Draws the week onto the canvas.
+     */
+    public void construct() {
+        logger.info("Drawing Schedule Canvas Panel.");
+        canvas.setWidth(layout.getWidth());
+        canvas.setHeight(layout.getHeight());
+        canvas.setOnMouseMoved(this::handleMouseMoved);
+        canvas.setOnMouseExited(event -> hideTooltip());
+        canvas.setOnMouseClicked(event -> layout.getAppointmentAt(event.getX(), event.getY())
+            .ifPresent(appointmentClickHandler));
+
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int row = 0; row < ScheduleLayout.DAYS_PER_WEEK; row++) {
+            drawDate(graphics, row, layout.getDate(row));
+            for (ScheduleLayout.Cell cell : layout.getCells(row)) {
+                drawAppointment(graphics, cell);
+            }
+        }
+    }
+
+    private void drawDate(GraphicsContext graphics, int row, LocalDate date) {
+        double x = (ScheduleLayout.DATE_COLUMN_WIDTH - DATE_SLOT_SIZE) / 2;
+        double y = row * ScheduleLayout.ROW_HEIGHT + (ScheduleLayout.ROW_HEIGHT - DATE_SLOT_SIZE) / 2;
+        graphics.setFill(DATE_SLOT_COLOR);
+        graphics.fillRoundRect(x, y, DATE_SLOT_SIZE, DATE_SLOT_SIZE, CORNER_ARC, CORNER_ARC);
+
+        double centreX = x + DATE_SLOT_SIZE / 2;
+        double centreY = y + DATE_SLOT_SIZE / 2;
+        graphics.setFill(TEXT_COLOR);
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.setTextBaseline(VPos.BOTTOM);
+        graphics.setFont(DAY_FONT);
+        graphics.fillText(date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.US), centreX, centreY);
+        graphics.setTextBaseline(VPos.TOP);
+        graphics.setFont(DATE_FONT);
+        graphics.fillText(date.format(DISPLAY_FORMAT), centreX, centreY);
+    }
+
+    private void drawAppointment(GraphicsContext graphics, ScheduleLayout.Cell cell) {
+        Appointment appointment = cell.getAppointment();
+        graphics.setFill(getSlotColor(appointment));
+        graphics.fillRoundRect(cell.getX(), cell.getY(), cell.getWidth(), cell.getHeight(), CORNER_ARC, CORNER_ARC);
+
+        // Text that does not fit is cut off at the edge of the slot, as in the grid schedule
+        graphics.save();
+        graphics.beginPath();
+        graphics.rect(cell.getX(), cell.getY(), cell.getWidth(), cell.getHeight());
+        graphics.clip();
+        graphics.setFill(TEXT_COLOR);
+        graphics.setFont(TEXT_FONT);
+        graphics.setTextAlign(TextAlignment.LEFT);
+        graphics.setTextBaseline(VPos.TOP);
+        double x = cell.getX() + TEXT_PADDING;
+        double y = cell.getY() + TEXT_PADDING / 2;
+        graphics.fillText(appointment.getService().getTitle().value, x, y);
+        graphics.fillText(getTimeText(appointment), x, y + LINE_HEIGHT);
+        graphics.fillText(appointment.getClient().getName().fullName, x, y + 2 * LINE_HEIGHT);
+        graphics.restore();
+    }
+
+    private Color getSlotColor(Appointment appointment) {
+        long cents = appointment.getService().getAmount().getCents();
+        if (cents <= SchedulePanel.RED_SLOT_MAX_CENTS) {
+            return RED_SLOT_COLOR;
+        } else if (cents <= SchedulePanel.BLUE_SLOT_MAX_CENTS) {
+            return BLUE_SLOT_COLOR;
+        } else {
+            return GREEN_SLOT_COLOR;
+        }
+    }
+
+    private void handleMouseMoved(MouseEvent event) {
+        Optional<Appointment> appointment = layout.getAppointmentAt(event.getX(), event.getY());
+        if (appointment.isEmpty()) {
+            hideTooltip();
+            return;
+        }
+        if (appointment.get() != hoveredAppointment) {
+            hoveredAppointment = appointment.get();
+            tooltip.setText(getTooltipText(hoveredAppointment));
+        }
+        tooltip.show(canvas, event.getScreenX() + TOOLTIP_OFFSET, event.getScreenY() + TOOLTIP_OFFSET);
+    }
+
+    private void hideTooltip() {
+        hoveredAppointment = null;
+        tooltip.hide();
+    }
+
+    private static String getTimeText(Appointment appointment) {
+        return appointment.getAppointmentStartTime().getLocalTime().toString() + " - "
+            + appointment.getAppointmentEndTime().getLocalTime().toString();
+    }
+
+    private static String getTooltipText(Appointment appointment) {
+        return appointment.getService().getTitle().value + "\n"
+            + appointment.getAppointmentDate().toUiString() + ", " + getTimeText(appointment) + "\n"
+            + appointment.getClient().getName().fullName + " (" + appointment.getClient().getPhone() + ")\n"
+            + "$" + appointment.getService().getAmount() + (appointment.getStatus().isDone() ? ", done" : "");
+    }
+}
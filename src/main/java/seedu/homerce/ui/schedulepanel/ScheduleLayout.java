@@ -0,0 +1,144 @@
+package seedu.homerce.ui.schedulepanel;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.WeekOverview;
+
+/**
+ * Works out where the days and appointments of a week are drawn in the schedule, and which appointment is at a
+ * point of the schedule.
+ *
+ * Each day of the week is a row, which starts with a column showing the date, and each half hour slot from the
+ * earliest start time to the latest end time of the week is a column. The appointments of each row are kept in
+ * order of time and do not overlap, so the appointment at a point is found with a binary search on its row.
+ */
+public class ScheduleLayout {
+    public static final int DAYS_PER_WEEK = 7;
+    // Same widths as the slots of the grid schedule
+    public static final double SLOT_WIDTH = 120;
+    public static final double DATE_COLUMN_WIDTH = 120;
+    public static final double ROW_HEIGHT = 90;
+    public static final double CELL_HEIGHT = 65;
+    public static final double CELL_MARGIN = (ROW_HEIGHT - CELL_HEIGHT) / 2;
+
+    private final LocalDate weekStartDate;
+    private final int earliestStartSlot;
+    private final int columnCount;
+    private final List<List<Cell>> cellsByRow = new ArrayList<>();
+
+    /**
+     * Lays out the week in {@code weekOverview}.
+     */
+    public ScheduleLayout(WeekOverview weekOverview) {
+        requireNonNull(weekOverview);
+        this.weekStartDate = weekOverview.getWeek().getStartDate();
+        this.earliestStartSlot = weekOverview.getEarliestStartSlot();
+
+        int lastColumn = weekOverview.getLatestEndSlot() - earliestStartSlot;
+        for (int row = 0; row < DAYS_PER_WEEK; row++) {
+            cellsByRow.add(new ArrayList<>());
+        }
+        for (Appointment appointment : weekOverview.getAppointments()) {
+            int row = (int) (appointment.getAppointmentDate().toEpochDay() - weekStartDate.toEpochDay());
+            cellsByRow.get(row).add(new Cell(appointment, row));
+            lastColumn = Math.max(lastColumn, appointment.getEndSlot() - earliestStartSlot);
+        }
+        this.columnCount = lastColumn;
+    }
+
+    public double getWidth() {
+        return DATE_COLUMN_WIDTH + columnCount * SLOT_WIDTH;
+    }
+
+    public double getHeight() {
+        return DAYS_PER_WEEK * ROW_HEIGHT;
+    }
+
+    /**
+     * Returns the date shown in {@code row}.
+     */
+    public LocalDate getDate(int row) {
+        return weekStartDate.plusDays(row);
+    }
+
+    /**
+     * Returns the cells of the appointments in {@code row}, in order of time.
+     */
+    public List<Cell> getCells(int row) {
+        return cellsByRow.get(row);
+    }
+
+    /**
+     * Returns the appointment drawn at the point ({@code x}, {@code y}), if any.
+     */
+    public Optional<Appointment> getAppointmentAt(double x, double y) {
+        if (y < 0 || y >= getHeight()) {
+            return Optional.empty();
+        }
+        List<Cell> cells = cellsByRow.get((int) (y / ROW_HEIGHT));
+
+        // Finds the last cell that starts at or before x
+        int low = 0;
+        int high = cells.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cells.get(middle).getX() <= x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == 0) {
+            return Optional.empty();
+        }
+        Cell cell = cells.get(low - 1);
+        return cell.contains(x, y) ? Optional.of(cell.getAppointment()) : Optional.empty();
+    }
+
+    /**
+     * The area in which an appointment is drawn.
+     */
+    public class Cell {
+        private final Appointment appointment;
+        private final double x;
+        private final double y;
+        private final double width;
+
+        private Cell(Appointment appointment, int row) {
+            this.appointment = appointment;
+            this.x = DATE_COLUMN_WIDTH + (appointment.getStartSlot() - earliestStartSlot) * SLOT_WIDTH;
+            this.y = row * ROW_HEIGHT + CELL_MARGIN;
+            this.width = (appointment.getEndSlot() - appointment.getStartSlot()) * SLOT_WIDTH;
+        }
+
+        public Appointment getAppointment() {
+            return appointment;
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        public double getHeight() {
+            return CELL_HEIGHT;
+        }
+
+        boolean contains(double pointX, double pointY) {
+            return x <= pointX && pointX < x + width && y <= pointY && pointY < y + CELL_HEIGHT;
+        }
+    }
+}
@@ -1,13 +1,10 @@
 package seedu.homerce.ui.schedulepanel;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.util.Calendar;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.ColumnConstraints;
@@ -15,9 +12,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Region;
 import seedu.homerce.commons.core.LogsCenter;
 import seedu.homerce.model.appointment.Appointment;
-import seedu.homerce.model.appointment.predicate.AppointmentWeekPredicate;
-import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
-import seedu.homerce.model.service.Duration;
+import seedu.homerce.model.appointment.WeekOverview;
 import seedu.homerce.ui.UiPart;
 
 /**
@@ -25,19 +20,25 @@ import seedu.homerce.ui.UiPart;
  */
 public class SchedulePanel extends UiPart<Region> {
     public static final String TAB_NAME = "Schedule";
+    // Appointments for services up to these prices are shown in red and blue, and more expensive ones in green
+    static final long RED_SLOT_MAX_CENTS = 2500;
+    static final long BLUE_SLOT_MAX_CENTS = 6000;
     private static final int SINGLE_COLUMN_WIDTH = 120;
     private static final int ROW_SPAN = 1;
     private static final int NUM_OF_HALF_HOURS = 48;
-    private static final double SCALE_FACTOR = 2.0;
     private static final int GRID_INDEX_BUFFER = 1;
     private static final String FXML = "schedulepanel/SchedulePanel.fxml";
     private final Logger logger = LogsCenter.getLogger(seedu.homerce.ui.schedulepanel.SchedulePanel.class);
 
-    private final ObservableList<Appointment> appointments;
+    private final List<Appointment> appointments;
 
     // Used to show dates in schedule view
     private final LocalDate weekStartDate;
 
+    // Used to show only the times of day that have appointments
+    private final int earliestStartSlot;
+    private final int latestEndSlot;
+
     @FXML
     private ScrollPane scrollPane;
 
@@ -45,14 +46,14 @@ public class SchedulePanel extends UiPart<Region> {
     private GridPane gridPane;
 
     /**
-     * Creates a {@code AppointmentListPanel} with the given {@code ObservableList}.
+     * Creates a {@code SchedulePanel} showing the week in the given {@code WeekOverview}.
      */
-    public SchedulePanel(ObservableList<Appointment> appointments, ReadOnlyAppointmentManager appointmentManager) {
+    public SchedulePanel(WeekOverview weekOverview) {
         super(FXML);
-        this.appointments = appointments;
-        Calendar calendar = appointmentManager.getCalendar();
-        AppointmentWeekPredicate predicate = appointmentManager.getCurrentWeek();
-        this.weekStartDate = predicate.calculateStartDateOfWeek(calendar);
+        this.appointments = weekOverview.getAppointments();
+        this.weekStartDate = weekOverview.getWeek().getStartDate();
+        this.earliestStartSlot = weekOverview.getEarliestStartSlot();
+        this.latestEndSlot = weekOverview.getLatestEndSlot();
     }
 
     /**
@@ -69,28 +70,22 @@ public class SchedulePanel extends UiPart<Region> {
         addAppointmentSlotsToGrid();
     }
 
-    private int getColSpan(Duration duration) {
-        // Service timings are in 0.5 hours so multiplication by an even SCALE_FACTOR will always give an a whole number
-        return (int) (duration.value * SCALE_FACTOR);
+    private int getColSpan(Appointment appointment) {
+        // Each column is one half hour slot
+        return appointment.getEndSlot() - appointment.getStartSlot();
     }
 
-    private int getColIndex(LocalTime startTime) {
-        int colIndex = startTime.getHour() * (int) SCALE_FACTOR;
-        if (startTime.getMinute() != 0) {
-            // Account for 0.5h in the schedule
-            colIndex += 1;
-        }
+    private int getColIndex(int slot) {
         // Account for 0 index
-        return colIndex - 1;
+        return slot - 1;
     }
 
     /**
      * Returns the column index that fits into the grid after changing the start index to the earliest timing
      * and taking into account the slot taken up by the date display
      */
-    private int getAdjustedColIndex(Appointment appointment) {
-        int currIndex = getColIndex(appointment.getAppointmentStartTime().getLocalTime());
-        return currIndex - getColIndex(getEarliestStartTime()) + GRID_INDEX_BUFFER;
+    private int getAdjustedColIndex(Appointment appointment, int earliestStartSlot) {
+        return getColIndex(appointment.getStartSlot()) - getColIndex(earliestStartSlot) + GRID_INDEX_BUFFER;
     }
 
     private boolean isSameDate(LocalDate currDate, LocalDate next) {
@@ -102,38 +97,15 @@ public class SchedulePanel extends UiPart<Region> {
         return true;
     }
 
-    private LocalTime getEarliestStartTime() {
-        return appointments.stream()
-            .map(appointment -> appointment.getAppointmentStartTime().getLocalTime())
-            .reduce((time1, time2) -> (time1.isBefore(time2) ? time1 : time2))
-            .get();
-    }
-
-    private LocalTime getLatestEndTime() {
-        return appointments.stream()
-            .map(appointment -> appointment.getAppointmentEndTime().getLocalTime())
-            .reduce((time1, time2) -> (time1.isAfter(time2) ? time1 : time2))
-            .get();
-
-    }
-
     private List<LocalDate> getListOfUniqueDates() {
         return appointments.stream().map(x -> x.getAppointmentDate()
             .getLocalDate()).distinct().collect(Collectors.toList());
     }
 
     private void constructGrid() {
-        int earliestTimeIndex;
-        int latestTimeIndex;
-
-        // Prevents null pointer exception when appointment list is empty
-        if (appointments.size() == 0) {
-            earliestTimeIndex = getColIndex(LocalTime.of(8, 0));
-            latestTimeIndex = getColIndex(LocalTime.of(23, 0));
-        } else {
-            earliestTimeIndex = getColIndex(getEarliestStartTime());
-            latestTimeIndex = getColIndex(getLatestEndTime());
-        }
+        // An empty week is shown from 8 AM to 11 PM by the overview
+        int earliestTimeIndex = getColIndex(earliestStartSlot);
+        int latestTimeIndex = getColIndex(latestEndSlot);
 
         int numColumns = NUM_OF_HALF_HOURS - earliestTimeIndex - (NUM_OF_HALF_HOURS - latestTimeIndex);
         for (int i = 0; i < numColumns + GRID_INDEX_BUFFER; i++) {
@@ -158,8 +130,8 @@ public class SchedulePanel extends UiPart<Region> {
                 currentDate = currentDate.plusDays(1);
 
             }
-            int colIndex = getAdjustedColIndex(curr);
-            int colSpan = getColSpan(curr.getService().getDuration());
+            int colIndex = getAdjustedColIndex(curr, earliestStartSlot);
+            int colSpan = getColSpan(curr);
             if (currentDate.isEqual(currAppointmentDate)) {
                 gridPane.add(appointmentSlot.getRoot(), colIndex, rowIndex, colSpan, ROW_SPAN);
                 count++;
@@ -170,9 +142,9 @@ public class SchedulePanel extends UiPart<Region> {
 
     private SlotContainer setSlotColor(Appointment curr) {
         SlotContainer appointmentSlot;
-        if (curr.getService().getAmount().value.doubleValue() <= 25) {
+        if (curr.getService().getAmount().getCents() <= RED_SLOT_MAX_CENTS) {
             appointmentSlot = new AppointmentSlotRed(curr);
-        } else if (curr.getService().getAmount().value.doubleValue() <= 60) {
+        } else if (curr.getService().getAmount().getCents() <= BLUE_SLOT_MAX_CENTS) {
             appointmentSlot = new AppointmentSlotBlue(curr);
         } else {
             appointmentSlot = new AppointmentSlotGreen(curr);
@@ -46,7 +46,7 @@ public class ServiceCard extends UiPart<Region> {
         id.setText("S" + displayedIndex);
         title.setText(service.getTitle().value);
         duration.setText("Duration: " + service.getDuration().value + " hours");
-        price.setText("Price: $" + service.getAmount().value);
+        price.setText("Price: $" + service.getAmount());
         code.setText(service.getServiceCode().value);
     }
 
@@ -0,0 +1,65 @@
+package seedu.homerce.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.homerce.model.client.Client;
+import seedu.homerce.model.client.Email;
+import seedu.homerce.model.client.Name;
+import seedu.homerce.model.client.Phone;
+import seedu.homerce.model.manager.ClientManager;
+
+/**
+ * Measures how long it takes to load a large number of clients, and to look up and add clients by phone number as
+ * booking an appointment and adding a client do.
+ * Run it with {@code gradlew benchmark -PbenchmarkName=ClientLookupBenchmark}.
+ */
+public class ClientLookupBenchmark {
+
+    private static final int CLIENT_COUNT = 100_000;
+    private static final int LOOKUP_COUNT = 100_000;
+    private static final int ADD_COUNT = 1_000;
+    private static final int FIRST_PHONE = 80_000_000;
+
+    public static void main(String[] args) {
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            clients.add(createClient(i));
+        }
+
+        long start = System.nanoTime();
+        ClientManager clientManager = new ClientManager();
+        clientManager.setClients(clients);
+        double loadMillis = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        int found = 0;
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            Phone phone = clients.get((int) ((i * 7919L) % CLIENT_COUNT)).getPhone();
+            if (clientManager.checkClientWithPhone(phone)) {
+                clientManager.getClientByPhone(phone);
+                found++;
+            }
+        }
+        double lookupMicros = (System.nanoTime() - start) / 1e3 / LOOKUP_COUNT;
+
+        start = System.nanoTime();
+        for (int i = CLIENT_COUNT; i < CLIENT_COUNT + ADD_COUNT; i++) {
+            Client client = createClient(i);
+            if (!clientManager.hasClient(client)) {
+                clientManager.addClient(client);
+            }
+        }
+        double addMicros = (System.nanoTime() - start) / 1e3 / ADD_COUNT;
+
+        System.out.printf("load %,d clients: %10.1f ms%n", CLIENT_COUNT, loadMillis);
+        System.out.printf("look up by phone:   %10.2f us per lookup (%,d found)%n", lookupMicros, found);
+        System.out.printf("check and add:      %10.2f us per client%n", addMicros);
+    }
+
+    private static Client createClient(int i) {
+        return new Client(new Name("Client " + i), new Phone(String.valueOf(FIRST_PHONE + i)),
+            new Email("client" + i + "@example.com"), Set.of());
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.homerce.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.TimeOfDay;
+import seedu.homerce.model.client.Client;
+import seedu.homerce.model.client.Email;
+import seedu.homerce.model.client.Name;
+import seedu.homerce.model.client.Phone;
+import seedu.homerce.model.expense.Expense;
+import seedu.homerce.model.expense.IsFixed;
+import seedu.homerce.model.manager.AppointmentManager;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ExpenseTracker;
+import seedu.homerce.model.manager.ReadOnlyClientManager;
+import seedu.homerce.model.manager.ReadOnlyServiceManager;
+import seedu.homerce.model.manager.RevenueTracker;
+import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.model.revenue.Revenue;
+import seedu.homerce.model.service.Duration;
+import seedu.homerce.model.service.Service;
+import seedu.homerce.model.util.attributes.Amount;
+import seedu.homerce.model.util.attributes.Date;
+import seedu.homerce.model.util.attributes.Description;
+import seedu.homerce.model.util.attributes.Tag;
+import seedu.homerce.model.util.attributes.Title;
+import seedu.homerce.storage.JsonUserPrefsStorage;
+import seedu.homerce.storage.Storage;
+import seedu.homerce.storage.StorageManager;
+import seedu.homerce.storage.appointment.BinaryAppointmentStorage;
+import seedu.homerce.storage.appointment.JsonAppointmentStorage;
+import seedu.homerce.storage.client.BinaryClientStorage;
+import seedu.homerce.storage.client.JsonClientStorage;
+import seedu.homerce.storage.expense.BinaryExpenseStorage;
+import seedu.homerce.storage.expense.JsonExpenseStorage;
+import seedu.homerce.storage.revenue.BinaryRevenueStorage;
+import seedu.homerce.storage.revenue.JsonRevenueStorage;
+import seedu.homerce.storage.service.BinaryServiceStorage;
+import seedu.homerce.storage.service.JsonServiceStorage;
+
+/**
+ * Compares how long it takes to load the data of a business with several years of history from the json and the
+ * binary storage formats, and how large the data files are in each format.
+ * Run it with {@code gradlew benchmark}.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int YEARS_OF_HISTORY = 5;
+    private static final int CLIENT_COUNT = 500;
+    private static final int SERVICE_COUNT = 50;
+    private static final int APPOINTMENTS_PER_DAY = 8;
+    private static final int EXPENSES_PER_DAY = 2;
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final String[] TAGS = {"regular", "vip", "friends", "walkin", "referral"};
+    private static final String[] EXPENSE_TAGS = {"rent", "utilities", "supplies", "wages"};
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("homerce-benchmark");
+        Storage jsonStorage = createStorage(folder, ".json", false);
+        Storage binaryStorage = createStorage(folder, ".bin", true);
+
+        System.out.println("Generating " + YEARS_OF_HISTORY + " years of history...");
+        saveHistory(jsonStorage);
+        saveHistory(binaryStorage);
+
+        long jsonSize = getTotalFileSize(jsonStorage);
+        long binarySize = getTotalFileSize(binaryStorage);
+        double jsonMillis = timeLoad(jsonStorage);
+        double binaryMillis = timeLoad(binaryStorage);
+
+        System.out.printf("json:   %8.1f ms per load, %,12d bytes%n", jsonMillis, jsonSize);
+        System.out.printf("binary: %8.1f ms per load, %,12d bytes%n", binaryMillis, binarySize);
+        System.out.printf("binary loads %.1fx faster and is %.1fx smaller%n", jsonMillis / binaryMillis,
+            (double) jsonSize / binarySize);
+    }
+
+    private static Storage createStorage(Path folder, String extension, boolean isBinary) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(folder.resolve("preferences.json"));
+        if (isBinary) {
+            return new StorageManager(userPrefsStorage,
+                new BinaryClientStorage(folder.resolve("clients" + extension)),
+                new BinaryServiceStorage(folder.resolve("services" + extension)),
+                new BinaryRevenueStorage(folder.resolve("revenue" + extension)),
+                new BinaryExpenseStorage(folder.resolve("expenses" + extension)),
+                new BinaryAppointmentStorage(folder.resolve("appointments" + extension)));
+        }
+        return new StorageManager(userPrefsStorage,
+            new JsonClientStorage(folder.resolve("clients" + extension)),
+            new JsonServiceStorage(folder.resolve("services" + extension)),
+            new JsonRevenueStorage(folder.resolve("revenue" + extension)),
+            new JsonExpenseStorage(folder.resolve("expenses" + extension)),
+            new JsonAppointmentStorage(folder.resolve("appointments" + extension)));
+    }
+
+    private static void saveHistory(Storage storage) throws IOException {
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            clients.add(new Client(new Name("Client " + i), new Phone(String.valueOf(80000000 + i)),
+                new Email("client" + i + "@example.com"), Set.of(new Tag(TAGS[i % TAGS.length]))));
+        }
+        List<Service> services = new ArrayList<>();
+        for (int i = 0; i < SERVICE_COUNT; i++) {
+            services.add(new Service(new Title("Service " + i), new Duration(i % 2 == 0 ? 0.5 : 1.0),
+                new Amount(20.0 + i)).addServiceCode(String.format("SC%03d", i)));
+        }
+
+        List<Appointment> appointments = new ArrayList<>();
+        List<Revenue> revenues = new ArrayList<>();
+        List<Expense> expenses = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        int dayCount = 0;
+        for (LocalDate day = today.minusYears(YEARS_OF_HISTORY); day.isBefore(today); day = day.plusDays(1)) {
+            Date date = new Date(day.format(DATE_FORMAT));
+            for (int i = 0; i < APPOINTMENTS_PER_DAY; i++) {
+                Client client = clients.get((dayCount * APPOINTMENTS_PER_DAY + i) % CLIENT_COUNT);
+                Service service = services.get((dayCount + i) % SERVICE_COUNT);
+                Appointment appointment = new Appointment(date, new TimeOfDay(String.format("%02d00", 9 + i)),
+                    client, service);
+                appointment.markDone();
+                appointments.add(appointment);
+                revenues.add(new Revenue(service, date));
+            }
+            for (int i = 0; i < EXPENSES_PER_DAY; i++) {
+                expenses.add(new Expense(new Description("Expense " + i), new IsFixed("n"),
+                    new Amount(10.0 + i), date, new Tag(EXPENSE_TAGS[(dayCount + i) % EXPENSE_TAGS.length])));
+            }
+            dayCount++;
+        }
+
+        ClientManager clientManager = new ClientManager();
+        clientManager.setClients(clients);
+        ServiceManager serviceManager = new ServiceManager();
+        serviceManager.setServices(services);
+        AppointmentManager appointmentManager = new AppointmentManager();
+        appointmentManager.setAppointments(appointments);
+        RevenueTracker revenueTracker = new RevenueTracker();
+        revenueTracker.setRevenues(revenues);
+        ExpenseTracker expenseTracker = new ExpenseTracker();
+        expenseTracker.setExpenses(expenses);
+
+        storage.saveClientManager(clientManager);
+        storage.saveServiceManager(serviceManager);
+        storage.saveAppointmentManager(appointmentManager, clientManager);
+        storage.saveRevenueTracker(revenueTracker);
+        storage.saveExpenseTracker(expenseTracker);
+    }
+
+    private static long getTotalFileSize(Storage storage) throws IOException {
+        return Files.size(storage.getClientManagerFilePath())
+            + Files.size(storage.getServiceManagerStorageFilePath())
+            + Files.size(storage.getAppointmentManagerStorageFilePath())
+            + Files.size(storage.getRevenueTrackerStorageFilePath())
+            + Files.size(storage.getExpenseTrackerStorageFilePath());
+    }
+
+    /**
+     * Returns the average number of milliseconds taken to read all the data in {@code storage}.
+     */
+    private static double timeLoad(Storage storage) throws DataConversionException, IOException {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            load(storage);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            load(storage);
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_RUNS;
+    }
+
+    private static void load(Storage storage) throws DataConversionException, IOException {
+        ReadOnlyClientManager clientManager = storage.readClientManager().get();
+        ReadOnlyServiceManager serviceManager = storage.readServiceManager().get();
+        storage.readAppointmentManager(clientManager, serviceManager);
+        storage.readRevenueTracker(serviceManager);
+        storage.readExpenseTracker();
+    }
+}
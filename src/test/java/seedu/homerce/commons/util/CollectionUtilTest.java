@@ -1,13 +1,16 @@
 package seedu.homerce.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.homerce.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -82,6 +85,41 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void isSorted() {
+        assertTrue(CollectionUtil.isSorted(Collections.emptyList(), Comparator.<Integer>naturalOrder()));
+        assertTrue(CollectionUtil.isSorted(Arrays.asList(1, 2, 2, 5), Comparator.<Integer>naturalOrder()));
+        assertFalse(CollectionUtil.isSorted(Arrays.asList(1, 3, 2), Comparator.<Integer>naturalOrder()));
+    }
+
+    @Test
+    public void addSorted_insertsAfterEqualItems() {
+        List<String> items = new ArrayList<>(Arrays.asList("a", "bb", "ccc"));
+        CollectionUtil.addSorted(items, "dd", Comparator.comparingInt(String::length));
+        assertEquals(Arrays.asList("a", "bb", "dd", "ccc"), items);
+
+        CollectionUtil.addSorted(items, "", Comparator.comparingInt(String::length));
+        CollectionUtil.addSorted(items, "eeee", Comparator.comparingInt(String::length));
+        assertEquals(Arrays.asList("", "a", "bb", "dd", "ccc", "eeee"), items);
+    }
+
+    @Test
+    public void setSorted_itemStillInOrder_replacedInPlace() {
+        List<Integer> items = new ArrayList<>(Arrays.asList(1, 3, 5));
+        CollectionUtil.setSorted(items, 1, 4, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(1, 4, 5), items);
+    }
+
+    @Test
+    public void setSorted_itemOutOfOrder_movedToItsPlace() {
+        List<Integer> items = new ArrayList<>(Arrays.asList(1, 3, 5, 7));
+        CollectionUtil.setSorted(items, 0, 6, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(3, 5, 6, 7), items);
+
+        CollectionUtil.setSorted(items, 3, 0, Comparator.naturalOrder());
+        assertEquals(Arrays.asList(0, 3, 5, 6), items);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
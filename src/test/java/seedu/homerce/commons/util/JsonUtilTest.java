@@ -1,12 +1,18 @@
 package seedu.homerce.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.testutil.SerializableTestClass;
 import seedu.homerce.testutil.TestUtil;
 
@@ -39,6 +45,28 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArray_validFile_elementsReadInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"skipped\": {\"numbers\": [9]}, \"numbers\": [3, 1, 2]}");
+        List<Integer> numbers = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArray(SERIALIZATION_FILE, "numbers", Integer.class, numbers::add));
+        assertEquals(List.of(3, 1, 2), numbers);
+    }
+
+    @Test
+    public void readJsonArray_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArray(missingFile, "numbers", Integer.class, number -> { }));
+    }
+
+    @Test
+    public void readJsonArray_truncatedFile_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"numbers\": [3, 1,");
+        assertThrows(DataConversionException.class, () ->
+            JsonUtil.readJsonArray(SERIALIZATION_FILE, "numbers", Integer.class, number -> { }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,6 +1,7 @@
 package seedu.homerce.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.commons.core.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
 import static seedu.homerce.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.homerce.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -10,7 +11,9 @@ import static seedu.homerce.testutil.Assert.assertThrows;
 import static seedu.homerce.testutil.client.TypicalClients.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +34,7 @@ import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.model.manager.ReadOnlyClientManager;
 import seedu.homerce.model.manager.RevenueTracker;
 import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.storage.AutoSaver;
 import seedu.homerce.storage.JsonUserPrefsStorage;
 import seedu.homerce.storage.StorageManager;
 import seedu.homerce.storage.appointment.AppointmentStorage;
@@ -91,6 +95,51 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListClientCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommandAfterSave_skipsUnchangedFiles() throws Exception {
+        String addCommand = AddClientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(0, ((LogicManager) logic).getSkippedSaveBytes());
+
+        Path clientFilePath = temporaryFolder.resolve("clients.json");
+        long lastModified = Files.getLastModifiedTime(clientFilePath).toMillis();
+        long savedBytes = 0;
+        for (String fileName : new String[] {"clients.json", "services.json", "revenue.json", "expenses.json",
+            "appointments.json"}) {
+            savedBytes += Files.size(temporaryFolder.resolve(fileName));
+        }
+        Files.delete(temporaryFolder.resolve("services.json"));
+
+        logic.execute(ListClientCommand.COMMAND_WORD);
+
+        // unchanged managers are not written again, and their files are not even looked at
+        assertEquals(savedBytes, ((LogicManager) logic).getSkippedSaveBytes());
+        assertEquals(lastModified, Files.getLastModifiedTime(clientFilePath).toMillis());
+        assertTrue(Files.notExists(temporaryFolder.resolve("services.json")));
+    }
+
+    @Test
+    public void execute_withAutoSaver_savedOnFlush() throws Exception {
+        JsonClientStorage clientStorage = new JsonClientStorage(temporaryFolder.resolve("autoSaveClients.json"));
+        StorageManager storage = new StorageManager(
+            new JsonUserPrefsStorage(temporaryFolder.resolve("autoSaveUserPrefs.json")), clientStorage,
+            new JsonServiceStorage(temporaryFolder.resolve("autoSaveServices.json")),
+            new JsonRevenueStorage(temporaryFolder.resolve("autoSaveRevenue.json")),
+            new JsonExpenseStorage(temporaryFolder.resolve("autoSaveExpenses.json")),
+            new JsonAppointmentStorage(temporaryFolder.resolve("autoSaveAppointments.json")));
+        AutoSaver autoSaver = new AutoSaver(TimeUnit.HOURS.toMillis(1));
+        logic = new LogicManager(model, storage, HistoryManager.getInstance(), autoSaver);
+
+        String addCommand = AddClientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(autoSaver.hasPendingSaves());
+        assertTrue(Files.notExists(temporaryFolder.resolve("autoSaveClients.json")));
+
+        autoSaver.stop();
+        assertEquals(model.getClientManager().getClientList(),
+            clientStorage.readClientManager().get().getClientList());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
 
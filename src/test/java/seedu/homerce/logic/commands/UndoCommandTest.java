@@ -1,13 +1,26 @@
 package seedu.homerce.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.testutil.Assert.assertThrows;
+import static seedu.homerce.testutil.client.TypicalClients.ALICE;
+import static seedu.homerce.testutil.client.TypicalClients.BENSON;
+import static seedu.homerce.testutil.client.TypicalClients.getTypicalClientManager;
+import static seedu.homerce.testutil.service.TypicalServices.MANICURE;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.homerce.commons.core.index.Index;
+import seedu.homerce.logic.commands.appointment.FreeSlotsCommand;
+import seedu.homerce.logic.commands.client.AddClientCommand;
+import seedu.homerce.logic.commands.client.ClearClientCommand;
+import seedu.homerce.logic.commands.client.DeleteClientCommand;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.model.Model;
 import seedu.homerce.model.ModelManager;
 import seedu.homerce.model.manager.HistoryManager;
+import seedu.homerce.model.util.attributes.Date;
+import seedu.homerce.ui.clientpanel.ClientListPanel;
 
 public class UndoCommandTest {
     @Test
@@ -18,4 +31,67 @@ public class UndoCommandTest {
         UndoCommand undoTest = new UndoCommand();
         assertThrows(CommandException.class, () -> undoTest.execute(modelTest, historyTest));
     }
+
+    @Test
+    public void execute_undoAddClient_clientRemoved() throws Exception {
+        HistoryManager historyTest = HistoryManager.getInstance();
+        Model modelTest = new ModelManager();
+        AddClientCommand addClientCommand = new AddClientCommand(ALICE);
+
+        historyTest.addToHistory(addClientCommand);
+        addClientCommand.execute(modelTest, historyTest);
+        assertTrue(modelTest.hasClient(ALICE));
+
+        CommandResult result = new UndoCommand().execute(modelTest, historyTest);
+        assertEquals(new CommandResult(UndoCommand.MESSAGE_SUCCESS, ClientListPanel.TAB_NAME), result);
+        assertTrue(modelTest.getClientManager().getClientList().isEmpty());
+    }
+
+    @Test
+    public void execute_undoDeleteClient_clientRestored() throws Exception {
+        HistoryManager historyTest = HistoryManager.getInstance();
+        Model modelTest = new ModelManager();
+        modelTest.addClient(BENSON);
+        DeleteClientCommand deleteClientCommand = new DeleteClientCommand(Index.fromZeroBased(0));
+
+        historyTest.addToHistory(deleteClientCommand);
+        deleteClientCommand.execute(modelTest, historyTest);
+        assertTrue(modelTest.getClientManager().getClientList().isEmpty());
+
+        new UndoCommand().execute(modelTest, historyTest);
+        assertTrue(modelTest.hasClient(BENSON));
+    }
+
+    @Test
+    public void execute_undoClearClient_clientsRestored() throws Exception {
+        HistoryManager historyTest = HistoryManager.getInstance();
+        Model modelTest = new ModelManager();
+        modelTest.setClientManager(getTypicalClientManager());
+        ClearClientCommand clearClientCommand = new ClearClientCommand();
+
+        historyTest.addToHistory(clearClientCommand);
+        clearClientCommand.execute(modelTest, historyTest);
+        assertTrue(modelTest.getClientManager().getClientList().isEmpty());
+
+        new UndoCommand().execute(modelTest, historyTest);
+        assertEquals(getTypicalClientManager(), modelTest.getClientManager());
+    }
+
+    @Test
+    public void execute_undoAfterFreeSlots_previousChangeUndone() throws Exception {
+        HistoryManager historyTest = HistoryManager.getInstance();
+        Model modelTest = new ModelManager();
+        modelTest.addService(MANICURE);
+        AddClientCommand addClientCommand = new AddClientCommand(ALICE);
+        historyTest.addToHistory(addClientCommand);
+        addClientCommand.execute(modelTest, historyTest);
+
+        Date date = new Date("28-10-2020");
+        FreeSlotsCommand freeSlotsCommand = new FreeSlotsCommand(MANICURE.getServiceCode(), date, date);
+        historyTest.addToHistory(freeSlotsCommand);
+        freeSlotsCommand.execute(modelTest, historyTest);
+
+        new UndoCommand().execute(modelTest, historyTest);
+        assertTrue(modelTest.getClientManager().getClientList().isEmpty());
+    }
 }
@@ -138,10 +138,5 @@ public class AddAppointmentCommandTest {
         @Override
         public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
         }
-
-        @Override
-        public void refreshSchedule() {
-
-        }
     }
 }
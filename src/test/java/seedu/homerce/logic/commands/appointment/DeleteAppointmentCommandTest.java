@@ -45,7 +45,6 @@ public class DeleteAppointmentCommandTest {
             new RevenueTracker(), new ExpenseTracker(), new AppointmentManager());
         expectedModel.addAppointment(OCT_26_2020_11AM_MANICURE_CARL);
         expectedModel.addAppointment(NOV_11_2020_12PM_LASH_LIFT_BENSON);
-        expectedModel.refreshSchedule();
         assertCommandSuccess(deleteAppointmentCommand, model, expectedMessage, expectedModel);
     }
 
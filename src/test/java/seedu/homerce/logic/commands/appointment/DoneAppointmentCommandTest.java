@@ -1,6 +1,7 @@
 package seedu.homerce.logic.commands.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.homerce.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -20,6 +21,7 @@ import seedu.homerce.model.UserPrefs;
 import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.manager.ClientManager;
 import seedu.homerce.model.manager.ExpenseTracker;
+import seedu.homerce.model.manager.HistoryManager;
 import seedu.homerce.model.manager.RevenueTracker;
 import seedu.homerce.model.manager.ServiceManager;
 import seedu.homerce.model.revenue.Revenue;
@@ -46,7 +48,6 @@ public class DoneAppointmentCommandTest {
             new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE).build(),
             expectedAppointment
         );
-        expectedModel.refreshSchedule();
         Revenue revenueToAdd = new Revenue(
             appointmentToMarkDone.getService(),
             appointmentToMarkDone.getAppointmentDate()
@@ -59,6 +60,26 @@ public class DoneAppointmentCommandTest {
         assertCommandSuccess(doneAppointmentCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validIndex_appointmentReplacedAndRestoredOnUndo() throws Exception {
+        Appointment appointmentToMarkDone = model.getFilteredAppointmentList()
+            .get(INDEX_FIRST_APPOINTMENT.getZeroBased());
+        DoneAppointmentCommand doneAppointmentCommand = new DoneAppointmentCommand(INDEX_FIRST_APPOINTMENT);
+        HistoryManager historyManager = HistoryManager.getInstance();
+        historyManager.addToHistory(doneAppointmentCommand);
+        doneAppointmentCommand.execute(model, historyManager);
+
+        // the appointment that saves in progress may still refer to is left as it was
+        assertFalse(appointmentToMarkDone.getStatus().isDone());
+        assertTrue(model.getFilteredAppointmentList().get(INDEX_FIRST_APPOINTMENT.getZeroBased())
+            .getStatus().isDone());
+
+        historyManager.getPreviousHistory().undo(model);
+        assertSame(appointmentToMarkDone, model.getFilteredAppointmentList()
+            .get(INDEX_FIRST_APPOINTMENT.getZeroBased()));
+        assertTrue(model.getRevenueTracker().getRevenueList().isEmpty());
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredAppointmentList().size() + 1);
@@ -56,7 +56,6 @@ public class EditAppointmentCommandTest {
             getTypicalServiceManager(), new RevenueTracker(), new ExpenseTracker(),
             new AppointmentManager(model.getAppointmentManager()));
         expectedModel.setAppointment(lastAppointment, editedAppointment);
-        expectedModel.refreshSchedule();
         assertCommandSuccess(editAppointmentCommand, model, expectedMessage, expectedModel);
     }
 
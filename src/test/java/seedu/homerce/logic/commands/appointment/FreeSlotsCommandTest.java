@@ -0,0 +1,64 @@
+package seedu.homerce.logic.commands.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.getTypicalAppointmentManager;
+import static seedu.homerce.testutil.service.TypicalServices.getTypicalServiceManager;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.homerce.logic.commands.CommandResult;
+import seedu.homerce.logic.commands.exceptions.CommandException;
+import seedu.homerce.model.Model;
+import seedu.homerce.model.ModelManager;
+import seedu.homerce.model.UserPrefs;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ExpenseTracker;
+import seedu.homerce.model.manager.HistoryManager;
+import seedu.homerce.model.manager.RevenueTracker;
+import seedu.homerce.model.service.ServiceCode;
+import seedu.homerce.model.util.attributes.Date;
+
+public class FreeSlotsCommandTest {
+    private Model model = new ModelManager(new UserPrefs(), new ClientManager(), getTypicalServiceManager(),
+        new RevenueTracker(), new ExpenseTracker(), getTypicalAppointmentManager());
+
+    @Test
+    public void execute_dateRange_listsFreeWindowsOfEachDay() throws CommandException {
+        // Hair treatment from 2 PM to 4 PM on 25 Oct and manicure from 11 AM to 11:30 AM on 26 Oct.
+        FreeSlotsCommand command = new FreeSlotsCommand(new ServiceCode("SC001"),
+            new Date("25-10-2020"), new Date("27-10-2020"));
+        CommandResult result = command.execute(model, HistoryManager.getInstance());
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_FREE_SLOTS, "Hair Treatment", "2.0")
+            + "\n25 Oct 2020: 12:00 AM - 2:00 PM, 4:00 PM - 11:30 PM"
+            + "\n26 Oct 2020: 12:00 AM - 11:00 AM, 11:30 AM - 11:30 PM"
+            + "\n27 Oct 2020: 12:00 AM - 11:30 PM";
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_unknownService_throwsCommandException() {
+        FreeSlotsCommand command = new FreeSlotsCommand(new ServiceCode("SC999"),
+            new Date("25-10-2020"), new Date("25-10-2020"));
+        assertThrows(CommandException.class, AddAppointmentCommand.MESSAGE_INVALID_SERVICE_CODE, () ->
+            command.execute(model, HistoryManager.getInstance()));
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand command = new FreeSlotsCommand(new ServiceCode("SC001"),
+            new Date("25-10-2020"), new Date("27-10-2020"));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FreeSlotsCommand(new ServiceCode("SC001"),
+            new Date("25-10-2020"), new Date("27-10-2020"))));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new FreeSlotsCommand(new ServiceCode("SC002"),
+            new Date("25-10-2020"), new Date("27-10-2020"))));
+        assertFalse(command.equals(new FreeSlotsCommand(new ServiceCode("SC001"),
+            new Date("25-10-2020"), new Date("26-10-2020"))));
+    }
+}
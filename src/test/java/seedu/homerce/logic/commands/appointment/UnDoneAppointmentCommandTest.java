@@ -1,6 +1,8 @@
 package seedu.homerce.logic.commands.appointment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.homerce.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -52,11 +54,30 @@ public class UnDoneAppointmentCommandTest {
             UnDoneAppointmentCommand.MESSAGE_UNDONE_APPOINTMENT_SUCCESS,
             appointmentToMarkUnDone
         ) + "\n" + String.format(MESSAGE_DELETE_REVENUE_SUCCESS, revenueToRemove);
-        expectedModel.refreshSchedule();
-        model.refreshSchedule();
         assertCommandSuccess(unDoneAppointmentCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validIndex_appointmentReplacedAndRestoredOnUndo() throws Exception {
+        new DoneAppointmentCommand(INDEX_FIRST_APPOINTMENT).execute(model, HistoryManager.getInstance());
+        Appointment appointmentToMarkUnDone = model.getFilteredAppointmentList()
+            .get(INDEX_FIRST_APPOINTMENT.getZeroBased());
+        UnDoneAppointmentCommand unDoneAppointmentCommand = new UnDoneAppointmentCommand(INDEX_FIRST_APPOINTMENT);
+        HistoryManager historyManager = HistoryManager.getInstance();
+        historyManager.addToHistory(unDoneAppointmentCommand);
+        unDoneAppointmentCommand.execute(model, historyManager);
+
+        // the appointment that saves in progress may still refer to is left as it was
+        assertTrue(appointmentToMarkUnDone.getStatus().isDone());
+        assertFalse(model.getFilteredAppointmentList().get(INDEX_FIRST_APPOINTMENT.getZeroBased())
+            .getStatus().isDone());
+
+        historyManager.getPreviousHistory().undo(model);
+        assertSame(appointmentToMarkUnDone, model.getFilteredAppointmentList()
+            .get(INDEX_FIRST_APPOINTMENT.getZeroBased()));
+        assertEquals(1, model.getRevenueTracker().getRevenueList().size());
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredAppointmentList().size() + 1);
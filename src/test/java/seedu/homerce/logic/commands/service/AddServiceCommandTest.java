@@ -19,12 +19,9 @@ import javafx.collections.ObservableList;
 import seedu.homerce.logic.commands.CommandResult;
 import seedu.homerce.logic.commands.exceptions.CommandException;
 import seedu.homerce.model.appointment.Appointment;
-import seedu.homerce.model.manager.AppointmentManager;
 import seedu.homerce.model.manager.HistoryManager;
-import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
-import seedu.homerce.model.manager.ReadOnlyServiceManager;
-import seedu.homerce.model.manager.ServiceManager;
 import seedu.homerce.model.service.Service;
+import seedu.homerce.model.service.ServiceCodeGenerator;
 import seedu.homerce.testutil.ModelStub;
 
 public class AddServiceCommandTest {
@@ -90,13 +87,8 @@ public class AddServiceCommandTest {
         }
 
         @Override
-        public ReadOnlyServiceManager getServiceManager() {
-            return new ServiceManager();
-        }
-
-        @Override
-        public ReadOnlyAppointmentManager getAppointmentManager() {
-            return new AppointmentManager();
+        public String generateNewServiceCode() {
+            return ServiceCodeGenerator.generateNewServiceCode(servicesAdded, new ArrayList<>());
         }
 
         @Override
@@ -85,6 +85,6 @@ public class AddAppointmentCommandParserTest {
 
         //invalid service code
         assertThrows(ParseException.class, () -> parser.parse(
-            " dt/25-10-2020 t/1400 p/81234567 s/SC1234"));
+            " dt/25-10-2020 t/1400 p/81234567 s/SC01234"));
     }
 }
@@ -58,7 +58,7 @@ public class EditAppointmentCommandParserTest {
         assertThrows(ParseException.class, () -> parser.parse("1 p/8sf81s"));
 
         //invalid service code
-        assertThrows(ParseException.class, () -> parser.parse("1 s/SC12345"));
+        assertThrows(ParseException.class, () -> parser.parse("1 s/SC012345"));
 
     }
 
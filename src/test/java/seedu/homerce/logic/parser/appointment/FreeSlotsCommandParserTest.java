@@ -0,0 +1,44 @@
+package seedu.homerce.logic.parser.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.homerce.logic.commands.appointment.FreeSlotsCommand;
+import seedu.homerce.logic.parser.exceptions.ParseException;
+import seedu.homerce.model.service.ServiceCode;
+import seedu.homerce.model.util.attributes.Date;
+
+public class FreeSlotsCommandParserTest {
+    private FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_singleDate_returnsFreeSlotsCommand() throws ParseException {
+        FreeSlotsCommand expectedCommand = new FreeSlotsCommand(new ServiceCode("SC001"),
+            new Date("28-10-2020"), new Date("28-10-2020"));
+        assertEquals(expectedCommand, parser.parse(" s/SC001 dt/28-10-2020"));
+    }
+
+    @Test
+    public void parse_dateRange_returnsFreeSlotsCommand() throws ParseException {
+        FreeSlotsCommand expectedCommand = new FreeSlotsCommand(new ServiceCode("SC001"),
+            new Date("28-10-2020"), new Date("27-11-2020"));
+        assertEquals(expectedCommand, parser.parse(" s/SC001 dt/28-10-2020 dt/27-11-2020"));
+    }
+
+    @Test
+    public void parse_missingParameters_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" s/SC001"));
+        assertThrows(ParseException.class, () -> parser.parse(" dt/28-10-2020"));
+        assertThrows(ParseException.class, () -> parser.parse(" s/SC001 dt/28-10-2020 dt/29-10-2020 dt/30-10-2020"));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertThrows(ParseException.class, FreeSlotsCommand.MESSAGE_INVALID_DATE_RANGE, () ->
+            parser.parse(" s/SC001 dt/28-10-2020 dt/27-10-2020"));
+        assertThrows(ParseException.class, FreeSlotsCommand.MESSAGE_INVALID_DATE_RANGE, () ->
+            parser.parse(" s/SC001 dt/28-10-2020 dt/28-11-2020"));
+    }
+}
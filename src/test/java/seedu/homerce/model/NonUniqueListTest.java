@@ -7,6 +7,8 @@ import static seedu.homerce.testutil.Assert.assertThrows;
 import static seedu.homerce.testutil.expense.TypicalExpenses.CHAIR;
 import static seedu.homerce.testutil.expense.TypicalExpenses.CONDITIONER;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.homerce.model.expense.Expense;
@@ -52,5 +54,17 @@ public class NonUniqueListTest {
 
         assertFalse(firstList.equals(thirdList));
     }
-}
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        NonUniqueList<Expense> list = new NonUniqueList<>();
+        list.add(CONDITIONER);
+        List<Expense> snapshot = list.snapshot();
+
+        list.add(CHAIR);
+        list.remove(CONDITIONER);
+
+        assertEquals(List.of(CONDITIONER), snapshot);
+        assertEquals(List.of(CHAIR), list.snapshot());
+    }
+}
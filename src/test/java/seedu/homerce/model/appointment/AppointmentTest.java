@@ -3,6 +3,7 @@ package seedu.homerce.model.appointment;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.testutil.Assert.assertThrows;
 import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_230PM_LASH_LIFT_BENSON;
@@ -11,6 +12,7 @@ import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020
 import org.junit.jupiter.api.Test;
 
 import seedu.homerce.testutil.appointment.AppointmentBuilder;
+import seedu.homerce.testutil.service.TypicalServices;
 
 public class AppointmentTest {
     @Test
@@ -34,6 +36,21 @@ public class AppointmentTest {
         assertFalse(secondAppointment.isSame(firstAppointment));
     }
 
+    @Test
+    public void isSame_overlappingWithSameEndTime_returnsTrue() {
+        Appointment twoHourAppointment = new AppointmentBuilder().withTimeOfDay("1400")
+            .withService(TypicalServices.HAIR_TREATMENT).build();
+        Appointment lastHalfHourAppointment = new AppointmentBuilder().withTimeOfDay("1530")
+            .withService(TypicalServices.MANICURE).build();
+        assertTrue(twoHourAppointment.isSame(lastHalfHourAppointment));
+        assertTrue(lastHalfHourAppointment.isSame(twoHourAppointment));
+
+        // back to back appointments do not clash
+        Appointment nextAppointment = new AppointmentBuilder().withTimeOfDay("1600")
+            .withService(TypicalServices.MANICURE).build();
+        assertFalse(twoHourAppointment.isSame(nextAppointment));
+    }
+
     @Test
     public void equals() {
         Appointment firstAppointment = new AppointmentBuilder().build();
@@ -88,6 +105,22 @@ public class AppointmentTest {
         assertEquals(appointment.getAppointmentEndTime(), endTime);
     }
 
+    @Test
+    public void getSlots_returnsStartAndEndSlots() {
+        Appointment appointment = OCT_25_2020_2PM_HAIR_TREATMENT_ALICE;
+        assertEquals(28, appointment.getStartSlot());
+        assertEquals(32, appointment.getEndSlot());
+        assertSame(appointment.getAppointmentEndTime(), appointment.getAppointmentEndTime());
+    }
+
+    @Test
+    public void getAppointmentEndTime_pastMidnight_wrapsToNextDay() {
+        Appointment appointment = new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE)
+            .withTimeOfDay("2300").build();
+        assertEquals(50, appointment.getEndSlot());
+        assertEquals(new TimeOfDay("0100"), appointment.getAppointmentEndTime());
+    }
+
     @Test
     public void testHashCode() {
         Appointment editedAppointment = new AppointmentBuilder().withDate("12-10-2020").build();
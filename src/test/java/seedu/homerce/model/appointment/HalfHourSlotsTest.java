@@ -0,0 +1,75 @@
+package seedu.homerce.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.homerce.model.service.Duration;
+import seedu.homerce.testutil.appointment.AppointmentBuilder;
+import seedu.homerce.testutil.service.ServiceBuilder;
+
+public class HalfHourSlotsTest {
+    @Test
+    public void getSlot() {
+        assertEquals(0, HalfHourSlots.getSlot(LocalTime.MIDNIGHT));
+        assertEquals(29, HalfHourSlots.getSlot(LocalTime.of(14, 30)));
+        assertEquals(47, HalfHourSlots.getSlot(LocalTime.of(23, 30)));
+    }
+
+    @Test
+    public void getSlotCount() {
+        assertEquals(1, HalfHourSlots.getSlotCount(new Duration(0.5)));
+        assertEquals(5, HalfHourSlots.getSlotCount(new Duration(2.5)));
+    }
+
+    @Test
+    public void getOccupiedSlots_appointment_coversItsSlots() {
+        Appointment appointment = new AppointmentBuilder().withTimeOfDay("1400")
+            .withService(new ServiceBuilder().withDuration(1.5).build()).build();
+        assertEquals(0b111L << 28, HalfHourSlots.getOccupiedSlots(appointment));
+    }
+
+    @Test
+    public void getOccupiedSlots_pastMidnight_wrapsToStartOfDay() {
+        Appointment appointment = new AppointmentBuilder().withTimeOfDay("2300")
+            .withService(new ServiceBuilder().withDuration(2.0).build()).build();
+        assertEquals((0b11L << 46) | 0b11L, HalfHourSlots.getOccupiedSlots(appointment));
+    }
+
+    @Test
+    public void getFreeStartSlots() {
+        // Free from slot 0 to 9 and from slot 20 to the end of the day.
+        long occupied = ((1L << 20) - 1) & ~((1L << 10) - 1);
+        long freeStartSlots = HalfHourSlots.getFreeStartSlots(occupied, 4);
+        assertEquals(0b1111111L, freeStartSlots & ((1L << 20) - 1));
+        assertEquals(HalfHourSlots.WHOLE_DAY >>> 20 >>> 3, freeStartSlots >>> 20);
+
+        assertEquals(1L, HalfHourSlots.getFreeStartSlots(0, HalfHourSlots.SLOTS_PER_DAY));
+        assertEquals(0L, HalfHourSlots.getFreeStartSlots(1L, HalfHourSlots.SLOTS_PER_DAY));
+        assertThrows(IllegalArgumentException.class, () -> HalfHourSlots.getFreeStartSlots(0, 0));
+    }
+
+    @Test
+    public void getFreeWindows() {
+        long occupied = (0b1111L << 28) | (1L << 22);
+        List<int[]> windows = HalfHourSlots.getFreeWindows(occupied, 2);
+        assertEquals(3, windows.size());
+        assertArrayEquals(new int[] {0, 22}, windows.get(0));
+        assertArrayEquals(new int[] {23, 28}, windows.get(1));
+        assertArrayEquals(new int[] {32, 48}, windows.get(2));
+
+        // The gap between the two appointments is too short for six slots.
+        windows = HalfHourSlots.getFreeWindows(occupied, 6);
+        assertEquals(2, windows.size());
+        assertArrayEquals(new int[] {0, 22}, windows.get(0));
+        assertArrayEquals(new int[] {32, 48}, windows.get(1));
+
+        assertTrue(HalfHourSlots.getFreeWindows(HalfHourSlots.WHOLE_DAY, 1).isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.homerce.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class ScheduleWeekTest {
+    private static final ScheduleWeek WEEK_OF_NOV_25_2020 = ScheduleWeek.of(LocalDate.of(2020, 11, 25));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ScheduleWeek.of(null));
+    }
+
+    @Test
+    public void of_anyDayOfWeek_startsOnMondayAndEndsOnSunday() {
+        for (int day = 23; day <= 29; day++) {
+            ScheduleWeek week = ScheduleWeek.of(LocalDate.of(2020, 11, day));
+            assertEquals(LocalDate.of(2020, 11, 23), week.getStartDate());
+            assertEquals(LocalDate.of(2020, 11, 29), week.getEndDate());
+        }
+
+        // Weeks before 1970 are found in the same way
+        ScheduleWeek week = ScheduleWeek.of(LocalDate.of(1969, 12, 31));
+        assertEquals(DayOfWeek.MONDAY, week.getStartDate().getDayOfWeek());
+        assertEquals(LocalDate.of(1969, 12, 29), week.getStartDate());
+    }
+
+    @Test
+    public void nextAndPrevious_moveByOneWeek() {
+        assertEquals(ScheduleWeek.of(LocalDate.of(2020, 11, 30)), WEEK_OF_NOV_25_2020.next());
+        assertEquals(ScheduleWeek.of(LocalDate.of(2020, 11, 16)), WEEK_OF_NOV_25_2020.previous());
+        assertEquals(WEEK_OF_NOV_25_2020, WEEK_OF_NOV_25_2020.next().previous());
+
+        // Across the end of the year
+        assertEquals(LocalDate.of(2021, 1, 4), ScheduleWeek.of(LocalDate.of(2020, 12, 31)).next().getStartDate());
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(WEEK_OF_NOV_25_2020.contains(LocalDate.of(2020, 11, 23))); // monday
+        assertTrue(WEEK_OF_NOV_25_2020.contains(LocalDate.of(2020, 11, 29))); // sunday
+        assertFalse(WEEK_OF_NOV_25_2020.contains(LocalDate.of(2020, 11, 22))); // previous week
+        assertFalse(WEEK_OF_NOV_25_2020.contains(LocalDate.of(2020, 11, 30))); // next week
+        assertTrue(WEEK_OF_NOV_25_2020.contains(LocalDate.of(2020, 11, 25).toEpochDay()));
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertEquals(WEEK_OF_NOV_25_2020, ScheduleWeek.of(LocalDate.of(2020, 11, 29)));
+        assertEquals(WEEK_OF_NOV_25_2020.hashCode(), ScheduleWeek.of(LocalDate.of(2020, 11, 29)).hashCode());
+        // different types -> returns false
+        assertNotEquals(WEEK_OF_NOV_25_2020, 1);
+        assertNotEquals(WEEK_OF_NOV_25_2020, null);
+        // different week -> returns false
+        assertNotEquals(WEEK_OF_NOV_25_2020, WEEK_OF_NOV_25_2020.next());
+    }
+
+    @Test
+    public void toString_matchesFormat() {
+        assertEquals("23 Nov 2020 to 29 Nov 2020", WEEK_OF_NOV_25_2020.toString());
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.homerce.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.Assert.assertThrows;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.NOV_11_2020_12PM_LASH_LIFT_BENSON;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_2PM_HAIR_TREATMENT_ALICE;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_26_2020_11AM_MANICURE_CARL;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_27_2020_12PM_LASH_LIFT_BENSON;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.homerce.testutil.appointment.AppointmentBuilder;
+
+public class WeekOverviewTest {
+    private static final ScheduleWeek WEEK_OF_OCT_26_2020 = ScheduleWeek.of(LocalDate.of(2020, 10, 26));
+    private static final List<Appointment> SORTED_APPOINTMENTS = Arrays.asList(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE,
+            OCT_26_2020_11AM_MANICURE_CARL, OCT_27_2020_12PM_LASH_LIFT_BENSON, NOV_11_2020_12PM_LASH_LIFT_BENSON);
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> WeekOverview.of(null, SORTED_APPOINTMENTS));
+        assertThrows(NullPointerException.class, () -> WeekOverview.of(WEEK_OF_OCT_26_2020, null));
+    }
+
+    @Test
+    public void of_appointmentsInWeek_keepsOnlyAppointmentsOfWeek() {
+        WeekOverview overview = WeekOverview.of(WEEK_OF_OCT_26_2020, SORTED_APPOINTMENTS);
+        assertEquals(WEEK_OF_OCT_26_2020, overview.getWeek());
+        assertEquals(Arrays.asList(OCT_26_2020_11AM_MANICURE_CARL, OCT_27_2020_12PM_LASH_LIFT_BENSON),
+                overview.getAppointments());
+        assertEquals(OCT_26_2020_11AM_MANICURE_CARL.getStartSlot(), overview.getEarliestStartSlot());
+        assertEquals(Math.max(OCT_26_2020_11AM_MANICURE_CARL.getEndSlot(),
+                OCT_27_2020_12PM_LASH_LIFT_BENSON.getEndSlot()), overview.getLatestEndSlot());
+    }
+
+    @Test
+    public void of_noAppointmentsInWeek_usesDefaultTimes() {
+        WeekOverview overview = WeekOverview.of(WEEK_OF_OCT_26_2020.next(), SORTED_APPOINTMENTS);
+        assertEquals(Collections.emptyList(), overview.getAppointments());
+        assertEquals(HalfHourSlots.getSlot(LocalTime.of(8, 0)), overview.getEarliestStartSlot());
+        assertEquals(HalfHourSlots.getSlot(LocalTime.of(23, 0)), overview.getLatestEndSlot());
+    }
+
+    @Test
+    public void of_appointmentPastMidnight_endSlotWrapsAround() {
+        Appointment lateAppointment = new AppointmentBuilder(OCT_26_2020_11AM_MANICURE_CARL)
+                .withTimeOfDay("2330")
+                .build();
+        WeekOverview overview = WeekOverview.of(WEEK_OF_OCT_26_2020,
+                Arrays.asList(lateAppointment, OCT_27_2020_12PM_LASH_LIFT_BENSON));
+        assertEquals(OCT_27_2020_12PM_LASH_LIFT_BENSON.getEndSlot(), overview.getLatestEndSlot());
+    }
+
+    @Test
+    public void getAppointments_modify_throwsUnsupportedOperationException() {
+        WeekOverview overview = WeekOverview.of(WEEK_OF_OCT_26_2020, SORTED_APPOINTMENTS);
+        assertThrows(UnsupportedOperationException.class, () -> overview.getAppointments().remove(0));
+    }
+}
@@ -5,19 +5,30 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.testutil.Assert.assertThrows;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.NOV_11_2020_12PM_LASH_LIFT_BENSON;
 import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_230PM_LASH_LIFT_BENSON;
 import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_2PM_HAIR_TREATMENT_ALICE;
 import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_26_2020_11AM_MANICURE_CARL;
+import static seedu.homerce.testutil.client.TypicalClients.ALICE;
+import static seedu.homerce.testutil.client.TypicalClients.BENSON;
+import static seedu.homerce.testutil.client.TypicalClients.CARL;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.client.Client;
 import seedu.homerce.model.util.uniquelist.exceptions.DuplicateItemException;
 import seedu.homerce.model.util.uniquelist.exceptions.ItemNotFoundException;
+import seedu.homerce.testutil.appointment.AppointmentBuilder;
+import seedu.homerce.testutil.client.ClientBuilder;
+import seedu.homerce.testutil.service.TypicalServices;
 
 public class UniqueAppointmentListTest {
 
@@ -48,6 +59,43 @@ public class UniqueAppointmentListTest {
         assertTrue(appointments.contains(OCT_25_2020_230PM_LASH_LIFT_BENSON));
     }
 
+    @Test
+    public void contains_appointmentOverlappingLongerAppointment_returnsTrue() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        appointments.add(new AppointmentBuilder().withTimeOfDay("1000").withService(TypicalServices.MANICURE)
+            .build());
+        appointments.add(new AppointmentBuilder().withTimeOfDay("1030").withService(TypicalServices.HAIR_TREATMENT)
+            .build());
+
+        assertTrue(appointments.contains(new AppointmentBuilder().withTimeOfDay("1130")
+            .withService(TypicalServices.MANICURE).build()));
+        assertFalse(appointments.contains(new AppointmentBuilder().withTimeOfDay("1230")
+            .withService(TypicalServices.MANICURE).build()));
+        assertFalse(appointments.contains(new AppointmentBuilder().withDate("01-01-2021").withTimeOfDay("1200")
+            .withService(TypicalServices.MANICURE).build()));
+    }
+
+    @Test
+    public void contains_appointmentRunsPastMidnight_clashesWithStartOfDay() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        appointments.add(new AppointmentBuilder().withTimeOfDay("2300").withService(TypicalServices.HAIR_TREATMENT)
+            .build());
+        assertTrue(appointments.contains(new AppointmentBuilder().withTimeOfDay("0030")
+            .withService(TypicalServices.HAIR_TREATMENT).build()));
+    }
+
+    @Test
+    public void contains_afterRemoveAndSetItem_indexKeptInSync() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        appointments.add(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+        appointments.setItem(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, OCT_26_2020_11AM_MANICURE_CARL);
+        assertFalse(appointments.contains(OCT_25_2020_230PM_LASH_LIFT_BENSON));
+        assertTrue(appointments.contains(OCT_26_2020_11AM_MANICURE_CARL));
+
+        appointments.remove(OCT_26_2020_11AM_MANICURE_CARL);
+        assertFalse(appointments.contains(OCT_26_2020_11AM_MANICURE_CARL));
+    }
+
     @Test
     public void add_nullAppointment_throwsNullPointerException() {
         UniqueAppointmentList appointments = new UniqueAppointmentList();
@@ -200,6 +248,96 @@ public class UniqueAppointmentListTest {
             .setItems(listWithDuplicateAppointments));
     }
 
+    @Test
+    public void add_appointmentsOutOfOrder_insertedInPlaceWithoutPermutation() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        List<ListChangeListener.Change<? extends Appointment>> changes = new ArrayList<>();
+        appointments.asUnmodifiableObservableList().addListener(changes::add);
+
+        appointments.add(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+
+        assertEquals(Arrays.asList(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, OCT_26_2020_11AM_MANICURE_CARL),
+            appointments.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Appointment> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertTrue(change.wasAdded());
+        assertFalse(change.wasPermutated());
+        assertEquals(0, change.getFrom());
+    }
+
+    @Test
+    public void setAppointment_editedAppointmentOnLaterDate_movedToItsPlace() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        appointments.add(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        Appointment editedAppointment = new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE)
+            .withDate("27-10-2020").build();
+
+        appointments.setItem(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, editedAppointment);
+
+        assertEquals(Arrays.asList(OCT_26_2020_11AM_MANICURE_CARL, editedAppointment),
+            appointments.asUnmodifiableObservableList());
+        assertTrue(appointments.contains(editedAppointment));
+        assertFalse(appointments.contains(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE));
+    }
+
+    @Test
+    public void setAppointments_unsortedList_sortedByDateAndTime() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        appointments.setItems(Arrays.asList(OCT_26_2020_11AM_MANICURE_CARL, OCT_25_2020_2PM_HAIR_TREATMENT_ALICE));
+        assertEquals(Arrays.asList(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, OCT_26_2020_11AM_MANICURE_CARL),
+            appointments.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAppointments_listWithClashingAppointments_throwsDuplicateAppointmentException() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        List<Appointment> listWithClashingAppointments = Arrays.asList(OCT_26_2020_11AM_MANICURE_CARL,
+            OCT_25_2020_230PM_LASH_LIFT_BENSON, OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+        assertThrows(DuplicateItemException.class, () -> appointments.setItems(listWithClashingAppointments));
+    }
+
+    @Test
+    public void setAppointments_overlappingAppointmentsEndingAtSameTime_throwsDuplicateAppointmentException() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        Appointment lastHalfHourAppointment = new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE)
+            .withTimeOfDay("1530").withService(TypicalServices.MANICURE).build();
+        assertThrows(DuplicateItemException.class, () -> appointments.setItems(
+            Arrays.asList(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, lastHalfHourAppointment)));
+    }
+
+    @Test
+    public void setAppointments_appointmentRunsPastMidnight_clashesWithStartOfDay() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        Appointment lateAppointment = new AppointmentBuilder().withTimeOfDay("2300")
+            .withService(TypicalServices.HAIR_TREATMENT).build();
+        Appointment earlyAppointment = new AppointmentBuilder().withTimeOfDay("0030")
+            .withService(TypicalServices.HAIR_TREATMENT).build();
+        assertTrue(lateAppointment.isSame(earlyAppointment));
+        assertThrows(DuplicateItemException.class, () ->
+            appointments.setItems(Arrays.asList(lateAppointment, earlyAppointment)));
+    }
+
+    @Test
+    public void setAppointments_manyBackToBackAppointments_success() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        List<Appointment> appointmentList = new ArrayList<>();
+        for (int day = 1; day <= 28; day++) {
+            for (int hour = 10; hour < 20; hour++) {
+                appointmentList.add(new AppointmentBuilder().withDate(String.format("%02d-02-2021", day))
+                    .withTimeOfDay(String.format("%02d30", hour)).withService(TypicalServices.MANICURE).build());
+                appointmentList.add(new AppointmentBuilder().withDate(String.format("%02d-02-2021", day))
+                    .withTimeOfDay(String.format("%02d00", hour)).withService(TypicalServices.MANICURE).build());
+            }
+        }
+        appointments.setItems(appointmentList);
+        assertEquals(appointmentList.size(), appointments.size());
+        assertEquals(appointmentList.get(1), appointments.asUnmodifiableObservableList().get(0));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         UniqueAppointmentList appointments = new UniqueAppointmentList();
@@ -219,4 +357,37 @@ public class UniqueAppointmentListTest {
         secondList.add(OCT_26_2020_11AM_MANICURE_CARL);
         assertNotEquals(firstList.hashCode(), secondList.hashCode());
     }
+
+    @Test
+    public void getAppointmentsOfClient_appointmentsOfClient_returnsAppointmentsByDate() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        appointments.add(NOV_11_2020_12PM_LASH_LIFT_BENSON);
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        appointments.add(OCT_25_2020_230PM_LASH_LIFT_BENSON);
+        assertEquals(Arrays.asList(OCT_25_2020_230PM_LASH_LIFT_BENSON, NOV_11_2020_12PM_LASH_LIFT_BENSON),
+            appointments.getAppointmentsOfClient(BENSON.getPhone()));
+        assertEquals(Collections.singletonList(OCT_26_2020_11AM_MANICURE_CARL),
+            appointments.getAppointmentsOfClient(CARL.getPhone()));
+        assertEquals(Collections.emptyList(), appointments.getAppointmentsOfClient(ALICE.getPhone()));
+
+        appointments.remove(OCT_25_2020_230PM_LASH_LIFT_BENSON);
+        assertEquals(Collections.singletonList(NOV_11_2020_12PM_LASH_LIFT_BENSON),
+            appointments.getAppointmentsOfClient(BENSON.getPhone()));
+    }
+
+    @Test
+    public void hasAppointmentOnOrAfter() {
+        UniqueAppointmentList appointments = new UniqueAppointmentList();
+        appointments.add(OCT_25_2020_230PM_LASH_LIFT_BENSON);
+        LocalDate appointmentDate = OCT_25_2020_230PM_LASH_LIFT_BENSON.getAppointmentDate().getLocalDate();
+
+        assertTrue(appointments.hasAppointmentOnOrAfter(BENSON, appointmentDate.minusDays(1)));
+        assertTrue(appointments.hasAppointmentOnOrAfter(BENSON, appointmentDate));
+        assertFalse(appointments.hasAppointmentOnOrAfter(BENSON, appointmentDate.plusDays(1)));
+        assertFalse(appointments.hasAppointmentOnOrAfter(CARL, appointmentDate));
+
+        // same phone but different details -> returns false
+        Client editedBenson = new ClientBuilder(BENSON).withName("Benny").build();
+        assertFalse(appointments.hasAppointmentOnOrAfter(editedBenson, appointmentDate));
+    }
 }
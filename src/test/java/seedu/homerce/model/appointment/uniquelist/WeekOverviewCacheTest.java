@@ -0,0 +1,125 @@
+package seedu.homerce.model.appointment.uniquelist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.NOV_11_2020_12PM_LASH_LIFT_BENSON;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_2PM_HAIR_TREATMENT_ALICE;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_26_2020_11AM_MANICURE_CARL;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_27_2020_12PM_LASH_LIFT_BENSON;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.homerce.model.appointment.ScheduleWeek;
+import seedu.homerce.model.appointment.WeekOverview;
+
+public class WeekOverviewCacheTest {
+    private static final ScheduleWeek WEEK_OF_OCT_26_2020 = ScheduleWeek.of(LocalDate.of(2020, 10, 26));
+
+    private final UniqueAppointmentList appointments = new UniqueAppointmentList();
+    private final List<Runnable> pendingPrefetches = new ArrayList<>();
+    private final WeekOverviewCache cache = new WeekOverviewCache(appointments, 3, pendingPrefetches::add);
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new WeekOverviewCache(null));
+        assertThrows(NullPointerException.class, () -> new WeekOverviewCache(appointments, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new WeekOverviewCache(appointments, 0, Runnable::run));
+    }
+
+    @Test
+    public void get_sameWeek_returnsCachedOverview() {
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        WeekOverview overview = cache.get(WEEK_OF_OCT_26_2020);
+        assertEquals(Collections.singletonList(OCT_26_2020_11AM_MANICURE_CARL), overview.getAppointments());
+        assertSame(overview, cache.get(WEEK_OF_OCT_26_2020));
+    }
+
+    @Test
+    public void get_moreWeeksThanCapacity_evictsLeastRecentlyUsedWeek() {
+        cache.get(WEEK_OF_OCT_26_2020);
+        cache.get(WEEK_OF_OCT_26_2020.next());
+        cache.get(WEEK_OF_OCT_26_2020.previous());
+        cache.get(WEEK_OF_OCT_26_2020); // most recently used again
+        cache.get(WEEK_OF_OCT_26_2020.next().next());
+
+        assertTrue(cache.contains(WEEK_OF_OCT_26_2020));
+        assertFalse(cache.contains(WEEK_OF_OCT_26_2020.next()));
+        assertTrue(cache.contains(WEEK_OF_OCT_26_2020.previous()));
+        assertTrue(cache.contains(WEEK_OF_OCT_26_2020.next().next()));
+    }
+
+    @Test
+    public void appointmentChanged_invalidatesOnlyWeekOfAppointment() {
+        cache.get(WEEK_OF_OCT_26_2020);
+        cache.get(WEEK_OF_OCT_26_2020.previous());
+
+        appointments.add(OCT_27_2020_12PM_LASH_LIFT_BENSON);
+        assertFalse(cache.contains(WEEK_OF_OCT_26_2020));
+        assertTrue(cache.contains(WEEK_OF_OCT_26_2020.previous()));
+        assertEquals(Collections.singletonList(OCT_27_2020_12PM_LASH_LIFT_BENSON),
+                cache.get(WEEK_OF_OCT_26_2020).getAppointments());
+
+        appointments.remove(OCT_27_2020_12PM_LASH_LIFT_BENSON);
+        assertEquals(Collections.emptyList(), cache.get(WEEK_OF_OCT_26_2020).getAppointments());
+    }
+
+    @Test
+    public void get_currentWeekAfterChanges_upToDate() {
+        appointments.add(OCT_27_2020_12PM_LASH_LIFT_BENSON);
+        cache.setCurrentWeek(WEEK_OF_OCT_26_2020);
+        assertEquals(Collections.singletonList(OCT_27_2020_12PM_LASH_LIFT_BENSON),
+                cache.get(WEEK_OF_OCT_26_2020).getAppointments());
+
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        appointments.add(NOV_11_2020_12PM_LASH_LIFT_BENSON);
+        assertEquals(Arrays.asList(OCT_26_2020_11AM_MANICURE_CARL, OCT_27_2020_12PM_LASH_LIFT_BENSON),
+                cache.get(WEEK_OF_OCT_26_2020).getAppointments());
+
+        appointments.setItems(Arrays.asList(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, OCT_26_2020_11AM_MANICURE_CARL));
+        assertEquals(Collections.singletonList(OCT_26_2020_11AM_MANICURE_CARL),
+                cache.get(WEEK_OF_OCT_26_2020).getAppointments());
+        assertEquals(Collections.singletonList(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE),
+                cache.get(WEEK_OF_OCT_26_2020.previous()).getAppointments());
+    }
+
+    @Test
+    public void prefetchAdjacentWeeks_computesWeeksBeforeAndAfter() {
+        appointments.setItems(Arrays.asList(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, OCT_26_2020_11AM_MANICURE_CARL,
+                NOV_11_2020_12PM_LASH_LIFT_BENSON));
+        ScheduleWeek weekOfNov2 = WEEK_OF_OCT_26_2020.next();
+        cache.prefetchAdjacentWeeks(weekOfNov2);
+        assertEquals(2, pendingPrefetches.size());
+        assertFalse(cache.contains(WEEK_OF_OCT_26_2020));
+
+        pendingPrefetches.forEach(Runnable::run);
+        assertTrue(cache.contains(WEEK_OF_OCT_26_2020));
+        assertTrue(cache.contains(weekOfNov2.next()));
+        assertEquals(Collections.singletonList(NOV_11_2020_12PM_LASH_LIFT_BENSON),
+                cache.get(weekOfNov2.next()).getAppointments());
+
+        // Weeks in the cache are not worked out again
+        pendingPrefetches.clear();
+        cache.prefetchAdjacentWeeks(weekOfNov2);
+        assertTrue(pendingPrefetches.isEmpty());
+    }
+
+    @Test
+    public void prefetchAdjacentWeeks_appointmentsChangedBeforePrefetchDone_discardsStaleOverview() {
+        cache.prefetchAdjacentWeeks(WEEK_OF_OCT_26_2020.next());
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        pendingPrefetches.forEach(Runnable::run);
+
+        assertFalse(cache.contains(WEEK_OF_OCT_26_2020));
+        assertEquals(Collections.singletonList(OCT_26_2020_11AM_MANICURE_CARL),
+                cache.get(WEEK_OF_OCT_26_2020).getAppointments());
+    }
+}
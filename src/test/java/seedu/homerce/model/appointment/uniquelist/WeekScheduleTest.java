@@ -0,0 +1,103 @@
+package seedu.homerce.model.appointment.uniquelist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.Assert.assertThrows;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.NOV_11_2020_12PM_LASH_LIFT_BENSON;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_2PM_HAIR_TREATMENT_ALICE;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_26_2020_11AM_MANICURE_CARL;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_27_2020_12PM_LASH_LIFT_BENSON;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.ScheduleWeek;
+import seedu.homerce.testutil.appointment.AppointmentBuilder;
+
+public class WeekScheduleTest {
+    private static final ScheduleWeek WEEK_OF_OCT_26_2020 = ScheduleWeek.of(LocalDate.of(2020, 10, 26));
+
+    private final UniqueAppointmentList appointments = new UniqueAppointmentList();
+    private final WeekSchedule weekSchedule = new WeekSchedule(appointments);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeekSchedule(null));
+    }
+
+    @Test
+    public void setWeek_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> weekSchedule.setWeek(null));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_noWeekSet_isEmpty() {
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        assertEquals(Collections.emptyList(), weekSchedule.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setWeek_showsOnlyAppointmentsInWeekInOrder() {
+        appointments.setItems(Arrays.asList(NOV_11_2020_12PM_LASH_LIFT_BENSON, OCT_27_2020_12PM_LASH_LIFT_BENSON,
+                OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, OCT_26_2020_11AM_MANICURE_CARL));
+        weekSchedule.setWeek(WEEK_OF_OCT_26_2020);
+        assertEquals(Arrays.asList(OCT_26_2020_11AM_MANICURE_CARL, OCT_27_2020_12PM_LASH_LIFT_BENSON),
+                weekSchedule.asUnmodifiableObservableList());
+
+        weekSchedule.setWeek(WEEK_OF_OCT_26_2020.previous());
+        assertEquals(Collections.singletonList(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE),
+                weekSchedule.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_appointmentInWeek_addedInOrder() {
+        weekSchedule.setWeek(WEEK_OF_OCT_26_2020);
+        appointments.add(OCT_27_2020_12PM_LASH_LIFT_BENSON);
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        assertEquals(Arrays.asList(OCT_26_2020_11AM_MANICURE_CARL, OCT_27_2020_12PM_LASH_LIFT_BENSON),
+                weekSchedule.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_appointmentOutsideWeek_ignored() {
+        weekSchedule.setWeek(WEEK_OF_OCT_26_2020);
+        appointments.add(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+        appointments.add(NOV_11_2020_12PM_LASH_LIFT_BENSON);
+        assertEquals(Collections.emptyList(), weekSchedule.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_appointmentInWeek_removed() {
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        appointments.add(OCT_27_2020_12PM_LASH_LIFT_BENSON);
+        weekSchedule.setWeek(WEEK_OF_OCT_26_2020);
+        appointments.remove(OCT_26_2020_11AM_MANICURE_CARL);
+        assertEquals(Collections.singletonList(OCT_27_2020_12PM_LASH_LIFT_BENSON),
+                weekSchedule.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setItem_appointmentMovedOutOfWeek_removed() {
+        appointments.add(OCT_26_2020_11AM_MANICURE_CARL);
+        weekSchedule.setWeek(WEEK_OF_OCT_26_2020);
+        Appointment movedAppointment = new AppointmentBuilder(OCT_26_2020_11AM_MANICURE_CARL)
+                .withDate("11-11-2020")
+                .build();
+        appointments.setItem(OCT_26_2020_11AM_MANICURE_CARL, movedAppointment);
+        assertEquals(Collections.emptyList(), weekSchedule.asUnmodifiableObservableList());
+
+        appointments.setItem(movedAppointment, OCT_26_2020_11AM_MANICURE_CARL);
+        assertEquals(Collections.singletonList(OCT_26_2020_11AM_MANICURE_CARL),
+                weekSchedule.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        weekSchedule.setWeek(WEEK_OF_OCT_26_2020);
+        assertThrows(UnsupportedOperationException.class, () ->
+                weekSchedule.asUnmodifiableObservableList().add(OCT_26_2020_11AM_MANICURE_CARL));
+    }
+}
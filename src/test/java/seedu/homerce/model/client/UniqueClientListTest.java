@@ -198,4 +198,24 @@ public class UniqueClientListTest {
 
         assertThrows(ClientNotFoundException.class, () -> uniqueClientList.getClientByPhone(invalidPhone));
     }
+
+    @Test
+    public void getClientByPhone_afterEdits_indexKeptInSync() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setItem(ALICE, BOB);
+        assertFalse(uniqueClientList.containsPhone(ALICE.getPhone()));
+        assertEquals(BOB, uniqueClientList.getClientByPhone(BOB.getPhone()));
+
+        Client editedBob = new ClientBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniqueClientList.setItem(BOB, editedBob);
+        assertEquals(editedBob, uniqueClientList.getClientByPhone(BOB.getPhone()));
+
+        uniqueClientList.setItems(Arrays.asList(ALICE, AMY));
+        assertFalse(uniqueClientList.containsPhone(BOB.getPhone()));
+        assertEquals(AMY, uniqueClientList.getClientByPhone(AMY.getPhone()));
+
+        uniqueClientList.remove(AMY);
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.getClientByPhone(AMY.getPhone()));
+        assertTrue(uniqueClientList.contains(ALICE));
+    }
 }
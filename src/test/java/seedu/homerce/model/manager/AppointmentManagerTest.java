@@ -12,8 +12,8 @@ import static seedu.homerce.testutil.appointment.TypicalAppointments.getTypicalA
 import static seedu.homerce.testutil.client.TypicalClients.BENSON;
 import static seedu.homerce.testutil.service.TypicalServices.LASH_LIFT;
 
+import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -22,7 +22,8 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.homerce.model.appointment.Appointment;
-import seedu.homerce.model.appointment.predicate.AppointmentWeekPredicate;
+import seedu.homerce.model.appointment.HalfHourSlots;
+import seedu.homerce.model.appointment.ScheduleWeek;
 import seedu.homerce.model.appointment.uniquelist.UniqueAppointmentList;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.client.Name;
@@ -87,6 +88,70 @@ public class AppointmentManagerTest {
         assertTrue(appointmentManager.hasAppointment(editedAppointment));
     }
 
+    @Test
+    public void hasAppointment_overlappingAppointmentEndingAtSameTime_returnsTrue() {
+        // The hair treatment runs from 2 PM to 4 PM.
+        appointmentManager.addAppointment(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+        Appointment overlappingAppointment = new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE)
+            .withTimeOfDay("1530")
+            .withService(LASH_LIFT)
+            .build();
+        assertTrue(appointmentManager.hasAppointment(overlappingAppointment));
+        assertEquals(0b1111L << 28, appointmentManager.getOccupiedSlots(
+            OCT_25_2020_2PM_HAIR_TREATMENT_ALICE.getAppointmentDate().getLocalDate()));
+    }
+
+    @Test
+    public void hasAppointment_anyStartTime_sameAsIsSame() {
+        appointmentManager.addAppointment(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+        for (int slot = 0; slot < HalfHourSlots.SLOTS_PER_DAY; slot++) {
+            Appointment appointment = new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE)
+                .withTimeOfDay(HalfHourSlots.getTimeOfDay(slot).toString())
+                .build();
+            assertEquals(appointment.isSame(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE),
+                appointmentManager.hasAppointment(appointment));
+        }
+    }
+
+    @Test
+    public void hasAppointmentExcluding_nullAppointment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+            appointmentManager.hasAppointmentExcluding(null, OCT_25_2020_2PM_HAIR_TREATMENT_ALICE));
+        assertThrows(NullPointerException.class, () ->
+            appointmentManager.hasAppointmentExcluding(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, null));
+    }
+
+    @Test
+    public void hasAppointmentExcluding_onlyClashesWithExcludedAppointment_returnsFalse() {
+        // The hair treatment runs from 2 PM to 4 PM.
+        appointmentManager.addAppointment(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+        appointmentManager.addAppointment(OCT_26_2020_11AM_MANICURE_CARL);
+        Appointment movedAppointment = new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE)
+            .withTimeOfDay("1500")
+            .build();
+        assertFalse(appointmentManager.hasAppointmentExcluding(movedAppointment,
+            OCT_25_2020_2PM_HAIR_TREATMENT_ALICE));
+        assertTrue(appointmentManager.hasAppointmentExcluding(movedAppointment, OCT_26_2020_11AM_MANICURE_CARL));
+
+        // The excluded appointment is not removed
+        assertTrue(appointmentManager.hasAppointment(movedAppointment));
+    }
+
+    @Test
+    public void hasAppointmentExcluding_clashesWithOtherAppointment_returnsTrue() {
+        // The hair treatment runs from 2 PM to 4 PM and the lash lift from 4 PM.
+        appointmentManager.addAppointment(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
+        Appointment laterAppointment = new AppointmentBuilder(OCT_25_2020_230PM_LASH_LIFT_BENSON)
+            .withTimeOfDay("1600")
+            .build();
+        appointmentManager.addAppointment(laterAppointment);
+        Appointment movedAppointment = new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE)
+            .withTimeOfDay("1500")
+            .build();
+        assertTrue(appointmentManager.hasAppointmentExcluding(movedAppointment,
+            OCT_25_2020_2PM_HAIR_TREATMENT_ALICE));
+    }
+
     @Test
     public void getAppointmentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(
@@ -120,6 +185,21 @@ public class AppointmentManagerTest {
 
     }
 
+    @Test
+    public void replaceClientsInAppointments_phoneEdited_reindexesAppointments() {
+        appointmentManager.addAppointment(OCT_25_2020_230PM_LASH_LIFT_BENSON);
+        appointmentManager.addAppointment(OCT_26_2020_11AM_MANICURE_CARL);
+        LocalDate date = OCT_25_2020_230PM_LASH_LIFT_BENSON.getAppointmentDate().getLocalDate();
+
+        Client editedBenson = new ClientBuilder(BENSON).withPhone("91234567").build();
+        appointmentManager.replaceClientsInAppointments(BENSON, editedBenson);
+
+        assertEquals(editedBenson, appointmentManager.getAppointmentList().get(0).getClient());
+        assertEquals(OCT_26_2020_11AM_MANICURE_CARL, appointmentManager.getAppointmentList().get(1));
+        assertTrue(appointmentManager.hasAppointmentOnOrAfter(editedBenson, date));
+        assertFalse(appointmentManager.hasAppointmentOnOrAfter(BENSON, date));
+    }
+
     /**
      * A stub ReadOnlyAppointmentManager whose appointments list can violate interface constraints.
      */
@@ -145,12 +225,17 @@ public class AppointmentManagerTest {
         }
 
         @Override
-        public AppointmentWeekPredicate getCurrentWeek() {
-            throw new AssertionError("This method should not be called");
+        public long getVersion() {
+            return appointments.getModificationCount();
+        }
+
+        @Override
+        public ReadOnlyAppointmentManager snapshot() {
+            return this;
         }
 
         @Override
-        public Calendar getCalendar() {
+        public ScheduleWeek getCurrentWeek() {
             throw new AssertionError("This method should not be called");
         }
     }
@@ -97,6 +97,16 @@ public class ClientManagerTest {
         public ObservableList<Client> getClientList() {
             return clients;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public ReadOnlyClientManager snapshot() {
+            return this;
+        }
     }
 }
 
@@ -1,6 +1,9 @@
 package seedu.homerce.model.manager;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
 import static seedu.homerce.testutil.service.TypicalServices.MANICURE;
 
 import org.junit.jupiter.api.Test;
@@ -8,36 +11,92 @@ import org.junit.jupiter.api.Test;
 import seedu.homerce.commons.core.index.Index;
 import seedu.homerce.logic.commands.service.AddServiceCommand;
 import seedu.homerce.logic.commands.service.DeleteServiceCommand;
+import seedu.homerce.logic.commands.service.ListServiceCommand;
 import seedu.homerce.model.Model;
 import seedu.homerce.model.ModelManager;
+import seedu.homerce.model.undo.History;
 
 public class HistoryManagerTest {
 
     @Test
     public void addToHistory_stateChange_success() {
+        HistoryManager historyTest = HistoryManager.getInstance();
+        AddServiceCommand addServiceCommandTest = new AddServiceCommand(MANICURE);
+
+        historyTest.addToHistory(addServiceCommandTest);
+        History history = historyTest.getPreviousHistory();
+        assertTrue(history.getCommand().equals(addServiceCommandTest));
+        assertFalse(history.hasUndoActions());
+    }
+
+    @Test
+    public void addUndoAction_latestCommand_undoActionRecorded() {
         Model modelTest = new ModelManager();
         HistoryManager historyTest = HistoryManager.getInstance();
         AddServiceCommand addServiceCommandTest = new AddServiceCommand(MANICURE);
 
-        historyTest.addToHistory(modelTest, addServiceCommandTest);
-        assertTrue(historyTest.getPreviousHistory().getModel().getServiceManager().getServiceList().isEmpty());
+        historyTest.addToHistory(addServiceCommandTest);
+        historyTest.addUndoAction(addServiceCommandTest, model -> model.deleteService(MANICURE));
+        modelTest.addService(MANICURE);
+
+        historyTest.getPreviousHistory().undo(modelTest);
+        assertTrue(modelTest.getServiceManager().getServiceList().isEmpty());
+    }
+
+    @Test
+    public void addUndoAction_notLatestCommand_undoActionIgnored() {
+        HistoryManager historyTest = HistoryManager.getInstance();
+        AddServiceCommand addServiceCommandTest = new AddServiceCommand(MANICURE);
+        DeleteServiceCommand deleteServiceCommandTest = new DeleteServiceCommand(Index.fromZeroBased(1));
+
+        historyTest.addToHistory(addServiceCommandTest);
+        historyTest.addUndoAction(deleteServiceCommandTest, model -> model.addService(MANICURE));
+        assertFalse(historyTest.getPreviousHistory().hasUndoActions());
+    }
 
-        historyTest.addToHistory(modelTest, addServiceCommandTest);
-        assertTrue(historyTest.getPreviousHistory().getModel().getServiceManager().getServiceList().isEmpty());
+    @Test
+    public void addToHistory_noStateChange_notAdded() {
+        HistoryManager historyTest = HistoryManager.getInstance();
+        AddServiceCommand addServiceCommandTest = new AddServiceCommand(MANICURE);
+
+        historyTest.addToHistory(addServiceCommandTest);
+        historyTest.addToHistory(new ListServiceCommand());
+        assertTrue(historyTest.getPreviousHistory().getCommand().equals(addServiceCommandTest));
     }
 
     @Test
     public void getPreviousHistory_stateChange_returnsPreviousHistory() {
-        Model modelTest = new ModelManager();
         HistoryManager historyTest = HistoryManager.getInstance();
         AddServiceCommand commandTest = new AddServiceCommand(MANICURE);
 
-        historyTest.addToHistory(modelTest, commandTest);
+        historyTest.addToHistory(commandTest);
         assertTrue(historyTest.getPreviousHistory().getCommand().equals(commandTest));
 
         DeleteServiceCommand deleteServiceCommandTest = new DeleteServiceCommand(Index.fromZeroBased(1));
-        historyTest.addToHistory(modelTest, deleteServiceCommandTest);
+        historyTest.addToHistory(deleteServiceCommandTest);
         assertTrue(historyTest.getPreviousHistory().getCommand().equals(deleteServiceCommandTest));
     }
 
+    @Test
+    public void addToHistory_exceedHistoryLimit_oldestHistoryDiscarded() {
+        HistoryManager historyTest = HistoryManager.getInstance();
+        AddServiceCommand firstCommand = new AddServiceCommand(MANICURE);
+        AddServiceCommand secondCommand = new AddServiceCommand(MANICURE);
+        AddServiceCommand thirdCommand = new AddServiceCommand(MANICURE);
+
+        historyTest.setHistoryLimit(2);
+        historyTest.addToHistory(firstCommand);
+        historyTest.addToHistory(secondCommand);
+        historyTest.addToHistory(thirdCommand);
+
+        assertTrue(historyTest.getPreviousHistory().getCommand() == thirdCommand);
+        assertTrue(historyTest.getPreviousHistory().getCommand() == secondCommand);
+        assertNull(historyTest.getPreviousHistory());
+        historyTest.setHistoryLimit(HistoryManager.DEFAULT_HISTORY_LIMIT);
+    }
+
+    @Test
+    public void setHistoryLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> HistoryManager.getInstance().setHistoryLimit(0));
+    }
 }
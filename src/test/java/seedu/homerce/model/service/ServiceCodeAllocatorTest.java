@@ -0,0 +1,81 @@
+package seedu.homerce.model.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ServiceCodeAllocatorTest {
+    private static final ServiceCode SC000 = new ServiceCode("SC000");
+    private static final ServiceCode SC001 = new ServiceCode("SC001");
+    private static final ServiceCode SC002 = new ServiceCode("SC002");
+
+    private final ServiceCodeAllocator allocator = new ServiceCodeAllocator();
+
+    @Test
+    public void reserve_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> allocator.reserve(null));
+    }
+
+    @Test
+    public void getNextFreeId_empty_returnsFromId() {
+        assertEquals(0, allocator.getNextFreeId(0));
+        assertEquals(5, allocator.getNextFreeId(5));
+    }
+
+    @Test
+    public void getNextFreeId_reservedCodes_skipsReservedCodes() {
+        allocator.reserve(SC000);
+        allocator.reserve(SC001);
+        allocator.reserve(SC002);
+        assertEquals(3, allocator.getNextFreeId(0));
+        assertEquals(3, allocator.getNextFreeId(1));
+        assertEquals(4, allocator.getNextFreeId(4));
+
+        allocator.release(SC001);
+        assertEquals(1, allocator.getNextFreeId(0));
+        assertEquals(3, allocator.getNextFreeId(2));
+    }
+
+    @Test
+    public void getNextFreeId_codesPastOldLimit_growsPastLimit() {
+        for (int id = 0; id < 1500; id++) {
+            allocator.reserve(new ServiceCode(ServiceCode.toServiceCodeString(id)));
+        }
+        assertEquals(1500, allocator.getNextFreeId(0));
+        assertTrue(allocator.isReserved(new ServiceCode("SC1499")));
+    }
+
+    @Test
+    public void release_codeReservedTwice_staysReservedUntilReleasedTwice() {
+        allocator.reserve(SC000);
+        allocator.reserve(SC000);
+
+        allocator.release(SC000);
+        assertTrue(allocator.isReserved(SC000));
+        assertEquals(1, allocator.getNextFreeId(0));
+
+        allocator.release(SC000);
+        assertFalse(allocator.isReserved(SC000));
+        assertEquals(0, allocator.getNextFreeId(0));
+    }
+
+    @Test
+    public void release_codeNotReserved_doesNothing() {
+        allocator.release(SC001);
+        allocator.reserve(SC000);
+        assertFalse(allocator.isReserved(SC001));
+        assertEquals(1, allocator.getNextFreeId(0));
+    }
+
+    @Test
+    public void clear_reservedCodes_freesAllCodes() {
+        allocator.reserve(SC000);
+        allocator.reserve(SC001);
+        allocator.clear();
+        assertFalse(allocator.isReserved(SC000));
+        assertEquals(0, allocator.getNextFreeId(0));
+    }
+}
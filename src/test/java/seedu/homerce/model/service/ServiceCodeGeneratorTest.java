@@ -23,7 +23,7 @@ public class ServiceCodeGeneratorTest {
     }
 
     @Test
-    public void generateNewServiceCode_fullSerivces_throwsException() {
+    public void generateNewServiceCode_thousandServices_returnsFourDigitServiceCode() {
         List<Service> fullServiceList = new ArrayList<>();
         List<Appointment> emptyAppointments = new ArrayList<>();
         for (int codeNum = 0; codeNum < 1000; codeNum++) {
@@ -35,10 +35,31 @@ public class ServiceCodeGeneratorTest {
             fullServiceList.add(testService);
         }
 
-        assertThrows(MaximumServiceException.class, () ->
+        assertEquals("SC1000",
             ServiceCodeGenerator.generateNewServiceCode(fullServiceList, emptyAppointments));
     }
 
+    @Test
+    public void generateNewServiceCode_allServiceCodesUsed_throwsException() {
+        assertThrows(MaximumServiceException.class, () ->
+            ServiceCodeGenerator.generateFromFreeIds(fromId -> Math.max(fromId, ServiceCode.MAX_ID + 1),
+                fromId -> fromId));
+    }
+
+    @Test
+    public void generateNewServiceCode_serviceCodesInAppointments_skipsAppointmentServiceCodes() {
+        // SC000 and SC002 are used by services, SC001 and SC003 only by past appointments
+        ServiceCodeAllocator serviceCodes = new ServiceCodeAllocator();
+        serviceCodes.reserve(new ServiceCode("SC000"));
+        serviceCodes.reserve(new ServiceCode("SC002"));
+        ServiceCodeAllocator appointmentServiceCodes = new ServiceCodeAllocator();
+        appointmentServiceCodes.reserve(new ServiceCode("SC001"));
+        appointmentServiceCodes.reserve(new ServiceCode("SC003"));
+
+        assertEquals("SC004", ServiceCodeGenerator.generateFromFreeIds(serviceCodes::getNextFreeId,
+            appointmentServiceCodes::getNextFreeId));
+    }
+
     @Test
     public void generateNewServiceCode_emptyServices_returnsValidServiceCode() {
         List<Service> emptyServiceList = new ArrayList<>();
@@ -20,19 +20,33 @@ public class ServiceCodeTest {
         assertThrows(NullPointerException.class, () -> ServiceCode.isValidServiceCode(null));
 
         // invalid service code
-        assertFalse(ServiceCode.isValidServiceCode("SC0000")); // 4 digits
-        assertFalse(ServiceCode.isValidServiceCode("SC1999")); // Greater than 999
+        assertFalse(ServiceCode.isValidServiceCode("SC0000")); // 4 digits with leading zero
+        assertFalse(ServiceCode.isValidServiceCode("SC01999")); // Leading zero past three digits
+        assertFalse(ServiceCode.isValidServiceCode("SC1000000")); // Greater than 999999
         assertFalse(ServiceCode.isValidServiceCode("SC00")); // Two digits
         assertFalse(ServiceCode.isValidServiceCode("ST000")); // Does not begin with "SC"
+        assertFalse(ServiceCode.isValidServiceCode("SCabc")); // Not a number
 
         // valid service code
         assertTrue(ServiceCode.isValidServiceCode("SC000"));
         assertTrue(ServiceCode.isValidServiceCode("SC999"));
+        assertTrue(ServiceCode.isValidServiceCode("SC1999"));
+        assertTrue(ServiceCode.isValidServiceCode("SC999999"));
         assertTrue(ServiceCode.isValidServiceCode("SC010"));
         assertTrue(ServiceCode.isValidServiceCode("sC000")); //
         assertTrue(ServiceCode.isValidServiceCode("sc000")); // lowercase SC
     }
 
+    @Test
+    public void toServiceCodeString() {
+        assertEquals("SC000", ServiceCode.toServiceCodeString(0));
+        assertEquals("SC042", ServiceCode.toServiceCodeString(42));
+        assertEquals("SC999", ServiceCode.toServiceCodeString(999));
+        assertEquals("SC1000", ServiceCode.toServiceCodeString(1000));
+        assertTrue(ServiceCode.isValidServiceCode(ServiceCode.toServiceCodeString(ServiceCode.MAX_ID)));
+        assertEquals(1000, new ServiceCode(ServiceCode.toServiceCodeString(1000)).getID());
+    }
+
     @Test
     public void equals() {
         ServiceCode serviceCode = new ServiceCode("SC000");
@@ -55,6 +69,11 @@ public class ServiceCodeTest {
         assertFalse(serviceCode.equals(serviceCode1));
     }
 
+    @Test
+    public void hashCode_sameServiceCode_sameHashCode() {
+        assertEquals(new ServiceCode("SC000").hashCode(), new ServiceCode("SC000").hashCode());
+    }
+
     @Test
     public void toUiString() {
         ServiceCode serviceCode = new ServiceCode("SC000");
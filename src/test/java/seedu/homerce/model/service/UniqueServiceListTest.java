@@ -13,6 +13,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.homerce.model.service.exceptions.ServiceNotFoundException;
 import seedu.homerce.model.util.uniquelist.exceptions.DuplicateItemException;
 import seedu.homerce.model.util.uniquelist.exceptions.ItemNotFoundException;
 import seedu.homerce.testutil.service.ServiceBuilder;
@@ -158,4 +159,22 @@ public class UniqueServiceListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueServiceList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getServiceByServiceCode_afterEdits_indexKeptInSync() {
+        uniqueServiceList.add(LASH_LIFT);
+        Service retitledLashLift = new ServiceBuilder(LASH_LIFT).withTitle("Lash Tint").build();
+        uniqueServiceList.setItem(LASH_LIFT, retitledLashLift);
+        assertEquals(retitledLashLift, uniqueServiceList.getServiceByServiceCode(LASH_LIFT.getServiceCode()));
+        assertFalse(uniqueServiceList.contains(LASH_LIFT));
+        assertTrue(uniqueServiceList.contains(retitledLashLift));
+
+        uniqueServiceList.setItems(Collections.singletonList(MANICURE));
+        assertFalse(uniqueServiceList.contains(LASH_LIFT.getServiceCode()));
+        assertTrue(uniqueServiceList.contains(MANICURE.getServiceCode()));
+
+        uniqueServiceList.remove(MANICURE);
+        assertThrows(ServiceNotFoundException.class, () ->
+            uniqueServiceList.getServiceByServiceCode(MANICURE.getServiceCode()));
+    }
 }
@@ -1,9 +1,12 @@
 package seedu.homerce.model.util.attributes;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.testutil.Assert.assertThrows;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.Test;
 
 public class AmountTest {
@@ -35,4 +38,46 @@ public class AmountTest {
         assertTrue(Amount.isValidAmount(12.34)); // tens
         assertTrue(Amount.isValidAmount(121.45)); // hundreds
     }
+
+    @Test
+    public void constructor_roundsToNearestCent() {
+        assertEquals(1235, new Amount(12.345).getCents());
+        assertEquals(5550, new Amount(55.5).getCents());
+        assertEquals(1, new Amount(0.005).getCents());
+        assertEquals(99999999, new Amount(999999.99).getCents());
+    }
+
+    @Test
+    public void conversions() {
+        Amount amount = new Amount(55.5);
+        assertEquals("55.50", amount.toString());
+        assertEquals(55.5, amount.toDouble());
+        assertEquals(new BigDecimal("55.50"), amount.toBigDecimal());
+        assertEquals(amount, new Amount(amount.toDouble()));
+    }
+
+    @Test
+    public void addTo() {
+        assertEquals(7050, new Amount(15.0).addTo(5550));
+        assertThrows(ArithmeticException.class, () -> new Amount(0.01).addTo(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("0.00", Amount.formatCents(0));
+        assertEquals("0.05", Amount.formatCents(5));
+        assertEquals("12.30", Amount.formatCents(1230));
+        assertEquals("-0.05", Amount.formatCents(-5));
+        assertEquals("-1234.56", Amount.formatCents(-123456));
+    }
+
+    @Test
+    public void equals() {
+        Amount amount = new Amount(12.34);
+        assertTrue(amount.equals(new Amount(12.34)));
+        assertTrue(amount.equals(new Amount(12.341)));
+        assertEquals(amount.hashCode(), new Amount(12.341).hashCode());
+        assertFalse(amount.equals(new Amount(12.35)));
+        assertFalse(amount.equals(null));
+    }
 }
@@ -0,0 +1,71 @@
+package seedu.homerce.model.util.persistentlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    @Test
+    public void of_sameItemsInOrder() {
+        List<Integer> items = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        assertEquals(items, PersistentList.of(items));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void updates_previousVersionUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        PersistentList<String> inserted = original.plus(1, "x");
+        PersistentList<String> replaced = original.with(2, "y");
+        PersistentList<String> removed = original.minus(0);
+
+        assertEquals(List.of("a", "b", "c"), original);
+        assertEquals(List.of("a", "x", "b", "c"), inserted);
+        assertEquals(List.of("a", "b", "y"), replaced);
+        assertEquals(List.of("b", "c"), removed);
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            }
+        }
+        assertEquals(expected, actual);
+    }
+}
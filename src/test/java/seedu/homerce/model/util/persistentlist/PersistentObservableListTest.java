@@ -0,0 +1,72 @@
+package seedu.homerce.model.util.persistentlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class PersistentObservableListTest {
+
+    private final PersistentObservableList<Integer> list = new PersistentObservableList<>();
+
+    @Test
+    public void changes_previousVersionsUnchanged() {
+        list.setAll(List.of(5, 3, 8));
+        PersistentList<Integer> loadedVersion = list.getVersion();
+
+        list.add(1, 7);
+        list.remove(Integer.valueOf(8));
+        list.set(0, 2);
+
+        assertEquals(List.of(2, 7, 3), list);
+        assertEquals(List.of(2, 7, 3), list.getVersion());
+        assertEquals(List.of(5, 3, 8), loadedVersion);
+    }
+
+    @Test
+    public void setAll_reportedAsSingleReplacement() {
+        list.setAll(List.of(1, 2));
+        List<String> changes = recordChanges();
+
+        list.setAll(List.of(3, 4, 5));
+        assertEquals(List.of("replaced [1, 2] with [3, 4, 5]"), changes);
+    }
+
+    @Test
+    public void sort_reportedAsPermutation() {
+        list.setAll(List.of(30, 10, 20, 10));
+        PersistentList<Integer> unsortedVersion = list.getVersion();
+        List<Integer> permutation = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasPermutated());
+                assertFalse(change.wasAdded());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation.add(change.getPermutation(i));
+                }
+            }
+        });
+
+        list.sort(Comparator.naturalOrder());
+        assertEquals(List.of(10, 10, 20, 30), list);
+        assertEquals(List.of(3, 0, 2, 1), permutation);
+        assertEquals(List.of(30, 10, 20, 10), unsortedVersion);
+    }
+
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add("replaced " + change.getRemoved() + " with " + change.getAddedSubList());
+            }
+        });
+        return changes;
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.homerce.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class AutoSaverTest {
+
+    private static final long NEVER = TimeUnit.HOURS.toMillis(1);
+    private static final Path CLIENTS = Paths.get("clients.json");
+    private static final Path SERVICES = Paths.get("services.json");
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AutoSaver(-1));
+        assertThrows(IllegalArgumentException.class, () -> new AutoSaver(0, 0));
+    }
+
+    @Test
+    public void submit_sameFileBeforeWrite_onlyLatestVersionWritten() {
+        AutoSaver autoSaver = new AutoSaver(NEVER);
+        List<String> written = new ArrayList<>();
+        autoSaver.submit(CLIENTS, 1, () -> written.add("clients 1"));
+        autoSaver.submit(SERVICES, 1, () -> written.add("services 1"));
+        autoSaver.submit(CLIENTS, 2, () -> written.add("clients 2"));
+        assertTrue(written.isEmpty());
+
+        autoSaver.stop();
+        assertEquals(List.of("clients 2", "services 1"), written);
+        assertFalse(autoSaver.hasPendingSaves());
+    }
+
+    @Test
+    public void submit_withinStalenessWindow_writtenInBackground() throws Exception {
+        AutoSaver autoSaver = new AutoSaver(10);
+        CountDownLatch written = new CountDownLatch(1);
+        autoSaver.submit(CLIENTS, 1, written::countDown);
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        autoSaver.stop();
+    }
+
+    @Test
+    public void flush_saveFails_errorReportedAndSaveRetried() {
+        AutoSaver autoSaver = new AutoSaver(NEVER);
+        List<String> errors = new ArrayList<>();
+        autoSaver.setSaveErrorHandler(errors::add);
+        IOException exception = new IOException("disk full");
+        autoSaver.submit(CLIENTS, 1, () -> {
+            throw exception;
+        });
+
+        autoSaver.flush();
+        assertEquals(List.of(AutoSaver.MESSAGE_SAVE_FAILED + exception), errors);
+        assertTrue(autoSaver.hasPendingSaves());
+
+        List<String> written = new ArrayList<>();
+        autoSaver.submit(CLIENTS, 2, () -> written.add("clients 2"));
+        autoSaver.stop();
+        assertEquals(List.of("clients 2"), written);
+        assertFalse(autoSaver.hasPendingSaves());
+    }
+
+    @Test
+    public void stop_saveFailsOnce_retriedAndSaved() {
+        AutoSaver autoSaver = new AutoSaver(NEVER);
+        List<String> written = new ArrayList<>();
+        autoSaver.submit(CLIENTS, 1, () -> {
+            if (written.isEmpty()) {
+                written.add("failed");
+                throw new IOException("file locked");
+            }
+            written.add("clients 1");
+        });
+
+        assertTrue(autoSaver.stop().isEmpty());
+        assertEquals(List.of("failed", "clients 1"), written);
+    }
+
+    @Test
+    public void stop_saveKeepsFailing_unsavedFileReturned() {
+        AutoSaver autoSaver = new AutoSaver(NEVER);
+        List<String> attempts = new ArrayList<>();
+        autoSaver.submit(CLIENTS, 1, () -> {
+            attempts.add("clients 1");
+            throw new IOException("disk full");
+        });
+        autoSaver.submit(SERVICES, 1, () -> attempts.add("services 1"));
+
+        assertEquals(Set.of(CLIENTS), autoSaver.stop());
+        assertEquals(List.of("clients 1", "services 1", "clients 1"), attempts);
+        assertFalse(autoSaver.hasPendingSaves());
+    }
+
+    @Test
+    public void flush_saveKeepsFailing_retriedInBackgroundAndReportedOnce() throws Exception {
+        AutoSaver autoSaver = new AutoSaver(NEVER, 10);
+        List<String> messages = new CopyOnWriteArrayList<>();
+        autoSaver.setSaveErrorHandler(messages::add);
+        IOException exception = new IOException("disk full");
+        CountDownLatch attempts = new CountDownLatch(3);
+        autoSaver.submit(CLIENTS, 1, () -> {
+            attempts.countDown();
+            if (attempts.getCount() > 0) {
+                throw exception;
+            }
+        });
+
+        autoSaver.flush();
+        assertTrue(attempts.await(10, TimeUnit.SECONDS));
+        autoSaver.stop();
+        assertEquals(List.of(AutoSaver.MESSAGE_SAVE_FAILED + exception, AutoSaver.MESSAGE_SAVE_RECOVERED + CLIENTS),
+                messages);
+        assertFalse(autoSaver.hasPendingSaves());
+    }
+}
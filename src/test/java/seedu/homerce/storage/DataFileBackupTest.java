@@ -0,0 +1,57 @@
+package seedu.homerce.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.commons.util.FileUtil;
+import seedu.homerce.storage.journal.Journal;
+
+public class DataFileBackupTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void moveAside_dataFileAndJournal_bothKeptInBackups() throws Exception {
+        Path filePath = testFolder.resolve("clients.json");
+        Path journalFilePath = Journal.getJournalFilePath(filePath);
+        FileUtil.writeToFile(filePath, "not json");
+        FileUtil.writeToFile(journalFilePath, "ADD [");
+
+        List<Path> backupPaths = DataFileBackup.moveAside(filePath);
+
+        assertEquals(2, backupPaths.size());
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals("not json", FileUtil.readFromFile(backupPaths.get(0)));
+        assertEquals("ADD [", FileUtil.readFromFile(backupPaths.get(1)));
+        assertTrue(backupPaths.get(0).getFileName().toString().startsWith("clients.json"
+                + DataFileBackup.BACKUP_FILE_INFIX));
+    }
+
+    @Test
+    public void moveAside_noJournal_onlyDataFileMoved() throws Exception {
+        Path filePath = testFolder.resolve("services.json");
+        FileUtil.writeToFile(filePath, "{");
+
+        List<Path> backupPaths = DataFileBackup.moveAside(filePath);
+
+        assertEquals(1, backupPaths.size());
+        assertFalse(Files.exists(filePath));
+        assertEquals("{", FileUtil.readFromFile(backupPaths.get(0)));
+    }
+
+    @Test
+    public void moveAside_missingFile_nothingMoved() {
+        assertTrue(DataFileBackup.moveAside(testFolder.resolve("missing.json")).isEmpty());
+        assertEquals(0, testFolder.toFile().list().length);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.homerce.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.homerce.testutil.client.TypicalClients.HOON;
+import static seedu.homerce.testutil.client.TypicalClients.getTypicalClientManager;
+import static seedu.homerce.testutil.service.TypicalServices.getTypicalServiceManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.storage.appointment.BinaryAppointmentStorage;
+import seedu.homerce.storage.appointment.JsonAppointmentStorage;
+import seedu.homerce.storage.client.BinaryClientStorage;
+import seedu.homerce.storage.client.JsonClientStorage;
+import seedu.homerce.storage.expense.BinaryExpenseStorage;
+import seedu.homerce.storage.expense.JsonExpenseStorage;
+import seedu.homerce.storage.revenue.BinaryRevenueStorage;
+import seedu.homerce.storage.revenue.JsonRevenueStorage;
+import seedu.homerce.storage.service.BinaryServiceStorage;
+import seedu.homerce.storage.service.JsonServiceStorage;
+
+public class StorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager jsonStorage;
+    private StorageManager binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        jsonStorage = new StorageManager(userPrefsStorage, new JsonClientStorage(testFolder.resolve("clients.json")),
+            new JsonServiceStorage(testFolder.resolve("services.json")),
+            new JsonRevenueStorage(testFolder.resolve("revenues.json")),
+            new JsonExpenseStorage(testFolder.resolve("expenses.json")),
+            new JsonAppointmentStorage(testFolder.resolve("appointments.json")));
+        binaryStorage = new StorageManager(userPrefsStorage, new BinaryClientStorage(testFolder.resolve("clients.bin")),
+            new BinaryServiceStorage(testFolder.resolve("services.bin")),
+            new BinaryRevenueStorage(testFolder.resolve("revenues.bin")),
+            new BinaryExpenseStorage(testFolder.resolve("expenses.bin")),
+            new BinaryAppointmentStorage(testFolder.resolve("appointments.bin")));
+    }
+
+    @Test
+    public void convertNewerData_missingTargetFiles_existingFilesConverted() throws Exception {
+        jsonStorage.saveClientManager(getTypicalClientManager());
+        jsonStorage.saveServiceManager(getTypicalServiceManager());
+
+        assertEquals(2, StorageConverter.convertNewerData(jsonStorage, binaryStorage));
+        assertEquals(getTypicalClientManager(), binaryStorage.readClientManager().get());
+        assertEquals(getTypicalServiceManager(), binaryStorage.readServiceManager().get());
+        assertFalse(binaryStorage.readAppointmentManager(new ClientManager(), new ServiceManager()).isPresent());
+    }
+
+    @Test
+    public void convertNewerData_targetUpToDate_nothingConverted() throws Exception {
+        jsonStorage.saveClientManager(getTypicalClientManager());
+        StorageConverter.convertNewerData(jsonStorage, binaryStorage);
+
+        assertEquals(0, StorageConverter.convertNewerData(jsonStorage, binaryStorage));
+    }
+
+    @Test
+    public void convertNewerData_sourceChangedAfterTarget_targetReplaced() throws Exception {
+        jsonStorage.saveClientManager(getTypicalClientManager());
+        StorageConverter.convertNewerData(jsonStorage, binaryStorage);
+        ClientManager changed = getTypicalClientManager();
+        changed.addClient(HOON);
+        binaryStorage.saveClientManager(changed);
+        Path binaryFilePath = binaryStorage.getClientManagerFilePath();
+        FileTime jsonTime = Files.getLastModifiedTime(jsonStorage.getClientManagerFilePath());
+        Files.setLastModifiedTime(binaryFilePath, FileTime.fromMillis(jsonTime.toMillis() + 1000));
+
+        assertEquals(1, StorageConverter.convertNewerData(binaryStorage, jsonStorage));
+        assertEquals(changed, jsonStorage.readClientManager().get());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.homerce.storage.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.getTypicalAppointmentManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.model.manager.AppointmentManager;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
+import seedu.homerce.model.manager.ServiceManager;
+
+public class BinaryAppointmentStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAppointmentManager_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAppointmentStorage(testFolder.resolve("missing.bin")).readAppointmentManager(
+            new ClientManager(), new ServiceManager()).isPresent());
+    }
+
+    @Test
+    public void readAndSaveAppointmentManager_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("appointments.bin");
+        BinaryAppointmentStorage storage = new BinaryAppointmentStorage(filePath);
+        AppointmentManager original = getTypicalAppointmentManager();
+        original.getAppointmentList().get(0).markDone();
+
+        storage.saveAppointmentManager(original, new ClientManager());
+        ReadOnlyAppointmentManager readBack =
+            storage.readAppointmentManager(new ClientManager(), new ServiceManager()).get();
+        assertEquals(original.getAppointmentList(), readBack.getAppointmentList());
+        assertTrue(readBack.getAppointmentList().get(0).getStatus().isDone());
+    }
+
+    @Test
+    public void saveAppointmentManager_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("appointments.json");
+        Path binaryFilePath = testFolder.resolve("appointments.bin");
+        AppointmentManager original = getTypicalAppointmentManager();
+
+        new JsonAppointmentStorage(jsonFilePath).saveAppointmentManager(original, new ClientManager());
+        new BinaryAppointmentStorage(binaryFilePath).saveAppointmentManager(original, new ClientManager());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.homerce.storage.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.NOV_11_2020_12PM_LASH_LIFT_BENSON;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_2PM_HAIR_TREATMENT_ALICE;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_27_2020_12PM_LASH_LIFT_BENSON;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.getTypicalAppointmentManager;
+import static seedu.homerce.testutil.client.TypicalClients.getTypicalClientManager;
+import static seedu.homerce.testutil.service.TypicalServices.getTypicalServiceManager;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.model.manager.AppointmentManager;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.testutil.appointment.AppointmentBuilder;
+
+public class JournalAppointmentStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ClientManager clientManager = getTypicalClientManager();
+    private final ServiceManager serviceManager = getTypicalServiceManager();
+
+    @Test
+    public void readAppointmentManager_journalReplayed_sameAsSaved() throws Exception {
+        Path filePath = testFolder.resolve("appointments.json");
+        JournalAppointmentStorage storage = new JournalAppointmentStorage(new JsonAppointmentStorage(filePath));
+        AppointmentManager original = getTypicalAppointmentManager();
+
+        storage.saveAppointmentManager(original, clientManager);
+        original.addAppointment(OCT_27_2020_12PM_LASH_LIFT_BENSON);
+        original.setAppointments(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE,
+                new AppointmentBuilder(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE).withTimeOfDay("0900").build());
+        original.removeAppointment(NOV_11_2020_12PM_LASH_LIFT_BENSON);
+        storage.saveAppointmentManager(original, clientManager);
+        original.setAppointments(List.of(OCT_27_2020_12PM_LASH_LIFT_BENSON));
+        storage.saveAppointmentManager(original, clientManager);
+
+        AppointmentManager readBack = (AppointmentManager) new JournalAppointmentStorage(
+                new JsonAppointmentStorage(filePath)).readAppointmentManager(clientManager, serviceManager).get();
+        assertEquals(original, readBack);
+    }
+}
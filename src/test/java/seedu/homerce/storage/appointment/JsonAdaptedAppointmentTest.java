@@ -1,6 +1,10 @@
 package seedu.homerce.storage.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.storage.appointment.JsonAdaptedAppointment.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.homerce.testutil.Assert.assertThrows;
 import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_2PM_HAIR_TREATMENT_ALICE;
@@ -12,17 +16,23 @@ import java.util.ArrayList;
 import org.junit.jupiter.api.Test;
 
 import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.JsonUtil;
 import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.appointment.TimeOfDay;
 import seedu.homerce.model.client.Client;
+import seedu.homerce.model.client.Name;
+import seedu.homerce.model.manager.ClientManager;
+import seedu.homerce.model.manager.ServiceManager;
 import seedu.homerce.model.service.Service;
 import seedu.homerce.model.util.attributes.Date;
 import seedu.homerce.model.util.attributes.Tag;
 import seedu.homerce.model.util.attributes.Title;
 import seedu.homerce.storage.JsonAdaptedTag;
+import seedu.homerce.storage.ReferenceResolver;
 import seedu.homerce.storage.client.JsonAdaptedClient;
 import seedu.homerce.storage.service.JsonAdaptedService;
 import seedu.homerce.testutil.appointment.AppointmentBuilder;
+import seedu.homerce.testutil.client.ClientBuilder;
 
 public class JsonAdaptedAppointmentTest {
 
@@ -62,16 +72,16 @@ public class JsonAdaptedAppointmentTest {
 
     @Test
     public void toModelType_invalidDate_throwsIllegalValueException() {
-        JsonAdaptedAppointment appointment =
-            new JsonAdaptedAppointment(INVALID_DATE, VALID_TIME, FALSE_STATUS, VALID_CLIENT, VALID_SERVICE);
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(
+            INVALID_DATE, VALID_TIME, FALSE_STATUS, VALID_CLIENT, null, null, null, VALID_SERVICE);
         String expectedMessage = Date.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
     }
 
     @Test
     public void toModelType_nullDate_throwsIllegalValueException() {
-        JsonAdaptedAppointment appointment =
-            new JsonAdaptedAppointment(null, VALID_TIME, FALSE_STATUS, VALID_CLIENT, VALID_SERVICE);
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(
+            null, VALID_TIME, FALSE_STATUS, VALID_CLIENT, null, null, null, VALID_SERVICE);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
     }
@@ -79,7 +89,7 @@ public class JsonAdaptedAppointmentTest {
     @Test
     public void toModelType_invalidTime_throwsIllegalValueException() {
         JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(
-            VALID_DATE, INVALID_TIME, FALSE_STATUS, VALID_CLIENT, VALID_SERVICE
+            VALID_DATE, INVALID_TIME, FALSE_STATUS, VALID_CLIENT, null, null, null, VALID_SERVICE
         );
         String expectedMessage = TimeOfDay.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
@@ -88,7 +98,7 @@ public class JsonAdaptedAppointmentTest {
     @Test
     public void toModelType_nullTime_throwsIllegalValueException() {
         JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(
-            VALID_DATE, null, FALSE_STATUS, VALID_CLIENT, VALID_SERVICE
+            VALID_DATE, null, FALSE_STATUS, VALID_CLIENT, null, null, null, VALID_SERVICE
         );
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, TimeOfDay.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
@@ -96,8 +106,8 @@ public class JsonAdaptedAppointmentTest {
 
     @Test
     public void toModelType_invalidClient_throwsIllegalValueException() {
-        JsonAdaptedAppointment appointment =
-            new JsonAdaptedAppointment(VALID_DATE, VALID_TIME, FALSE_STATUS, INVALID_CLIENT, VALID_SERVICE);
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(
+            VALID_DATE, VALID_TIME, FALSE_STATUS, INVALID_CLIENT, null, null, null, VALID_SERVICE);
         String expectedMessage = Tag.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
     }
@@ -105,15 +115,15 @@ public class JsonAdaptedAppointmentTest {
     @Test
     public void toModelType_nullClient_throwsIllegalValueException() {
         JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(
-            VALID_DATE, VALID_TIME, FALSE_STATUS, null, VALID_SERVICE);
+            VALID_DATE, VALID_TIME, FALSE_STATUS, null, null, null, null, VALID_SERVICE);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Client.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
     }
 
     @Test
     public void toModelType_invalidService_throwsIllegalValueException() {
-        JsonAdaptedAppointment appointment =
-            new JsonAdaptedAppointment(VALID_DATE, VALID_TIME, FALSE_STATUS, VALID_CLIENT, INVALID_SERVICE);
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(
+            VALID_DATE, VALID_TIME, FALSE_STATUS, VALID_CLIENT, null, null, null, INVALID_SERVICE);
         String expectedMessage = Title.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
     }
@@ -121,8 +131,78 @@ public class JsonAdaptedAppointmentTest {
     @Test
     public void toModelType_nullService_throwsIllegalValueException() {
         JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(
-            VALID_DATE, VALID_TIME, FALSE_STATUS, VALID_CLIENT, null);
+            VALID_DATE, VALID_TIME, FALSE_STATUS, VALID_CLIENT, null, null, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Service.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
     }
+
+    @Test
+    public void toModelType_clientAndServiceInManagers_savedAsReferencesAndShared() throws Exception {
+        ClientManager clientManager = new ClientManager();
+        Client alice = new ClientBuilder(ALICE).build();
+        clientManager.addClient(alice);
+        ServiceManager serviceManager = new ServiceManager();
+        serviceManager.addService(HAIR_TREATMENT);
+        ReferenceResolver references = new ReferenceResolver(clientManager, serviceManager);
+
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE,
+            references);
+        String json = JsonUtil.toJsonString(appointment);
+        assertFalse(json.contains("\"client\""));
+
+        Appointment modelAppointment = JsonUtil.fromJsonString(json, JsonAdaptedAppointment.class)
+            .toModelType(references);
+        assertEquals(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE, modelAppointment);
+        assertSame(alice, modelAppointment.getClient());
+        assertSame(HAIR_TREATMENT, modelAppointment.getService());
+    }
+
+    @Test
+    public void toModelType_clientEditedSinceAppointment_savedInFull() throws Exception {
+        ClientManager clientManager = new ClientManager();
+        clientManager.addClient(new ClientBuilder(ALICE).withEmail("alice@example.org").build());
+        ReferenceResolver references = new ReferenceResolver(clientManager, new ServiceManager());
+
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE,
+            references);
+        assertTrue(JsonUtil.toJsonString(appointment).contains(ALICE.getEmail().value));
+
+        Appointment modelAppointment = appointment.toModelType(references);
+        assertEquals(ALICE, modelAppointment.getClient());
+        assertNotSame(clientManager.getClientList().get(0), modelAppointment.getClient());
+    }
+
+    @Test
+    public void toModelType_clientMissingFromManager_returnsSavedClient() throws Exception {
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(VALID_DATE, VALID_TIME, FALSE_STATUS, null,
+            ALICE.getPhone().value, ALICE.getName().fullName, ALICE.getEmail().value, VALID_SERVICE);
+        assertEquals(new ClientBuilder(ALICE).withTags().build(), appointment.toModelType().getClient());
+    }
+
+    @Test
+    public void toModelType_clientRenamedSinceSave_returnsSavedClient() throws Exception {
+        ReferenceResolver savedReferences = new ReferenceResolver(getClientManagerOf(ALICE));
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE,
+            savedReferences);
+
+        Client renamedAlice = new ClientBuilder(ALICE).withName("Alice Tan").build();
+        Appointment modelAppointment = appointment.toModelType(
+            new ReferenceResolver(getClientManagerOf(renamedAlice)));
+        assertEquals(new ClientBuilder(ALICE).withTags().build(), modelAppointment.getClient());
+    }
+
+    @Test
+    public void toModelType_invalidClientReference_throwsIllegalValueException() {
+        JsonAdaptedAppointment appointment = new JsonAdaptedAppointment(VALID_DATE, VALID_TIME, FALSE_STATUS, null,
+            ALICE.getPhone().value, null, ALICE.getEmail().value, VALID_SERVICE);
+        String expectedMessage = String.format(JsonAdaptedClient.MISSING_FIELD_MESSAGE_FORMAT,
+            Name.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, appointment::toModelType);
+    }
+
+    private static ClientManager getClientManagerOf(Client client) {
+        ClientManager clientManager = new ClientManager();
+        clientManager.addClient(client);
+        return clientManager;
+    }
 }
@@ -2,11 +2,16 @@ package seedu.homerce.storage.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.testutil.Assert.assertThrows;
 import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_25_2020_2PM_HAIR_TREATMENT_ALICE;
 import static seedu.homerce.testutil.appointment.TypicalAppointments.getTypicalAppointmentManager;
+import static seedu.homerce.testutil.client.TypicalClients.getTypicalClientManager;
+import static seedu.homerce.testutil.service.TypicalServices.getTypicalServiceManager;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -15,8 +20,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.model.appointment.Appointment;
 import seedu.homerce.model.manager.AppointmentManager;
+import seedu.homerce.model.manager.ClientManager;
 import seedu.homerce.model.manager.ReadOnlyAppointmentManager;
+import seedu.homerce.model.manager.ServiceManager;
 import seedu.homerce.testutil.appointment.AppointmentBuilder;
 
 public class JsonAppointmentStorageTest {
@@ -35,7 +43,7 @@ public class JsonAppointmentStorageTest {
 
     private Optional<ReadOnlyAppointmentManager> readAppointmentManager(String filePath) throws Exception {
         return new JsonAppointmentStorage(Paths.get(filePath))
-            .readAppointmentManager(addToTestDataPathIfNotNull(filePath));
+            .readAppointmentManager(addToTestDataPathIfNotNull(filePath), new ClientManager(), new ServiceManager());
     }
 
     private Path addToTestDataPathIfNotNull(String prefsFileInTestDataFolder) {
@@ -71,27 +79,64 @@ public class JsonAppointmentStorageTest {
     public void readAndSaveAppointmentManager_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAppointmentManager.json");
         AppointmentManager original = getTypicalAppointmentManager();
+        ClientManager clientManager = getTypicalClientManager();
+        ServiceManager serviceManager = getTypicalServiceManager();
         JsonAppointmentStorage jsonAppointmentStorage = new JsonAppointmentStorage(filePath);
 
         // Save in new file and read back
-        jsonAppointmentStorage.saveAppointmentManager(original, filePath);
-        ReadOnlyAppointmentManager readBack = jsonAppointmentStorage.readAppointmentManager(filePath).get();
+        jsonAppointmentStorage.saveAppointmentManager(original, clientManager, filePath);
+        ReadOnlyAppointmentManager readBack =
+            jsonAppointmentStorage.readAppointmentManager(filePath, clientManager, serviceManager).get();
         assertEquals(original, new AppointmentManager(readBack));
 
         // Modify data, overwrite exiting file, and read back
         original.addAppointment(new AppointmentBuilder().withDate("1-1-2021").build());
         original.removeAppointment(OCT_25_2020_2PM_HAIR_TREATMENT_ALICE);
-        jsonAppointmentStorage.saveAppointmentManager(original, filePath);
-        readBack = jsonAppointmentStorage.readAppointmentManager(filePath).get();
+        jsonAppointmentStorage.saveAppointmentManager(original, clientManager, filePath);
+        readBack = jsonAppointmentStorage.readAppointmentManager(filePath, clientManager, serviceManager).get();
         assertEquals(original, new AppointmentManager(readBack));
 
         // Save and read without specifying file path
         original.addAppointment(new AppointmentBuilder().withDate("2-2-2021").build());
-        jsonAppointmentStorage.saveAppointmentManager(original); // file path not specified
-        readBack = jsonAppointmentStorage.readAppointmentManager().get(); // file path not specified
+        // file path not specified
+        jsonAppointmentStorage.saveAppointmentManager(original, clientManager);
+        // file path not specified
+        readBack = jsonAppointmentStorage.readAppointmentManager(clientManager, serviceManager).get();
         assertEquals(original, new AppointmentManager(readBack));
     }
 
+    @Test
+    public void saveAppointmentManager_withReferences_smallerAndShared() throws Exception {
+        Path fullFilePath = testFolder.resolve("FullAppointmentManager.json");
+        Path referencedFilePath = testFolder.resolve("ReferencedAppointmentManager.json");
+        AppointmentManager original = getTypicalAppointmentManager();
+        ClientManager clientManager = new ClientManager();
+        ServiceManager serviceManager = new ServiceManager();
+        for (Appointment appointment : original.getAppointmentList()) {
+            if (!clientManager.hasClient(appointment.getClient())) {
+                clientManager.addClient(appointment.getClient());
+            }
+            if (!serviceManager.hasService(appointment.getService())) {
+                serviceManager.addService(appointment.getService());
+            }
+        }
+
+        JsonAppointmentStorage storage = new JsonAppointmentStorage(referencedFilePath);
+        storage.saveAppointmentManager(original, new ClientManager(), fullFilePath);
+        storage.saveAppointmentManager(original, clientManager, referencedFilePath);
+        assertTrue(Files.size(referencedFilePath) < Files.size(fullFilePath));
+
+        // Files saved in full still load, sharing the clients of the client manager
+        for (Path filePath : new Path[] {fullFilePath, referencedFilePath}) {
+            ReadOnlyAppointmentManager readBack =
+                storage.readAppointmentManager(filePath, clientManager, serviceManager).get();
+            assertEquals(original, new AppointmentManager(readBack));
+            Appointment appointment = readBack.getAppointmentList().get(0);
+            assertSame(clientManager.getClientList().stream()
+                .filter(appointment.getClient()::equals).findFirst().get(), appointment.getClient());
+        }
+    }
+
     @Test
     public void saveAppointmentManager_nullAppointmentManager_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAppointmentManager(null, "SomeFile.json"));
@@ -103,7 +148,7 @@ public class JsonAppointmentStorageTest {
     private void saveAppointmentManager(ReadOnlyAppointmentManager appointmentManager, String filePath) {
         try {
             new JsonAppointmentStorage(Paths.get(filePath))
-                .saveAppointmentManager(appointmentManager, addToTestDataPathIfNotNull(filePath));
+                .saveAppointmentManager(appointmentManager, new ClientManager(), addToTestDataPathIfNotNull(filePath));
         } catch (IOException ioe) {
             throw new AssertionError("There should not be an error writing to the file.", ioe);
         }
@@ -0,0 +1,95 @@
+package seedu.homerce.storage.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.homerce.testutil.Assert.assertThrows;
+import static seedu.homerce.testutil.client.TypicalClients.getTypicalClients;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.commons.exceptions.DataConversionException;
+import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.model.client.Client;
+
+public class BinaryFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_extensionReplaced() {
+        assertEquals(Paths.get("data", "clients.bin"), BinaryFile.getBinaryFilePath(Paths.get("data", "clients.json")));
+        assertEquals(Paths.get("clients.bin"), BinaryFile.getBinaryFilePath(Paths.get("clients")));
+    }
+
+    @Test
+    public void read_missingFile_returnsFalse() throws Exception {
+        assertFalse(BinaryFile.read(testFolder.resolve("missing.bin"), BinaryModelCodec.CLIENT_CONTENT_TYPE,
+            BinaryModelCodec::readClient, client -> {}));
+    }
+
+    @Test
+    public void read_writtenClients_sameClientsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("clients.bin");
+        List<Client> clients = getTypicalClients();
+        BinaryFile.write(filePath, BinaryModelCodec.CLIENT_CONTENT_TYPE, clients, BinaryModelCodec::writeClient);
+
+        List<Client> readBack = new ArrayList<>();
+        assertTrue(BinaryFile.read(filePath, BinaryModelCodec.CLIENT_CONTENT_TYPE, BinaryModelCodec::readClient,
+            readBack::add));
+        assertEquals(clients, readBack);
+    }
+
+    @Test
+    public void read_differentContentType_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("clients.bin");
+        BinaryFile.write(filePath, BinaryModelCodec.CLIENT_CONTENT_TYPE, getTypicalClients(),
+            BinaryModelCodec::writeClient);
+
+        assertThrows(DataConversionException.class, () -> BinaryFile.read(filePath,
+            BinaryModelCodec.SERVICE_CONTENT_TYPE, BinaryModelCodec::readService, service -> {}));
+    }
+
+    @Test
+    public void read_notBinaryFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("clients.bin");
+        Files.write(filePath, "{ \"clients\": [] }".getBytes());
+
+        assertThrows(DataConversionException.class, () -> BinaryFile.read(filePath,
+            BinaryModelCodec.CLIENT_CONTENT_TYPE, BinaryModelCodec::readClient, client -> {}));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("clients.bin");
+        BinaryFile.write(filePath, BinaryModelCodec.CLIENT_CONTENT_TYPE, getTypicalClients(),
+            BinaryModelCodec::writeClient);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> BinaryFile.read(filePath,
+            BinaryModelCodec.CLIENT_CONTENT_TYPE, BinaryModelCodec::readClient, client -> {}));
+    }
+
+    @Test
+    public void read_invalidValueInRecord_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("clients.bin");
+        BinaryFile.write(filePath, BinaryModelCodec.CLIENT_CONTENT_TYPE, List.of("not a phone"),
+            (name, writer) -> {
+                writer.writeString(name);
+                writer.writeString(name);
+            });
+
+        assertThrows(IllegalValueException.class, () -> BinaryFile.read(filePath,
+            BinaryModelCodec.CLIENT_CONTENT_TYPE, BinaryModelCodec::readClient, client -> {}));
+    }
+}
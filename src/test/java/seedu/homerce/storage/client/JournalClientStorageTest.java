@@ -0,0 +1,40 @@
+package seedu.homerce.storage.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.client.TypicalClients.ALICE;
+import static seedu.homerce.testutil.client.TypicalClients.HOON;
+import static seedu.homerce.testutil.client.TypicalClients.IDA;
+import static seedu.homerce.testutil.client.TypicalClients.getTypicalClientManager;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.model.manager.ClientManager;
+
+public class JournalClientStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readClientManager_journalReplayed_sameAsSaved() throws Exception {
+        Path filePath = testFolder.resolve("clients.json");
+        JournalClientStorage storage = new JournalClientStorage(new JsonClientStorage(filePath));
+        ClientManager original = getTypicalClientManager();
+
+        storage.saveClientManager(original);
+        original.addClient(HOON);
+        original.setClient(HOON, IDA);
+        original.removeClient(ALICE);
+        storage.saveClientManager(original);
+        original.setClients(List.of(IDA, ALICE));
+        storage.saveClientManager(original);
+
+        ClientManager readBack = (ClientManager) new JournalClientStorage(new JsonClientStorage(filePath))
+                .readClientManager().get();
+        assertEquals(original, readBack);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.homerce.storage.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.expense.TypicalExpenses.AIRCON;
+import static seedu.homerce.testutil.expense.TypicalExpenses.CHAIR;
+import static seedu.homerce.testutil.expense.TypicalExpenses.getTypicalExpenseTracker;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.model.expense.Expense;
+import seedu.homerce.model.manager.ExpenseTracker;
+import seedu.homerce.testutil.expense.ExpenseBuilder;
+
+public class JournalExpenseStorageTest {
+    private static final Expense SHAMPOO = new ExpenseBuilder().withDescription("Shampoo").build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readExpenseTracker_journalReplayed_sameAsSaved() throws Exception {
+        Path filePath = testFolder.resolve("expenses.json");
+        JournalExpenseStorage storage = new JournalExpenseStorage(new JsonExpenseStorage(filePath));
+        ExpenseTracker original = getTypicalExpenseTracker();
+
+        storage.saveExpenseTracker(original);
+        original.addExpense(SHAMPOO);
+        original.setExpense(AIRCON, CHAIR);
+        original.removeExpense(SHAMPOO);
+        storage.saveExpenseTracker(original);
+        original.setExpenses(List.of(SHAMPOO, CHAIR));
+        storage.saveExpenseTracker(original);
+
+        ExpenseTracker readBack = (ExpenseTracker) new JournalExpenseStorage(new JsonExpenseStorage(filePath))
+                .readExpenseTracker().get();
+        assertEquals(original, readBack);
+    }
+}
@@ -22,7 +22,7 @@ public class JsonAdaptedExpenseTest {
 
     private static final String VALID_DESC = CONDITIONER.getDescription().value;
     private static final String VALID_ISFIXED = CONDITIONER.getIsFixed().value ? "y" : "n";
-    private static final Double VALID_AMOUNT = CONDITIONER.getValue().value.doubleValue();
+    private static final Double VALID_AMOUNT = CONDITIONER.getValue().toDouble();
     private static final String VALID_DATE = CONDITIONER.getDate().toString();
     private static final JsonAdaptedTag VALID_TAG = new JsonAdaptedTag(CONDITIONER.getTag().tagName);
 
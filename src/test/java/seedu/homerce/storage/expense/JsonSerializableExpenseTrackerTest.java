@@ -54,7 +54,7 @@ public class JsonSerializableExpenseTrackerTest {
         Expense recurringExpense = new ExpenseBuilder().withIsFixed("y").build();
         Expense duplicateExpense = new Expense(new Description(recurringExpense.getDescription().value),
                 new IsFixed("y"),
-                new Amount(recurringExpense.getValue().value.doubleValue()),
+                new Amount(recurringExpense.getValue().toDouble()),
                 new Date(recurringExpense.getDate().getLocalDate().plusMonths(1).format(formatter)),
                 new Tag(recurringExpense.getTag().tagName));
         assertEquals(dataFromFile.createDuplicateExpense(recurringExpense,
@@ -0,0 +1,203 @@
+package seedu.homerce.storage.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.service.TypicalServices.EYE_WASH;
+import static seedu.homerce.testutil.service.TypicalServices.HAIR_TREATMENT;
+import static seedu.homerce.testutil.service.TypicalServices.LASH_LIFT;
+import static seedu.homerce.testutil.service.TypicalServices.MANICURE;
+import static seedu.homerce.testutil.service.TypicalServices.TOE_MASSAGE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.homerce.commons.util.FileUtil;
+import seedu.homerce.model.service.Service;
+import seedu.homerce.storage.service.JsonAdaptedService;
+import seedu.homerce.testutil.service.ServiceBuilder;
+
+public class JournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path snapshotFilePath;
+    private Path journalFilePath;
+    private List<Service> snapshot = new ArrayList<>();
+    private List<Service> replayed;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotFilePath = testFolder.resolve("services.json");
+        journalFilePath = Journal.getJournalFilePath(snapshotFilePath);
+    }
+
+    @Test
+    public void save_trackedList_onlyJournalAppended() throws Exception {
+        Journal<Service, JsonAdaptedService> journal = createJournal();
+        ObservableList<Service> services = FXCollections.observableArrayList(LASH_LIFT, HAIR_TREATMENT);
+        journal.save(services, snapshotOf(services));
+        String savedSnapshot = FileUtil.readFromFile(snapshotFilePath);
+
+        services.add(MANICURE);
+        services.remove(LASH_LIFT);
+        journal.save(services, snapshotOf(services));
+        services.set(0, TOE_MASSAGE);
+        journal.save(services, snapshotOf(services));
+
+        assertEquals(savedSnapshot, FileUtil.readFromFile(snapshotFilePath));
+        List<String> lines = Files.readAllLines(journalFilePath);
+        assertEquals(4, lines.size());
+        assertEquals("ADD", getOperation(lines.get(1)));
+        assertEquals("REMOVE", getOperation(lines.get(2)));
+        assertEquals("SET", getOperation(lines.get(3)));
+    }
+
+    @Test
+    public void save_untrackedList_snapshotWrittenAndJournalCleared() throws Exception {
+        Journal<Service, JsonAdaptedService> journal = createJournal();
+        ObservableList<Service> services = FXCollections.observableArrayList(LASH_LIFT);
+        journal.save(services, snapshotOf(services));
+        services.add(MANICURE);
+        journal.save(services, snapshotOf(services));
+
+        ObservableList<Service> otherServices = FXCollections.observableArrayList(EYE_WASH);
+        journal.save(otherServices, snapshotOf(otherServices));
+        services.add(TOE_MASSAGE);
+        journal.save(otherServices, snapshotOf(otherServices));
+
+        assertEquals(List.of(EYE_WASH), snapshot);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void save_compactionThresholdReached_snapshotWrittenAndJournalCleared() throws Exception {
+        Journal<Service, JsonAdaptedService> journal = createJournal();
+        ObservableList<Service> services = FXCollections.observableArrayList();
+        journal.save(services, snapshotOf(services));
+
+        for (int i = 0; i < Journal.COMPACTION_THRESHOLD - 1; i++) {
+            services.add(LASH_LIFT);
+            journal.save(services, snapshotOf(services));
+        }
+        assertEquals(List.of(), snapshot);
+        assertEquals(Journal.COMPACTION_THRESHOLD, Files.readAllLines(journalFilePath).size());
+
+        services.add(LASH_LIFT);
+        journal.save(services, snapshotOf(services));
+        assertEquals(services, snapshot);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void replay_recordedChanges_sameAsSaved() throws Exception {
+        Journal<Service, JsonAdaptedService> journal = createJournal();
+        ObservableList<Service> services = FXCollections.observableArrayList(LASH_LIFT, HAIR_TREATMENT);
+        journal.save(services, snapshotOf(services));
+
+        services.add(MANICURE);
+        services.set(0, TOE_MASSAGE);
+        services.remove(HAIR_TREATMENT);
+        services.setAll(EYE_WASH, MANICURE);
+        services.add(LASH_LIFT);
+        journal.save(services, snapshotOf(services));
+
+        assertEquals(5, replayOntoSnapshot(createJournal()));
+        assertEquals(services, replayed);
+    }
+
+    @Test
+    public void replay_partiallyWrittenRecord_replayStopped() throws Exception {
+        Journal<Service, JsonAdaptedService> journal = createJournal();
+        ObservableList<Service> services = FXCollections.observableArrayList(LASH_LIFT);
+        journal.save(services, snapshotOf(services));
+        services.add(MANICURE);
+        journal.save(services, snapshotOf(services));
+        FileUtil.appendLinesToFile(journalFilePath, List.of("ADD [{\"title\":\"Toe", "ADD []"));
+
+        assertEquals(1, replayOntoSnapshot(createJournal()));
+        assertEquals(services, replayed);
+    }
+
+    @Test
+    public void replay_recordNoLongerApplicable_recordSkipped() throws Exception {
+        Journal<Service, JsonAdaptedService> journal = createJournal();
+        ObservableList<Service> services = FXCollections.observableArrayList(LASH_LIFT, HAIR_TREATMENT);
+        journal.save(services, snapshotOf(services));
+        services.set(0, MANICURE);
+        services.add(TOE_MASSAGE);
+        journal.save(services, snapshotOf(services));
+
+        Service unknownService = new ServiceBuilder().withTitle("Unknown").withServiceCode("SC009").build();
+        snapshot = List.of(unknownService);
+        assertEquals(1, replayOntoSnapshot(createJournal()));
+        assertEquals(List.of(unknownService, TOE_MASSAGE), replayed);
+    }
+
+    @Test
+    public void replay_journalOfOlderSnapshot_journalDiscarded() throws Exception {
+        Journal<Service, JsonAdaptedService> journal = createJournal();
+        ObservableList<Service> services = FXCollections.observableArrayList(LASH_LIFT);
+        journal.save(services, snapshotOf(services));
+        services.add(MANICURE);
+        journal.save(services, snapshotOf(services));
+        List<String> olderJournal = Files.readAllLines(journalFilePath);
+
+        // Compacts into a new snapshot, then puts back the journal the compaction would have cleared.
+        createJournal().save(services, snapshotOf(services));
+        Files.write(journalFilePath, olderJournal);
+
+        assertEquals(0, replayOntoSnapshot(createJournal()));
+        assertEquals(services, replayed);
+    }
+
+    @Test
+    public void replay_noJournal_nothingReplayed() throws Exception {
+        assertEquals(0, replayOntoSnapshot(createJournal()));
+    }
+
+    private Journal<Service, JsonAdaptedService> createJournal() {
+        return new Journal<>(snapshotFilePath, JsonAdaptedService::new, JsonAdaptedService[].class,
+                JsonAdaptedService::toModelType);
+    }
+
+    /**
+     * Returns a snapshot writer that writes {@code services} to the snapshot file and keeps them as the last
+     * written snapshot.
+     */
+    private Journal.SnapshotWriter snapshotOf(List<Service> services) {
+        return filePath -> {
+            snapshot = new ArrayList<>(services);
+            FileUtil.writeToFile(filePath, snapshot.toString());
+        };
+    }
+
+    /**
+     * Replays {@code journal} onto a copy of the last written snapshot, which is kept in {@code replayed}.
+     */
+    private int replayOntoSnapshot(Journal<Service, JsonAdaptedService> journal) throws IOException {
+        replayed = new ArrayList<>(snapshot);
+        return journal.replay(replayed::add, replayed::remove, (target, editedService) -> {
+            int index = replayed.indexOf(target);
+            if (index < 0) {
+                throw new IllegalArgumentException("No such service: " + target);
+            }
+            replayed.set(index, editedService);
+        }, services -> {
+            replayed.clear();
+            replayed.addAll(services);
+        });
+    }
+
+    private static String getOperation(String record) {
+        return record.substring(0, record.indexOf(' '));
+    }
+}
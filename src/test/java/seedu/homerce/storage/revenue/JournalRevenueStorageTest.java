@@ -0,0 +1,64 @@
+package seedu.homerce.storage.revenue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.revenue.TypicalRevenues.HAIR_TREATMENT;
+import static seedu.homerce.testutil.revenue.TypicalRevenues.LASH_LIFT;
+import static seedu.homerce.testutil.revenue.TypicalRevenues.MANICURE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.model.manager.RevenueTracker;
+import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.storage.journal.Journal;
+
+public class JournalRevenueStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readRevenueTracker_journalReplayed_sameAsSaved() throws Exception {
+        Path filePath = testFolder.resolve("revenues.json");
+        JournalRevenueStorage storage = new JournalRevenueStorage(new JsonRevenueStorage(filePath));
+        RevenueTracker original = new RevenueTracker();
+        original.addRevenue(LASH_LIFT);
+
+        storage.saveRevenueTracker(original);
+        original.addRevenue(HAIR_TREATMENT);
+        original.addRevenue(HAIR_TREATMENT);
+        original.removeRevenue(LASH_LIFT);
+        storage.saveRevenueTracker(original);
+        original.setRevenues(List.of(MANICURE, HAIR_TREATMENT));
+        storage.saveRevenueTracker(original);
+
+        RevenueTracker readBack = (RevenueTracker) new JournalRevenueStorage(new JsonRevenueStorage(filePath))
+                .readRevenueTracker(new ServiceManager()).get();
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void readRevenueTracker_restartBetweenSnapshotAndJournalClear_staleJournalDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("revenues.json");
+        Path journalFilePath = Journal.getJournalFilePath(filePath);
+        RevenueTracker original = new RevenueTracker();
+        original.addRevenue(LASH_LIFT);
+        JournalRevenueStorage storage = new JournalRevenueStorage(new JsonRevenueStorage(filePath));
+        storage.saveRevenueTracker(original);
+        original.addRevenue(HAIR_TREATMENT);
+        storage.saveRevenueTracker(original);
+        List<String> staleJournal = Files.readAllLines(journalFilePath);
+
+        // Compacts into a new snapshot, then puts back the journal the compaction would have cleared.
+        new JournalRevenueStorage(new JsonRevenueStorage(filePath)).saveRevenueTracker(original);
+        Files.write(journalFilePath, staleJournal);
+
+        RevenueTracker readBack = (RevenueTracker) new JournalRevenueStorage(new JsonRevenueStorage(filePath))
+                .readRevenueTracker(new ServiceManager()).get();
+        assertEquals(original, readBack);
+    }
+}
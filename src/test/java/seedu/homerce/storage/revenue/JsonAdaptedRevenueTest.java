@@ -1,21 +1,26 @@
 package seedu.homerce.storage.revenue;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.homerce.model.util.attributes.Date.MESSAGE_CONSTRAINTS;
 import static seedu.homerce.storage.revenue.JsonAdaptedRevenue.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.homerce.testutil.Assert.assertThrows;
 import static seedu.homerce.testutil.revenue.TypicalRevenues.LASH_LIFT;
 
-import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.homerce.commons.exceptions.IllegalValueException;
+import seedu.homerce.commons.util.JsonUtil;
+import seedu.homerce.model.manager.ServiceManager;
+import seedu.homerce.model.revenue.Revenue;
 import seedu.homerce.model.service.Duration;
 import seedu.homerce.model.service.Service;
 import seedu.homerce.model.service.ServiceCode;
 import seedu.homerce.model.util.attributes.Amount;
 import seedu.homerce.model.util.attributes.Date;
 import seedu.homerce.model.util.attributes.Title;
+import seedu.homerce.storage.ReferenceResolver;
 
 public class JsonAdaptedRevenueTest {
 
@@ -28,7 +33,7 @@ public class JsonAdaptedRevenueTest {
 
     private static final Service VALID_SERVICE = LASH_LIFT.getService();
     private static final String VALID_TITLE = LASH_LIFT.getService().getTitle().toString();
-    private static final Double VALID_PRICE = LASH_LIFT.getService().getAmount().value.doubleValue();
+    private static final Double VALID_PRICE = LASH_LIFT.getService().getAmount().toDouble();
     private static final Double VALID_DURATION = LASH_LIFT.getService().getDuration().value;
     private static final String VALID_SERVICECODE = LASH_LIFT.getService().getServiceCode().toString();
     private static final String VALID_DATE = LASH_LIFT.getDate().toString();
@@ -65,11 +70,23 @@ public class JsonAdaptedRevenueTest {
 
     @Test
     public void toModelType_nullPrice_throwsIllegalValueException() {
-        Exception exception = Assertions.assertThrows(NullPointerException.class, () -> {
-            new JsonAdaptedRevenue(VALID_TITLE, null, VALID_DURATION, VALID_SERVICECODE,
-                VALID_DATE);
-        });
-        assertEquals(new NullPointerException().toString(), exception.toString());
+        JsonAdaptedRevenue revenue = new JsonAdaptedRevenue(VALID_TITLE, null, VALID_DURATION, VALID_SERVICECODE,
+            VALID_DATE);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Amount.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, revenue::toModelType);
+    }
+
+    @Test
+    public void toModelType_managedService_returnsSharedService() throws Exception {
+        ServiceManager serviceManager = new ServiceManager();
+        serviceManager.addService(VALID_SERVICE);
+        ReferenceResolver references = new ReferenceResolver(serviceManager);
+
+        JsonAdaptedRevenue revenue = new JsonAdaptedRevenue(LASH_LIFT);
+        assertTrue(JsonUtil.toJsonString(revenue).contains(VALID_TITLE));
+        Revenue modelRevenue = revenue.toModelType(references);
+        assertEquals(LASH_LIFT, modelRevenue);
+        assertSame(VALID_SERVICE, modelRevenue.getService());
     }
 
     @Test
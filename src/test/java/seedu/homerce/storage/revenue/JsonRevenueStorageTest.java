@@ -7,6 +7,7 @@ import static seedu.homerce.testutil.revenue.TypicalRevenues.HAIR_TREATMENT;
 import static seedu.homerce.testutil.revenue.TypicalRevenues.LASH_LIFT;
 import static seedu.homerce.testutil.revenue.TypicalRevenues.MANICURE;
 import static seedu.homerce.testutil.revenue.TypicalRevenues.getTypicalRevenueTracker;
+import static seedu.homerce.testutil.service.TypicalServices.getTypicalServiceManager;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.homerce.commons.exceptions.DataConversionException;
 import seedu.homerce.model.manager.ReadOnlyRevenueTracker;
 import seedu.homerce.model.manager.RevenueTracker;
+import seedu.homerce.model.manager.ServiceManager;
 
 public class JsonRevenueStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "Revenue", "JsonRevenueStorageTest");
@@ -31,7 +33,8 @@ public class JsonRevenueStorageTest {
     }
 
     private java.util.Optional<ReadOnlyRevenueTracker> readRevenueTracker(String filePath) throws Exception {
-        return new JsonRevenueStorage(Paths.get(filePath)).readRevenueTracker(addToTestDataPathIfNotNull(filePath));
+        return new JsonRevenueStorage(Paths.get(filePath)).readRevenueTracker(addToTestDataPathIfNotNull(filePath),
+            new ServiceManager());
     }
 
     private Path addToTestDataPathIfNotNull(String prefsFileInTestDataFolder) {
@@ -64,24 +67,25 @@ public class JsonRevenueStorageTest {
     public void readAndSaveRevenueTracker_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempRevenue.json");
         RevenueTracker original = getTypicalRevenueTracker();
+        ServiceManager serviceManager = getTypicalServiceManager();
         JsonRevenueStorage jsonRevenueStorage = new JsonRevenueStorage(filePath);
 
         // Save in new file and read back
         jsonRevenueStorage.saveRevenueTracker(original, filePath);
-        ReadOnlyRevenueTracker readBack = jsonRevenueStorage.readRevenueTracker(filePath).get();
+        ReadOnlyRevenueTracker readBack = jsonRevenueStorage.readRevenueTracker(filePath, serviceManager).get();
         assertEquals(original, new RevenueTracker(readBack));
 
         // Modify data, overwrite exiting file, and read back
         original.addRevenue(LASH_LIFT);
         original.removeRevenue(HAIR_TREATMENT);
         jsonRevenueStorage.saveRevenueTracker(original, filePath);
-        readBack = jsonRevenueStorage.readRevenueTracker(filePath).get();
+        readBack = jsonRevenueStorage.readRevenueTracker(filePath, serviceManager).get();
         assertEquals(original, new RevenueTracker(readBack));
 
         // Save and read without specifying file path
         original.addRevenue(MANICURE);
         jsonRevenueStorage.saveRevenueTracker(original); // file path not specified
-        readBack = jsonRevenueStorage.readRevenueTracker().get(); // file path not specified
+        readBack = jsonRevenueStorage.readRevenueTracker(serviceManager).get(); // file path not specified
         assertEquals(original, new RevenueTracker(readBack));
     }
 
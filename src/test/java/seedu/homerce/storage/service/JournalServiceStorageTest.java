@@ -0,0 +1,40 @@
+package seedu.homerce.storage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.service.TypicalServices.EYE_WASH;
+import static seedu.homerce.testutil.service.TypicalServices.LASH_LIFT;
+import static seedu.homerce.testutil.service.TypicalServices.TOE_MASSAGE;
+import static seedu.homerce.testutil.service.TypicalServices.getTypicalServiceManager;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.homerce.model.manager.ServiceManager;
+
+public class JournalServiceStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readServiceManager_journalReplayed_sameAsSaved() throws Exception {
+        Path filePath = testFolder.resolve("services.json");
+        JournalServiceStorage storage = new JournalServiceStorage(new JsonServiceStorage(filePath));
+        ServiceManager original = getTypicalServiceManager();
+
+        storage.saveServiceManager(original);
+        original.addService(TOE_MASSAGE);
+        original.setService(TOE_MASSAGE, EYE_WASH);
+        original.removeService(LASH_LIFT);
+        storage.saveServiceManager(original);
+        original.setServices(List.of(TOE_MASSAGE, LASH_LIFT));
+        storage.saveServiceManager(original);
+
+        ServiceManager readBack = (ServiceManager) new JournalServiceStorage(new JsonServiceStorage(filePath))
+                .readServiceManager().get();
+        assertEquals(original, readBack);
+    }
+}
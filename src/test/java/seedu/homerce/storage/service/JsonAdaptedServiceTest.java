@@ -17,7 +17,7 @@ public class JsonAdaptedServiceTest {
     private static final String INVALID_TITLE = "@pple Massage";
     private static final Double INVALID_DURATION = 2.2;
     private static final Double INVALID_AMOUNT = -5.5;
-    private static final String INVALID_SERVICE_CODE = "SC1234";
+    private static final String INVALID_SERVICE_CODE = "SC01234";
 
     private static final String VALID_TITLE = LASH_LIFT.getTitle().toString();
     private static final Double VALID_DURATION = LASH_LIFT.getDuration().value;
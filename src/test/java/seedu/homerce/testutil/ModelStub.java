@@ -1,7 +1,7 @@
 package seedu.homerce.testutil;
 
 import java.nio.file.Path;
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -10,6 +10,8 @@ import seedu.homerce.commons.core.GuiSettings;
 import seedu.homerce.model.Model;
 import seedu.homerce.model.ReadOnlyUserPrefs;
 import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.ScheduleWeek;
+import seedu.homerce.model.appointment.WeekOverview;
 import seedu.homerce.model.client.Client;
 import seedu.homerce.model.client.Phone;
 import seedu.homerce.model.expense.Expense;
@@ -225,6 +227,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public String generateNewServiceCode() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Service getServiceByServiceCode(ServiceCode serviceCode) {
         throw new AssertionError("This method should not be called.");
@@ -271,47 +278,42 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void setAppointmentManager(ReadOnlyAppointmentManager appointmentManager) {
-        throw new AssertionError("This method should not be called.");
-    }
-
-    @Override
-    public ObservableList<Appointment> getFilteredSchedule() {
+    public boolean hasAppointmentExcluding(Appointment appointment, Appointment excludedAppointment) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void nextSchedulePage() {
+    public long getOccupiedSlots(LocalDate date) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void previousSchedulePage() {
+    public boolean hasAppointmentOnOrAfter(Client client, LocalDate date) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void refreshSchedule() {
+    public void setAppointmentManager(ReadOnlyAppointmentManager appointmentManager) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void updateFilteredSchedule(Predicate<Appointment> predicate) {
+    public WeekOverview getCurrentWeekOverview() {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void setAppointmentManagerCalendar(Calendar calendar) {
+    public void nextSchedulePage() {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void replaceModel(Model previousModel) {
+    public void previousSchedulePage() {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public Model deepCopy() {
+    public void setAppointmentManagerWeek(ScheduleWeek week) {
         throw new AssertionError("This method should not be called.");
     }
 }
@@ -0,0 +1,90 @@
+package seedu.homerce.ui.schedulepanel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.homerce.testutil.Assert.assertThrows;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_26_2020_11AM_MANICURE_CARL;
+import static seedu.homerce.testutil.appointment.TypicalAppointments.OCT_27_2020_12PM_LASH_LIFT_BENSON;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.homerce.model.appointment.Appointment;
+import seedu.homerce.model.appointment.ScheduleWeek;
+import seedu.homerce.model.appointment.WeekOverview;
+import seedu.homerce.testutil.appointment.AppointmentBuilder;
+
+public class ScheduleLayoutTest {
+    private static final ScheduleWeek WEEK_OF_OCT_26_2020 = ScheduleWeek.of(LocalDate.of(2020, 10, 26));
+    private static final Appointment OCT_26_2020_3PM_MANICURE_CARL = new AppointmentBuilder(
+            OCT_26_2020_11AM_MANICURE_CARL).withTimeOfDay("1500").build();
+
+    private final WeekOverview weekOverview = WeekOverview.of(WEEK_OF_OCT_26_2020, Arrays.asList(
+            OCT_26_2020_11AM_MANICURE_CARL, OCT_26_2020_3PM_MANICURE_CARL, OCT_27_2020_12PM_LASH_LIFT_BENSON));
+    private final ScheduleLayout layout = new ScheduleLayout(weekOverview);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScheduleLayout(null));
+    }
+
+    @Test
+    public void getCells_appointmentsOfWeek_placedInRowOfTheirDay() {
+        assertEquals(LocalDate.of(2020, 10, 26), layout.getDate(0));
+        assertEquals(LocalDate.of(2020, 11, 1), layout.getDate(ScheduleLayout.DAYS_PER_WEEK - 1));
+        assertEquals(2, layout.getCells(0).size());
+        assertEquals(1, layout.getCells(1).size());
+        assertEquals(Collections.emptyList(), layout.getCells(2));
+
+        ScheduleLayout.Cell firstCell = layout.getCells(0).get(0);
+        assertEquals(OCT_26_2020_11AM_MANICURE_CARL, firstCell.getAppointment());
+        assertEquals(ScheduleLayout.DATE_COLUMN_WIDTH, firstCell.getX());
+        assertEquals(ScheduleLayout.CELL_MARGIN, firstCell.getY());
+        assertEquals((OCT_26_2020_11AM_MANICURE_CARL.getEndSlot() - OCT_26_2020_11AM_MANICURE_CARL.getStartSlot())
+                * ScheduleLayout.SLOT_WIDTH, firstCell.getWidth());
+        assertEquals(ScheduleLayout.ROW_HEIGHT + ScheduleLayout.CELL_MARGIN, layout.getCells(1).get(0).getY());
+    }
+
+    @Test
+    public void getWidth_coversLatestEndTime() {
+        int columnCount = weekOverview.getLatestEndSlot() - weekOverview.getEarliestStartSlot();
+        assertEquals(ScheduleLayout.DATE_COLUMN_WIDTH + columnCount * ScheduleLayout.SLOT_WIDTH, layout.getWidth());
+        assertEquals(ScheduleLayout.DAYS_PER_WEEK * ScheduleLayout.ROW_HEIGHT, layout.getHeight());
+    }
+
+    @Test
+    public void getAppointmentAt_pointInCell_returnsAppointment() {
+        for (int row = 0; row < ScheduleLayout.DAYS_PER_WEEK; row++) {
+            for (ScheduleLayout.Cell cell : layout.getCells(row)) {
+                assertEquals(Optional.of(cell.getAppointment()), layout.getAppointmentAt(cell.getX(), cell.getY()));
+                assertEquals(Optional.of(cell.getAppointment()), layout.getAppointmentAt(
+                        cell.getX() + cell.getWidth() - 1, cell.getY() + cell.getHeight() - 1));
+            }
+        }
+    }
+
+    @Test
+    public void getAppointmentAt_pointOutsideCells_returnsEmpty() {
+        List<ScheduleLayout.Cell> cells = layout.getCells(0);
+        ScheduleLayout.Cell firstCell = cells.get(0);
+
+        // date column
+        assertEquals(Optional.empty(), layout.getAppointmentAt(firstCell.getX() - 1, firstCell.getY()));
+        // margin above and below the cell
+        assertEquals(Optional.empty(), layout.getAppointmentAt(firstCell.getX(), firstCell.getY() - 1));
+        assertEquals(Optional.empty(), layout.getAppointmentAt(firstCell.getX(),
+                firstCell.getY() + firstCell.getHeight()));
+        // gap between two appointments
+        assertEquals(Optional.empty(), layout.getAppointmentAt(firstCell.getX() + firstCell.getWidth(),
+                firstCell.getY()));
+        // day without appointments and outside the schedule
+        assertEquals(Optional.empty(), layout.getAppointmentAt(firstCell.getX(),
+                2 * ScheduleLayout.ROW_HEIGHT + ScheduleLayout.CELL_MARGIN));
+        assertEquals(Optional.empty(), layout.getAppointmentAt(firstCell.getX(), -1));
+        assertEquals(Optional.empty(), layout.getAppointmentAt(firstCell.getX(), layout.getHeight()));
+    }
+}